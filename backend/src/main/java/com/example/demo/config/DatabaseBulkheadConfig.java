@@ -0,0 +1,52 @@
+package com.example.demo.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Puts a BulkheadDataSource in front of the connection pool when app.db.bulkhead.enabled is set,
+ * which is meant to go together with virtual threads. The number of slots defaults to the Hikari
+ * pool size, so waiting happens in the bulkhead instead of inside the pool.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.db.bulkhead.enabled", havingValue = "true")
+public class DatabaseBulkheadConfig {
+
+    @Bean
+    public static BeanPostProcessor databaseBulkheadPostProcessor(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof BulkheadDataSource)) {
+                    int poolSize = environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, 10);
+                    return new BulkheadDataSource(dataSource,
+                            environment.getProperty("app.db.bulkhead.max-concurrent", Integer.class, poolSize),
+                            environment.getProperty("app.db.bulkhead.acquire-timeout-ms", Long.class, 5000L));
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder databaseBulkheadMetrics(DataSource dataSource) {
+        return registry -> {
+            if (dataSource instanceof BulkheadDataSource bulkhead) {
+                Gauge.builder("planner.db.bulkhead.available", bulkhead, BulkheadDataSource::availablePermits)
+                        .description("Free connection slots in the database bulkhead")
+                        .register(registry);
+                Gauge.builder("planner.db.bulkhead.waiting", bulkhead, BulkheadDataSource::waitingThreads)
+                        .description("Threads queued for a database connection slot")
+                        .register(registry);
+            }
+        };
+    }
+}
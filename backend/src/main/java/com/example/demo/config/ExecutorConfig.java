@@ -0,0 +1,80 @@
+package com.example.demo.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Dedicated thread pools for background work, kept separate from the request threads.
+ *
+ * With spring.threads.virtual.enabled the pools start virtual threads instead; the pool sizes still
+ * cap how much of each kind of work runs at once.
+ */
+@Configuration
+public class ExecutorConfig {
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    /**
+     * Writes queued board events to SSE subscribers so publishers never block on slow sockets.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor boardEventExecutor(
+            @Value("${app.board-events.delivery-threads:8}") int threads) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(Integer.MAX_VALUE);
+        executor.setThreadNamePrefix("board-events-");
+        executor.setVirtualThreads(virtualThreads);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Sends outbox emails; sized for SMTP round trips rather than CPU.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor emailExecutor(
+            @Value("${app.email.outbox.worker-threads:4}") int threads) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setThreadNamePrefix("email-");
+        executor.setVirtualThreads(virtualThreads);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Runs the dashboard's independent queries side by side, each on its own connection.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor dashboardExecutor(
+            @Value("${app.dashboard.query-threads:8}") int threads) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setThreadNamePrefix("dashboard-");
+        executor.setVirtualThreads(virtualThreads);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Loads the parts of a board bootstrap next to the board stream; each task holds a connection.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor bootstrapExecutor(
+            @Value("${app.board.bootstrap.threads:12}") int threads) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setThreadNamePrefix("bootstrap-");
+        executor.setVirtualThreads(virtualThreads);
+        executor.initialize();
+        return executor;
+    }
+}
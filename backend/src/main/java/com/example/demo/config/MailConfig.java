@@ -0,0 +1,27 @@
+package com.example.demo.config;
+
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.mail.javamail.JavaMailSender;
+
+/**
+ * Keeps Jakarta Mail off the startup path.
+ *
+ * {@code @Lazy} on the injection point only defers the lookup; the auto-configured sender bean is
+ * still created with the context. Marking its definition lazy means it, and Jakarta Mail with it,
+ * is only created when the first email goes out. The mail health indicator would create it again,
+ * so it is turned off (management.health.mail.enabled).
+ */
+@Configuration
+public class MailConfig {
+
+    @Bean
+    public static BeanFactoryPostProcessor lazyMailSender() {
+        return beanFactory -> {
+            for (String name : beanFactory.getBeanNamesForType(JavaMailSender.class, true, false)) {
+                beanFactory.getBeanDefinition(name).setLazyInit(true);
+            }
+        };
+    }
+}
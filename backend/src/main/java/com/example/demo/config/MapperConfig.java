@@ -2,12 +2,13 @@ package com.example.demo.config;
 
 import com.example.demo.mapper.ProjectMapper;
 import com.example.demo.repository.DependencyRepository;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 /**
- * Wires DependencyRepository into ProjectMapper at startup.
+ * Wires DependencyRepository and the meter registry into ProjectMapper at startup.
  * This ensures BoardListDto → TaskDto mappings include dependencies automatically.
  */
 @Component
@@ -15,9 +16,11 @@ import org.springframework.stereotype.Component;
 public class MapperConfig {
 
     private final DependencyRepository dependencyRepo;
+    private final MeterRegistry meterRegistry;
 
     @PostConstruct
     public void init() {
         ProjectMapper.setDependencyRepo(dependencyRepo);
+        ProjectMapper.setMeterRegistry(meterRegistry);
     }
 }
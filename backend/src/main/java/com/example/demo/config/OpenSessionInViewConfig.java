@@ -0,0 +1,35 @@
+package com.example.demo.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Open session in view for everything except long-lived or fan-out requests.
+ *
+ * Boot's own OSIV interceptor is turned off (spring.jpa.open-in-view=false) because it cannot
+ * exclude paths. Mappers still read lazy associations outside service transactions, so the
+ * interceptor stays on for regular endpoints; the excluded ones would otherwise hold a pooled
+ * connection for the whole request, e.g. the 30 minutes an event stream stays open, or while
+ * the dashboard and board bootstrap wait for their queries on other connections.
+ */
+@Configuration
+public class OpenSessionInViewConfig implements WebMvcConfigurer {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public OpenSessionInViewConfig(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        OpenEntityManagerInViewInterceptor interceptor = new OpenEntityManagerInViewInterceptor();
+        interceptor.setEntityManagerFactory(entityManagerFactory);
+        registry.addWebRequestInterceptor(interceptor)
+            .excludePathPatterns("/api/projects/*/events", "/api/dashboard", "/api/projects/*/bootstrap");
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.demo.config;
+
+import java.util.List;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Content negotiation for endpoints that stream their response themselves instead of returning
+ * a body for the message converters to write.
+ */
+@Component
+@RequiredArgsConstructor
+public class ResponseFormats {
+
+    private final MappingJackson2HttpMessageConverter jsonConverter;
+    private final MappingJackson2CborHttpMessageConverter cborConverter;
+    private final MappingJackson2SmileHttpMessageConverter smileConverter;
+
+    /**
+     * First converter, in the client's order of preference, that writes an accepted type; JSON wins ties.
+     */
+    public AbstractJackson2HttpMessageConverter negotiate(String accept) {
+        List<MediaType> accepted = MediaType.parseMediaTypes(accept);
+        MimeTypeUtils.sortBySpecificity(accepted);
+        for (MediaType type : accepted) {
+            for (AbstractJackson2HttpMessageConverter converter : List.of(jsonConverter, cborConverter, smileConverter)) {
+                if (converter.getSupportedMediaTypes().stream().anyMatch(type::includes)) {
+                    return converter;
+                }
+            }
+        }
+        return jsonConverter;
+    }
+}
@@ -22,6 +22,8 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import com.example.demo.security.JwtAuthenticationFilter;
 
+import jakarta.servlet.DispatcherType;
+
 @Configuration
 @EnableWebSecurity
 public class SecurityConfig {
@@ -45,14 +47,22 @@ public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Excepti
         .csrf(csrf -> csrf.disable())
         .cors(Customizer.withDefaults())
         .authorizeHttpRequests(auth -> auth
+            // Completion and timeout dispatches of async requests (SSE) were authorized on the original request;
+            // rules match first-wins, so this has to come before the path rules
+            .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
             .requestMatchers("/api/auth/**").permitAll()
             .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
             .requestMatchers("/api/invitations/public/**").permitAll()
             .requestMatchers("/api/invitations/validate/**").permitAll()
+            .requestMatchers("/api/admin/**").hasRole("ADMIN")
+            // Health checks and the Prometheus scrape; the rest of Actuator is admin-only
+            .requestMatchers("/actuator/health/**", "/actuator/prometheus").permitAll()
+            .requestMatchers("/actuator/**").hasRole("ADMIN")
             .requestMatchers("/api/projects/**").authenticated()
             .requestMatchers("/api/lists/**").authenticated()
             .requestMatchers("/api/tasks/**").authenticated()
             .requestMatchers("/api/invitations/**").authenticated()
+            .requestMatchers("/api/dashboard").authenticated()
             .requestMatchers("/error").permitAll()
             .anyRequest().denyAll()
         )
@@ -67,7 +77,7 @@ public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Excepti
     public CorsConfigurationSource corsConfigurationSource() {
         CorsConfiguration configuration = new CorsConfiguration();
         configuration.setAllowedOrigins(List.of("http://localhost:5173"));
-        configuration.setAllowedMethods(List.of("GET", "POST", "PUT", "DELETE", "OPTIONS"));
+        configuration.setAllowedMethods(List.of("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS"));
         configuration.setAllowedHeaders(List.of("*"));
         configuration.setAllowCredentials(true);
 
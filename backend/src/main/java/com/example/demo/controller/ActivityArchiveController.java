@@ -0,0 +1,55 @@
+package com.example.demo.controller;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.demo.service.ActivityArchiveService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Admin endpoints for archived activity partitions.
+ * Months are addressed as yyyy-MM, e.g. /api/admin/activity-archives/2024-03/rehydrate.
+ */
+@RestController
+@RequestMapping("/api/admin/activity-archives")
+@RequiredArgsConstructor
+public class ActivityArchiveController {
+
+    private final ActivityArchiveService archiveService;
+
+    @GetMapping
+    public List<YearMonth> listArchives() {
+        return archiveService.listArchives();
+    }
+
+    @PostMapping("/{month}/rehydrate")
+    public ResponseEntity<Map<String, Long>> rehydrate(@PathVariable String month) {
+        long rows = archiveService.rehydrate(parseMonth(month));
+        return ResponseEntity.ok(Map.of("restoredRows", rows));
+    }
+
+    @DeleteMapping("/{month}/rehydrate")
+    public ResponseEntity<Void> release(@PathVariable String month) {
+        archiveService.release(parseMonth(month));
+        return ResponseEntity.noContent().build();
+    }
+
+    private static YearMonth parseMonth(String month) {
+        try {
+            return YearMonth.parse(month);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid month '" + month + "', expected yyyy-MM");
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.demo.controller;
+
+import java.util.Map;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.demo.service.ActivityRollupService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Admin endpoints for rebuilding the activity statistics rollups from the activity log.
+ */
+@RestController
+@RequestMapping("/api/admin/activity-rollups")
+@RequiredArgsConstructor
+public class ActivityRollupController {
+
+    private final ActivityRollupService rollupService;
+
+    @PostMapping("/backfill")
+    public ResponseEntity<Map<String, Integer>> backfillAll() {
+        return ResponseEntity.ok(Map.of("rows", rollupService.backfillAll()));
+    }
+
+    @PostMapping("/backfill/{projectId}")
+    public ResponseEntity<Map<String, Integer>> backfillProject(@PathVariable Long projectId) {
+        return ResponseEntity.ok(Map.of("rows", rollupService.backfillProject(projectId)));
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.demo.controller;
+
+import java.util.Map;
+
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.example.demo.repository.ProjectRepository;
+import com.example.demo.service.BoardEventService;
+import com.example.demo.util.JwtUtil;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Server-sent event stream of live board changes for a project.
+ * Clients first obtain a short-lived ticket with their session token, then open the stream with
+ * {@code ?ticket=}. They resume after a reconnect with the Last-Event-ID header (or the lastEventId parameter).
+ *
+ * Open session in view is off for the stream (see OpenSessionInViewConfig), so the access check
+ * is one short query and no connection is held while the emitter is open.
+ */
+@RestController
+@RequestMapping("/api/projects/{projectId}/events")
+@RequiredArgsConstructor
+public class BoardEventController {
+
+    private final BoardEventService boardEventService;
+    private final ProjectRepository projectRepo;
+    private final JwtUtil jwtUtil;
+
+    @PostMapping("/ticket")
+    public Map<String, String> ticket(@PathVariable Long projectId, Authentication auth) {
+        checkAccess(projectId, auth);
+        return Map.of("ticket", jwtUtil.generateStreamTicket(auth.getName(), projectId));
+    }
+
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(
+            @PathVariable Long projectId,
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventIdHeader,
+            @RequestParam(value = "lastEventId", required = false) Long lastEventIdParam,
+            Authentication auth) {
+        checkAccess(projectId, auth);
+
+        Long lastEventId = lastEventIdHeader != null ? lastEventIdHeader : lastEventIdParam;
+        return boardEventService.subscribe(projectId, lastEventId);
+    }
+
+    private void checkAccess(Long projectId, Authentication auth) {
+        if (!projectRepo.hasAccess(projectId, auth.getName())) {
+            throw new RuntimeException("Project not found or access denied");
+        }
+    }
+}
@@ -1,23 +1,33 @@
 package com.example.demo.controller;
 
-import java.util.List;
+import java.io.IOException;
 
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.example.demo.config.BinaryFormatsConfig;
+import com.example.demo.config.ResponseFormats;
+import com.example.demo.dto.MoveDto;
+import com.example.demo.dto.ReorderDto;
 import com.example.demo.dto.BoardListDto;
 import com.example.demo.entity.BoardList;
 import com.example.demo.entity.User;
 import com.example.demo.repository.UserRepository;
 import com.example.demo.service.BoardListService;
 
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 
 @RestController
@@ -27,13 +37,24 @@ public class BoardListController {
 
     private final BoardListService listService;
     private final UserRepository userRepo;
+    private final ResponseFormats responseFormats;
 
-    @GetMapping("/project/{projectId}")
-    public List<BoardListDto> getAllByProject(@PathVariable Long projectId, Authentication auth) {
+    /**
+     * Streams the board straight into the response instead of returning a list of DTOs,
+     * as JSON unless the client prefers CBOR or Smile.
+     */
+    @GetMapping(value = "/project/{projectId}", produces = {
+            MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, BinaryFormatsConfig.APPLICATION_SMILE_VALUE })
+    public void getAllByProject(@PathVariable Long projectId, Authentication auth,
+                                @RequestHeader(value = HttpHeaders.ACCEPT, defaultValue = MediaType.ALL_VALUE) String accept,
+                                HttpServletResponse response) throws IOException {
         String username = auth.getName();
         User user = userRepo.findByUsername(username)
             .orElseThrow(() -> new RuntimeException("User not found"));
-        return listService.getAllByProject(projectId, user);
+        AbstractJackson2HttpMessageConverter format = responseFormats.negotiate(accept);
+        response.setContentType(format.getSupportedMediaTypes().get(0).toString());
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        listService.writeAllByProject(projectId, user, format.getObjectMapper(), response.getOutputStream());
     }
 
     @PostMapping
@@ -52,6 +73,22 @@ public class BoardListController {
         return listService.update(id, dto, user);
     }
 
+    @PatchMapping("/project/{projectId}/order")
+    public void reorder(@PathVariable Long projectId, @RequestBody ReorderDto dto, Authentication auth) {
+        String username = auth.getName();
+        User user = userRepo.findByUsername(username)
+            .orElseThrow(() -> new RuntimeException("User not found"));
+        listService.reorder(projectId, dto, user);
+    }
+
+    @PatchMapping("/{id}/move")
+    public BoardListDto move(@PathVariable Long id, @RequestBody MoveDto dto, Authentication auth) {
+        String username = auth.getName();
+        User user = userRepo.findByUsername(username)
+            .orElseThrow(() -> new RuntimeException("User not found"));
+        return listService.move(id, dto, user);
+    }
+
     @DeleteMapping("/{id}")
     public void delete(@PathVariable Long id, Authentication auth) {
         String username = auth.getName();
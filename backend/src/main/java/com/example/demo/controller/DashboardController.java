@@ -0,0 +1,33 @@
+package com.example.demo.controller;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.demo.dto.DashboardDto;
+import com.example.demo.entity.User;
+import com.example.demo.repository.UserRepository;
+import com.example.demo.service.DashboardService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/dashboard")
+@RequiredArgsConstructor
+public class DashboardController {
+
+    private final DashboardService dashboardService;
+    private final UserRepository userRepo;
+
+    /**
+     * Project counts, due and overdue tasks and recent activity of the current user in one response.
+     */
+    @GetMapping
+    public DashboardDto get(Authentication auth) {
+        String username = auth.getName();
+        User user = userRepo.findByUsername(username)
+            .orElseThrow(() -> new RuntimeException("User not found"));
+        return dashboardService.getDashboard(user);
+    }
+}
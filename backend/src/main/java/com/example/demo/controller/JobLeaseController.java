@@ -0,0 +1,28 @@
+package com.example.demo.controller;
+
+import java.util.List;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.demo.entity.JobLease;
+import com.example.demo.service.JobLeaseService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Admin view of the scheduled jobs: current lease holder and figures of the last run.
+ */
+@RestController
+@RequestMapping("/api/admin/jobs")
+@RequiredArgsConstructor
+public class JobLeaseController {
+
+    private final JobLeaseService jobLeaseService;
+
+    @GetMapping
+    public List<JobLease> listJobs() {
+        return jobLeaseService.listJobs();
+    }
+}
@@ -1,10 +1,12 @@
 package com.example.demo.controller;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.CrossOrigin;
@@ -14,7 +16,9 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.example.demo.dto.ActivityTrendPointDto;
 import com.example.demo.dto.ProjectActivityDto;
+import com.example.demo.dto.UserActivityCountDto;
 import com.example.demo.entity.ProjectActivity;
 import com.example.demo.service.ProjectActivityService;
 import com.example.demo.service.ProjectCollaborationService;
@@ -172,4 +176,44 @@ public class ProjectActivityController {
         List<Object[]> statistics = activityService.getActivityStatistics(projectId);
         return ResponseEntity.ok(statistics);
     }
+    
+    @GetMapping("/statistics/daily")
+    public ResponseEntity<List<ActivityTrendPointDto>> getDailyActivityTrend(
+            @PathVariable Long projectId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            Authentication authentication) {
+        
+        String username = authentication.getName();
+        
+        if (!collaborationService.isProjectCollaborator(projectId, username)) {
+            return ResponseEntity.status(403).build();
+        }
+        
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(29);
+        
+        List<ActivityTrendPointDto> trend = activityService.getDailyActivityTrend(projectId, start, end);
+        return ResponseEntity.ok(trend);
+    }
+    
+    @GetMapping("/statistics/users")
+    public ResponseEntity<List<UserActivityCountDto>> getUserActivityCounts(
+            @PathVariable Long projectId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            Authentication authentication) {
+        
+        String username = authentication.getName();
+        
+        if (!collaborationService.isProjectCollaborator(projectId, username)) {
+            return ResponseEntity.status(403).build();
+        }
+        
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(29);
+        
+        List<UserActivityCountDto> counts = activityService.getUserActivityCounts(projectId, start, end);
+        return ResponseEntity.ok(counts);
+    }
 }
@@ -1,23 +1,39 @@
 package com.example.demo.controller;
 
+import java.io.IOException;
+import java.time.LocalDate;
 import java.util.List;
 
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
 import org.springframework.security.core.Authentication;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.example.demo.config.BinaryFormatsConfig;
+import com.example.demo.config.ResponseFormats;
 import com.example.demo.dto.ProjectDto;
+import com.example.demo.dto.TaskIntervalDto;
+import com.example.demo.dto.TaskSearchResultDto;
 import com.example.demo.entity.User;
 import com.example.demo.repository.UserRepository;
+import com.example.demo.service.BoardBootstrapService;
 import com.example.demo.service.ProjectService;
+import com.example.demo.service.TaskScheduleService;
+import com.example.demo.service.TaskSearchService;
 
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 
 
@@ -27,6 +43,10 @@ import lombok.RequiredArgsConstructor;
 public class ProjectController {
 
     private final ProjectService projectService;
+    private final TaskSearchService taskSearchService;
+    private final TaskScheduleService taskScheduleService;
+    private final BoardBootstrapService boardBootstrapService;
+    private final ResponseFormats responseFormats;
     private final UserRepository userRepo;
 
     @GetMapping
@@ -54,6 +74,24 @@ public class ProjectController {
         return ResponseEntity.ok(projectService.getByIdAndUserAccess(id, user));
     }
 
+    /**
+     * Project, board, collaborators, invitations and recent activity for opening the board page,
+     * in one response; JSON unless the client prefers CBOR or Smile.
+     */
+    @GetMapping(value = "/{id}/bootstrap", produces = {
+            MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, BinaryFormatsConfig.APPLICATION_SMILE_VALUE })
+    public void bootstrap(@PathVariable Long id, Authentication auth,
+                          @RequestHeader(value = HttpHeaders.ACCEPT, defaultValue = MediaType.ALL_VALUE) String accept,
+                          HttpServletResponse response) throws IOException {
+        String username = auth.getName();
+        User user = userRepo.findByUsername(username)
+            .orElseThrow(() -> new RuntimeException("User not found"));
+        AbstractJackson2HttpMessageConverter format = responseFormats.negotiate(accept);
+        response.setContentType(format.getSupportedMediaTypes().get(0).toString());
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        boardBootstrapService.write(id, user, format.getObjectMapper(), response.getOutputStream());
+    }
+
     @PutMapping("/{id}")
     public ProjectDto update(@PathVariable Long id, @RequestBody ProjectDto dto, Authentication auth) {
         String username = auth.getName();
@@ -62,6 +100,33 @@ public class ProjectController {
         return projectService.updateByIdAndOwner(id, dto, user);
     }
 
+    /**
+     * Searches the project's task names and descriptions; every word of q must match.
+     */
+    @GetMapping("/{id}/tasks/search")
+    public List<TaskSearchResultDto> searchTasks(@PathVariable Long id, @RequestParam String q,
+                                                 @RequestParam(defaultValue = "20") int limit, Authentication auth) {
+        String username = auth.getName();
+        User user = userRepo.findByUsername(username)
+            .orElseThrow(() -> new RuntimeException("User not found"));
+        return taskSearchService.search(id, q, limit, user);
+    }
+
+    /**
+     * Tasks whose start-to-due range overlaps from..to (ISO dates, both included), for the
+     * Gantt and calendar windows.
+     */
+    @GetMapping("/{id}/tasks/overlapping")
+    public List<TaskIntervalDto> overlappingTasks(@PathVariable Long id,
+                                                  @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                  @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                                  Authentication auth) {
+        String username = auth.getName();
+        User user = userRepo.findByUsername(username)
+            .orElseThrow(() -> new RuntimeException("User not found"));
+        return taskScheduleService.findOverlapping(id, from, to, user);
+    }
+
     @DeleteMapping("/{id}")
     public void delete(@PathVariable Long id, Authentication auth) {
         String username = auth.getName();
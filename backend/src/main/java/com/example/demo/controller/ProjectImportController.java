@@ -0,0 +1,47 @@
+package com.example.demo.controller;
+
+import java.io.StringReader;
+
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.demo.dto.ImportResultDto;
+import com.example.demo.dto.ProjectImportDto;
+import com.example.demo.entity.User;
+import com.example.demo.repository.UserRepository;
+import com.example.demo.service.ProjectImportService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Bulk import of lists, tasks and dependencies, as JSON (ProjectImportDto) or CSV (text/csv).
+ */
+@RestController
+@RequestMapping("/api/projects/{projectId}/import")
+@RequiredArgsConstructor
+public class ProjectImportController {
+
+    private final ProjectImportService importService;
+    private final UserRepository userRepo;
+
+    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ImportResultDto importJson(@PathVariable Long projectId, @RequestBody ProjectImportDto plan, Authentication auth) {
+        String username = auth.getName();
+        User user = userRepo.findByUsername(username)
+            .orElseThrow(() -> new RuntimeException("User not found"));
+        return importService.importPlan(projectId, plan, user);
+    }
+
+    @PostMapping(consumes = "text/csv")
+    public ImportResultDto importCsv(@PathVariable Long projectId, @RequestBody String csv, Authentication auth) {
+        String username = auth.getName();
+        User user = userRepo.findByUsername(username)
+            .orElseThrow(() -> new RuntimeException("User not found"));
+        return importService.importPlan(projectId, importService.parseCsv(new StringReader(csv)), user);
+    }
+}
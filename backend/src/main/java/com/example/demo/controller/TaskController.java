@@ -1,21 +1,29 @@
 package com.example.demo.controller;
 
+import java.time.LocalDate;
 import java.util.List;
 
 import org.springframework.security.core.Authentication;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.example.demo.dto.MoveDto;
+import com.example.demo.dto.ReorderDto;
 import com.example.demo.dto.TaskDto;
+import com.example.demo.dto.UpcomingTasksPageDto;
 import com.example.demo.entity.User;
 import com.example.demo.repository.UserRepository;
 import com.example.demo.service.TaskService;
+import com.example.demo.service.UpcomingTaskService;
 
 import lombok.RequiredArgsConstructor;
 
@@ -25,6 +33,7 @@ import lombok.RequiredArgsConstructor;
 public class TaskController {
 
     private final TaskService taskService;
+    private final UpcomingTaskService upcomingTaskService;
     private final UserRepository userRepo;
 
     @GetMapping("/list/{listId}")
@@ -35,6 +44,21 @@ public class TaskController {
         return taskService.getAllByList(listId, user);
     }
 
+    /**
+     * Tasks due across all of the user's projects in due-date order, from today unless from is
+     * given; pass the returned nextCursor to get the following page.
+     */
+    @GetMapping("/upcoming")
+    public UpcomingTasksPageDto getUpcoming(@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                            @RequestParam(required = false) String cursor,
+                                            @RequestParam(defaultValue = "20") int limit, Authentication auth) {
+        String username = auth.getName();
+        User user = userRepo.findByUsername(username)
+            .orElseThrow(() -> new RuntimeException("User not found"));
+        LocalDate start = from != null ? from : LocalDate.now();
+        return upcomingTaskService.getUpcoming(user, start, cursor, limit);
+    }
+
     @PostMapping
     public TaskDto create(@RequestBody TaskDto dto, Authentication auth) {
         System.out.println(">>> Received JSON task DTO: " + dto);
@@ -52,6 +76,22 @@ public class TaskController {
         return taskService.update(id, dto, user);
     }
 
+    @PatchMapping("/list/{listId}/order")
+    public void reorder(@PathVariable Long listId, @RequestBody ReorderDto dto, Authentication auth) {
+        String username = auth.getName();
+        User user = userRepo.findByUsername(username)
+            .orElseThrow(() -> new RuntimeException("User not found"));
+        taskService.reorder(listId, dto, user);
+    }
+
+    @PatchMapping("/{id}/move")
+    public TaskDto move(@PathVariable Long id, @RequestBody MoveDto dto, Authentication auth) {
+        String username = auth.getName();
+        User user = userRepo.findByUsername(username)
+            .orElseThrow(() -> new RuntimeException("User not found"));
+        return taskService.move(id, dto, user);
+    }
+
     @DeleteMapping("/{id}")
     public void delete(@PathVariable Long id, Authentication auth) {
         String username = auth.getName();
@@ -0,0 +1,24 @@
+package com.example.demo.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A change event as pushed to live board subscribers over server-sent events.
+ * The id is a per-project sequence number that clients send back as Last-Event-ID to resume.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BoardEventDto {
+    private long id;
+    private Long projectId;
+    private String type;
+    private Long entityId;
+    private String actor;
+    private Object payload;
+    private LocalDateTime timestamp;
+}
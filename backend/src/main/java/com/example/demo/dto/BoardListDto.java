@@ -16,6 +16,7 @@ public class BoardListDto {
     private String name;
     private int position;
     private LocalDateTime createdAt;
+    private Long version;
     // Always non-null for serialization
     private List<TaskDto> tasks = new ArrayList<>();
 }
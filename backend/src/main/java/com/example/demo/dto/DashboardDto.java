@@ -0,0 +1,66 @@
+package com.example.demo.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Everything the dashboard shows for one user, across every project they own or collaborate on.
+ * "This week" runs from today to Sunday; overdue means due before today.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DashboardDto {
+    private int ownedProjects;
+    private int sharedProjects;
+    private long overdueTasks;
+    private long tasksDueThisWeek;
+    private List<ProjectSummary> projects = new ArrayList<>();
+    // The longest overdue and the soonest due, up to app.dashboard.max-items each
+    private List<DueTask> overdue = new ArrayList<>();
+    private List<DueTask> dueThisWeek = new ArrayList<>();
+    private List<RecentActivity> recentActivity = new ArrayList<>();
+    private LocalDateTime generatedAt;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ProjectSummary {
+        private Long id;
+        private String name;
+        private boolean owned;
+        private long tasks;
+        private long overdueTasks;
+        private long tasksDueThisWeek;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class DueTask {
+        private Long id;
+        private String name;
+        private LocalDate dueDate;
+        private Long projectId;
+        private String projectName;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RecentActivity {
+        private Long id;
+        private Long projectId;
+        private String projectName;
+        private String username;
+        private String action;
+        private String description;
+        private LocalDateTime timestamp;
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.demo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Places a list or task directly after previousId, or first when previousId is null.
+ * For tasks, listId names the target list; it defaults to the task's current list.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MoveDto {
+    private Long listId;
+    private Long previousId;
+}
@@ -0,0 +1,42 @@
+package com.example.demo.dto;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A plan to import into a project: lists with their tasks in order.
+ * Tasks reference each other through their ref, which only has to be unique within the import.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectImportDto {
+    private List<ListEntry> lists = new ArrayList<>();
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ListEntry {
+        // Tasks go into an existing list of the same name, or a new one
+        private String name;
+        private List<TaskEntry> tasks = new ArrayList<>();
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class TaskEntry {
+        private String ref;
+        private String name;
+        private String description;
+        private LocalDate startDate;
+        private LocalDate dueDate;
+        // Refs of the tasks this one depends on
+        private List<String> dependsOn = new ArrayList<>();
+    }
+}
@@ -31,7 +31,7 @@ public class ProjectInvitationDto {
         dto.setInvitedByUsername(invitation.getInvitedBy().getUsername());
         dto.setInvitedEmail(invitation.getInvitedEmail());
         dto.setRole(invitation.getRole().getValue());
-        dto.setStatus(invitation.getStatus().name());
+        dto.setStatus(invitation.getEffectiveStatus().name());
         dto.setCreatedAt(invitation.getCreatedAt());
         dto.setExpiresAt(invitation.getExpiresAt());
         dto.setRespondedAt(invitation.getRespondedAt());
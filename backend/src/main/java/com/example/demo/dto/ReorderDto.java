@@ -0,0 +1,25 @@
+package com.example.demo.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * New order of the lists of a project or the tasks of a list after a drag.
+ * Each id's position becomes its index. For a task moved across lists the source list
+ * and its remaining task ids are sent along so both lists are renumbered in one request.
+ * Versions are the ones the client last saw, parallel to the ids; a stale one fails the whole reorder.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReorderDto {
+    private List<Long> ids = new ArrayList<>();
+    private List<Long> versions = new ArrayList<>();
+    private Long sourceListId;
+    private List<Long> sourceIds = new ArrayList<>();
+    private List<Long> sourceVersions = new ArrayList<>();
+}
@@ -23,6 +23,7 @@ public class TaskDto {
 
     private Integer position;   // for ordering
     private Long listId;        // for list relation
+    private Long version;       // optimistic lock version, echo back on update
 
     // list of dependency task IDs
     // Always non-null on serialization
@@ -0,0 +1,21 @@
+package com.example.demo.dto;
+
+import java.time.LocalDate;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A dated task as shown on the Gantt and calendar views; either date may be missing.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskIntervalDto {
+    private Long id;
+    private String name;
+    private Long listId;
+    private LocalDate startDate;
+    private LocalDate dueDate;
+}
@@ -0,0 +1,23 @@
+package com.example.demo.dto;
+
+import java.time.LocalDate;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A task with a due date, with enough of its list and project to show it outside the board.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UpcomingTaskDto {
+    private Long id;
+    private String name;
+    private LocalDate dueDate;
+    private Long listId;
+    private String listName;
+    private Long projectId;
+    private String projectName;
+}
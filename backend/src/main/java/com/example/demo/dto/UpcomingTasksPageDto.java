@@ -0,0 +1,19 @@
+package com.example.demo.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One page of the upcoming-work timeline; pass nextCursor back for the following page, it is
+ * null on the last one.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UpcomingTasksPageDto {
+    private List<UpcomingTaskDto> items;
+    private String nextCursor;
+}
@@ -0,0 +1,52 @@
+package com.example.demo.entity;
+
+import java.time.LocalDate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Pre-aggregated activity counts per project, user, activity type and day.
+ * Maintained incrementally when activities are logged so statistics never scan project_activity.
+ */
+@Entity
+@Table(
+    name = "project_activity_rollup",
+    uniqueConstraints = @UniqueConstraint(
+        name = "uk_activity_rollup_key",
+        columnNames = {"project_id", "user_id", "activity_type", "day"}
+    )
+)
+@Getter @Setter @NoArgsConstructor
+public class ActivityRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "activity_type", nullable = false)
+    private ProjectActivity.ActivityType activityType;
+
+    @Column(name = "day", nullable = false)
+    private LocalDate day;
+
+    @Column(name = "activity_count", nullable = false)
+    private long activityCount;
+}
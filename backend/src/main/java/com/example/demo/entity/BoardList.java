@@ -1,27 +1,41 @@
 package com.example.demo.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.BatchSize;
 import lombok.*;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
+@Table(indexes = @Index(name = "idx_board_list_project_order", columnList = "project_id, order_key, id"))
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor
 public class BoardList {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "board_list_id")
+    @SequenceGenerator(name = "board_list_id", sequenceName = "board_list_seq", allocationSize = 50)
     private Long id;
 
     private String name;
     private int position;
+
+    // Sort key within the project, see FractionalIndex
+    @Column(name = "order_key", columnDefinition = "varchar(64) collate \"C\"")
+    private String orderKey;
     private LocalDateTime createdAt = LocalDateTime.now();
 
+    // Optimistic lock; every update runs as UPDATE ... WHERE version = ?
+    @Version
+    @Column(name = "version", columnDefinition = "bigint default 0 not null")
+    private long version;
+
     @ManyToOne
     @JoinColumn(name = "project_id")
     private Project project;
 
+    // Mapping a project touches every list's tasks; load them for up to 100 lists per query
     @OneToMany(mappedBy = "list", cascade = CascadeType.ALL, orphanRemoval = true)
-    @OrderBy("position ASC")
+    @OrderBy("orderKey ASC, id ASC")
+    @BatchSize(size = 100)
     private List<Task> tasks;
 }
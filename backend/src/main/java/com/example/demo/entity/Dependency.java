@@ -8,13 +8,16 @@ import lombok.Setter;
 @Entity
 @Table(
     name = "dependency",
-    uniqueConstraints = @UniqueConstraint(columnNames = {"task_id", "depends_on_id"})
+    uniqueConstraints = @UniqueConstraint(columnNames = {"task_id", "depends_on_id"}),
+    // The unique constraint serves lookups by task_id; reverse lookups and deletes need this one
+    indexes = @Index(name = "idx_dependency_depends_on", columnList = "depends_on_id")
 )
 @Getter @Setter @NoArgsConstructor
 public class Dependency {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "dependency_id")
+    @SequenceGenerator(name = "dependency_id", sequenceName = "dependency_seq", allocationSize = 50)
     private Long id;
 
     // The task that is blocked
@@ -0,0 +1,32 @@
+package com.example.demo.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * How far the daily digest has covered a project's activity log.
+ * Advanced in the same transaction that queues the project's digest emails, so a crashed run
+ * resumes with the projects it had not finished yet.
+ */
+@Entity
+@Table(name = "digest_checkpoint")
+@Getter @Setter @NoArgsConstructor
+public class DigestCheckpoint {
+
+    @Id
+    @Column(name = "project_id")
+    private Long projectId;
+
+    @Column(name = "digested_until", nullable = false)
+    private LocalDateTime digestedUntil;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
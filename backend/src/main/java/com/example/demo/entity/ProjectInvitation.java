@@ -11,6 +11,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -24,7 +25,7 @@ import lombok.Setter;
  * Uses secure tokens for invitation links.
  */
 @Entity
-@Table(name = "project_invitation")
+@Table(name = "project_invitation", indexes = @Index(name = "idx_project_invitation_status_expiry", columnList = "status, expires_at"))
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor
 public class ProjectInvitation {
     
@@ -82,6 +83,14 @@ public class ProjectInvitation {
         return status == InvitationStatus.PENDING && !isExpired();
     }
     
+    /**
+     * Status as seen by users: a pending invitation past its expiry reads as EXPIRED even before
+     * the hourly sweep has updated the row.
+     */
+    public InvitationStatus getEffectiveStatus() {
+        return status == InvitationStatus.PENDING && isExpired() ? InvitationStatus.EXPIRED : status;
+    }
+    
     public void accept() {
         this.status = InvitationStatus.ACCEPTED;
         this.respondedAt = LocalDateTime.now();
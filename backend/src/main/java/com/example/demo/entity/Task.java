@@ -7,10 +7,17 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_task_list_order", columnList = "list_id, order_key, id"),
+        // Per-list due-date order for the upcoming-work timeline
+        @Index(name = "idx_task_list_due", columnList = "list_id, due_date, id")
+})
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor
 public class Task {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // Pooled sequence: one round trip reserves 50 ids, so inserts can be batched
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_id")
+    @SequenceGenerator(name = "task_id", sequenceName = "task_seq", allocationSize = 50)
     private Long id;
 
     private String name;
@@ -23,6 +30,15 @@ public class Task {
     @Column(name = "position")
     private int position;
 
+    // Sort key within the list, see FractionalIndex. "C" collation so the database sorts like String.compareTo
+    @Column(name = "order_key", columnDefinition = "varchar(64) collate \"C\"")
+    private String orderKey;
+
+    // Optimistic lock; every update runs as UPDATE ... WHERE version = ?
+    @Version
+    @Column(name = "version", columnDefinition = "bigint default 0 not null")
+    private long version;
+
 
     @ManyToOne
     @JoinColumn(name = "project_id")
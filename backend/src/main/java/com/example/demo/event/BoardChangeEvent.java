@@ -0,0 +1,34 @@
+package com.example.demo.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Application event published by the board services whenever a list, task or dependency changes.
+ * Delivered to live board subscribers after the surrounding transaction commits.
+ */
+@Getter
+@AllArgsConstructor
+public class BoardChangeEvent {
+
+    private final Long projectId;
+    private final Type type;
+    private final Long entityId;
+    private final String actor;
+    // Compact DTO of the changed entity, or null for deletions
+    private final Object payload;
+
+    public enum Type {
+        TASK_CREATED,
+        TASK_UPDATED,
+        TASK_DELETED,
+        LIST_CREATED,
+        LIST_UPDATED,
+        LIST_DELETED,
+        LISTS_REORDERED,
+        TASKS_REORDERED,
+        BOARD_IMPORTED,
+        DEPENDENCY_ADDED,
+        DEPENDENCY_REMOVED
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.demo.exception;
+
+import lombok.Getter;
+
+/**
+ * Thrown when an update was based on a stale version of an entity.
+ * Carries the current state so the client can reapply its change on top of it.
+ */
+@Getter
+public class VersionConflictException extends RuntimeException {
+
+    private final transient Object current;
+
+    public VersionConflictException(String message, Object current) {
+        super(message);
+        this.current = current;
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.demo.mapper;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+/**
+ * Writes a board as the same JSON array of BoardListDto objects that Jackson would produce,
+ * one list and task at a time, so a board of any size is rendered without building the DTOs.
+ *
+ * Call {@link #list} for each list in order, followed by {@link #task} for each of its tasks, and
+ * {@link #finish} at the end. The generator needs the application's ObjectMapper as its codec so
+ * dates are formatted exactly as in the DTO responses; a CBOR or Smile generator gives the same
+ * structure in that format.
+ */
+public class BoardJsonWriter {
+
+    private final JsonGenerator generator;
+    private boolean started;
+    private boolean listOpen;
+    private long listId;
+
+    public BoardJsonWriter(JsonGenerator generator) {
+        this.generator = generator;
+    }
+
+    public void list(long id, String name, int position, LocalDateTime createdAt, Long version) throws IOException {
+        start();
+        closeList();
+        generator.writeStartObject();
+        generator.writeNumberField("id", id);
+        generator.writeStringField("name", name);
+        generator.writeNumberField("position", position);
+        generator.writePOJOField("createdAt", createdAt);
+        writeNumberOrNull("version", version);
+        generator.writeArrayFieldStart("tasks");
+        listOpen = true;
+        listId = id;
+    }
+
+    public void task(long id, String name, String description, LocalDate startDate, LocalDate dueDate,
+                     LocalDateTime createdAt, int position, Long version, Long[] dependencyIds) throws IOException {
+        if (!listOpen) {
+            throw new IllegalStateException("task() called before list()");
+        }
+        generator.writeStartObject();
+        generator.writeNumberField("id", id);
+        generator.writeStringField("name", name);
+        generator.writeStringField("description", description);
+        generator.writePOJOField("startDate", startDate);
+        generator.writePOJOField("dueDate", dueDate);
+        generator.writePOJOField("createdAt", createdAt);
+        generator.writeNumberField("position", position);
+        generator.writeNumberField("listId", listId);
+        writeNumberOrNull("version", version);
+        generator.writeArrayFieldStart("dependencyIds");
+        if (dependencyIds != null) {
+            for (Long dependencyId : dependencyIds) {
+                generator.writeNumber(dependencyId);
+            }
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    /**
+     * Closes the array (an empty board gives {@code []}) and flushes the generator.
+     */
+    public void finish() throws IOException {
+        start();
+        closeList();
+        generator.writeEndArray();
+        generator.flush();
+    }
+
+    private void start() throws IOException {
+        if (!started) {
+            generator.writeStartArray();
+            started = true;
+        }
+    }
+
+    private void closeList() throws IOException {
+        if (listOpen) {
+            generator.writeEndArray();
+            generator.writeEndObject();
+            listOpen = false;
+        }
+    }
+
+    private void writeNumberOrNull(String field, Long value) throws IOException {
+        if (value != null) {
+            generator.writeNumberField(field, value);
+        } else {
+            generator.writeNullField(field);
+        }
+    }
+}
@@ -3,9 +3,14 @@ package com.example.demo.mapper;
 import com.example.demo.dto.*;
 import com.example.demo.entity.*;
 import com.example.demo.repository.DependencyRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -17,45 +22,85 @@ public class ProjectMapper {
     // Repository reference (set once at startup, see MapperConfig)
     private static DependencyRepository dependencyRepo;
 
+    // Mapping timers (set once at startup, see MapperConfig); a project's timer includes its lists
+    private static Timer projectTimer;
+    private static Timer listTimer;
+
     // Method for wiring in DependencyRepository
     public static void setDependencyRepo(DependencyRepository repo) {
         dependencyRepo = repo;
     }
 
+    public static void setMeterRegistry(MeterRegistry registry) {
+        projectTimer = mappingTimer(registry, "project");
+        listTimer = mappingTimer(registry, "list");
+    }
+
     public static ProjectDto toDto(Project project) {
-        return new ProjectDto(
-                project.getId(),
-                project.getName(),
-                project.getDescription(),
-                project.getCreatedAt(),
-                project.getLists() != null
-                        ? project.getLists().stream()
-                            .map(ProjectMapper::toDto)
+        return timed(projectTimer, () -> {
+            if (project.getLists() == null) {
+                return new ProjectDto(project.getId(), project.getName(), project.getDescription(),
+                        project.getCreatedAt(), null);
+            }
+            // One dependency query for the whole board rather than one per task
+            Map<Long, List<Long>> deps = dependencyIds(project.getLists().stream()
+                    .filter(list -> list.getTasks() != null)
+                    .flatMap(list -> list.getTasks().stream())
+                    .toList());
+            return new ProjectDto(
+                    project.getId(),
+                    project.getName(),
+                    project.getDescription(),
+                    project.getCreatedAt(),
+                    project.getLists().stream()
+                            .map(list -> toDto(list, deps))
                             .collect(Collectors.toList())
-                        : null
-        );
+            );
+        });
     }
 
     public static BoardListDto toDto(BoardList list) {
-        return new BoardListDto(
+        return toDto(list, list.getTasks() != null ? dependencyIds(list.getTasks()) : Map.of());
+    }
+
+    private static BoardListDto toDto(BoardList list, Map<Long, List<Long>> deps) {
+        return timed(listTimer, () -> new BoardListDto(
                 list.getId(),
                 list.getName(),
                 list.getPosition(),
                 list.getCreatedAt(),
+                list.getVersion(),
                 list.getTasks() != null
                         ? list.getTasks().stream()
-                            .map(task -> {
-                                // ✅ fetch dependency IDs if repo is wired, else empty list
-                                List<Long> deps = dependencyRepo != null
-                                        ? dependencyRepo.findByTaskId(task.getId())
-                                            .stream()
-                                            .map(d -> d.getDependsOn().getId())
-                                            .toList()
-                                        : Collections.emptyList();
-                                return ProjectMapper.toDto(task, deps);
-                            })
+                            .map(task -> ProjectMapper.toDto(task, deps.getOrDefault(task.getId(), List.of())))
                             .collect(Collectors.toList())
                         : null
+        ));
+    }
+
+    /**
+     * Prerequisite ids of each task, loaded in one query; empty if the repository is not wired.
+     */
+    public static Map<Long, List<Long>> dependencyIds(Collection<Task> tasks) {
+        if (dependencyRepo == null || tasks.isEmpty()) {
+            return Map.of();
+        }
+        return dependencyRepo.findByTaskIdIn(tasks.stream().map(Task::getId).toList()).stream()
+                .collect(Collectors.groupingBy(d -> d.getTask().getId(),
+                        Collectors.mapping(d -> d.getDependsOn().getId(), Collectors.toList())));
+    }
+
+    /**
+     * Builds a BoardListDto without its tasks, for compact change notifications.
+     */
+    public static BoardListDto toSummaryDto(BoardList list) {
+        return new BoardListDto(
+                list.getId(),
+                list.getName(),
+                list.getPosition(),
+                list.getCreatedAt(),
+                list.getVersion(),
+                Collections.emptyList()
         );
     }
 
@@ -73,6 +118,7 @@ public class ProjectMapper {
         task.getCreatedAt(),
         task.getPosition(),
         task.getList() != null ? task.getList().getId() : null,
+        task.getVersion(),
         Collections.emptyList() // always at least []
     );
 }
@@ -90,7 +136,19 @@ public class ProjectMapper {
         task.getCreatedAt(),
         task.getPosition(),
         task.getList() != null ? task.getList().getId() : null,
+        task.getVersion(),
         dependencyIds != null ? dependencyIds : Collections.emptyList()
     );
 }
+
+    private static Timer mappingTimer(MeterRegistry registry, String target) {
+        return Timer.builder("planner.mapper")
+                .tag("target", target)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    private static <T> T timed(Timer timer, Supplier<T> mapping) {
+        return timer != null ? timer.record(mapping) : mapping.get();
+    }
 }
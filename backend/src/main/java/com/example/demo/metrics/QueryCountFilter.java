@@ -0,0 +1,61 @@
+package com.example.demo.metrics;
+
+import java.io.IOException;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Counts the SQL statements of each request. The count is recorded as planner.http.queries and
+ * logged when it passes the threshold, which is usually a per-row query (N+1) in a loop.
+ * QueryCountHeaderAdvice reports the running count in the Server-Timing header.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    static final String MARK_ATTRIBUTE = QueryCountFilter.class.getName() + ".mark";
+    static final String START_ATTRIBUTE = QueryCountFilter.class.getName() + ".start";
+
+    private final DistributionSummary queriesPerRequest;
+
+    @Value("${app.sql.query-count-warn-threshold:30}")
+    private long warnThreshold;
+
+    public QueryCountFilter(MeterRegistry meterRegistry) {
+        this.queriesPerRequest = DistributionSummary.builder("planner.http.queries")
+                .description("SQL statements issued by one HTTP request")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        long mark = QueryCounter.mark();
+        request.setAttribute(MARK_ATTRIBUTE, mark);
+        request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            long queries = QueryCounter.since(mark);
+            queriesPerRequest.record(queries);
+            if (queries > warnThreshold) {
+                log.warn("{} {} issued {} SQL statements (threshold {})",
+                        request.getMethod(), request.getRequestURI(), queries, warnThreshold);
+            }
+        }
+    }
+}
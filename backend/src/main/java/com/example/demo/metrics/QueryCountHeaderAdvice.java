@@ -0,0 +1,46 @@
+package com.example.demo.metrics;
+
+import java.util.Locale;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Adds a Server-Timing header with the request's SQL statement count and elapsed time, e.g.
+ * {@code Server-Timing: sql;desc="7 queries", app;dur=12.4}. It is set just before the body is
+ * written, the last point where headers can still change, so statements issued while the body is
+ * serialized are only in the filter's count.
+ */
+@ControllerAdvice
+public class QueryCountHeaderAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (request instanceof ServletServerHttpRequest servletRequest) {
+            HttpServletRequest httpRequest = servletRequest.getServletRequest();
+            if (httpRequest.getAttribute(QueryCountFilter.MARK_ATTRIBUTE) instanceof Long mark
+                    && httpRequest.getAttribute(QueryCountFilter.START_ATTRIBUTE) instanceof Long start) {
+                long queries = QueryCounter.since(mark);
+                double elapsedMs = (System.nanoTime() - start) / 1_000_000.0;
+                response.getHeaders().add("Server-Timing",
+                        String.format(Locale.ROOT, "sql;desc=\"%d queries\", app;dur=%.1f", queries, elapsedMs));
+            }
+        }
+        return body;
+    }
+}
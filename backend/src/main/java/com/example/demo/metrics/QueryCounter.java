@@ -0,0 +1,30 @@
+package com.example.demo.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread.
+ *
+ * Registered as Hibernate's statement inspector, so every JPA query, lazy load and flush passes
+ * through it; JdbcTemplate statements do not. The counter only ever grows: a caller takes a
+ * {@link #mark()} and later asks for the statements {@link #since(long)} it, which lets a request
+ * filter and a test measure overlapping spans independently.
+ */
+public class QueryCounter implements StatementInspector {
+
+    private static final ThreadLocal<long[]> COUNT = ThreadLocal.withInitial(() -> new long[1]);
+
+    @Override
+    public String inspect(String sql) {
+        COUNT.get()[0]++;
+        return sql;
+    }
+
+    public static long mark() {
+        return COUNT.get()[0];
+    }
+
+    public static long since(long mark) {
+        return COUNT.get()[0] - mark;
+    }
+}
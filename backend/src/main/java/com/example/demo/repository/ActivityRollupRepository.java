@@ -0,0 +1,60 @@
+package com.example.demo.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.example.demo.dto.ActivityTrendPointDto;
+import com.example.demo.dto.UserActivityCountDto;
+import com.example.demo.entity.ActivityRollup;
+
+public interface ActivityRollupRepository extends JpaRepository<ActivityRollup, Long> {
+
+    @Modifying
+    @Query(value = "INSERT INTO project_activity_rollup (project_id, user_id, activity_type, day, activity_count) " +
+                   "VALUES (:projectId, :userId, :activityType, :day, 1) " +
+                   "ON CONFLICT (project_id, user_id, activity_type, day) " +
+                   "DO UPDATE SET activity_count = project_activity_rollup.activity_count + 1",
+           nativeQuery = true)
+    void increment(@Param("projectId") Long projectId,
+                   @Param("userId") Long userId,
+                   @Param("activityType") String activityType,
+                   @Param("day") LocalDate day);
+
+    /**
+     * Recomputes the rollup rows of one project from the attached activity partitions.
+     * Days whose raw rows were already archived keep their existing counts.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO project_activity_rollup (project_id, user_id, activity_type, day, activity_count) " +
+                   "SELECT project_id, user_id, activity_type, CAST(\"timestamp\" AS date), COUNT(*) " +
+                   "FROM project_activity WHERE project_id = :projectId " +
+                   "GROUP BY project_id, user_id, activity_type, CAST(\"timestamp\" AS date) " +
+                   "ON CONFLICT (project_id, user_id, activity_type, day) " +
+                   "DO UPDATE SET activity_count = EXCLUDED.activity_count",
+           nativeQuery = true)
+    int backfillProject(@Param("projectId") Long projectId);
+
+    @Query("SELECT r.activityType, SUM(r.activityCount) FROM ActivityRollup r " +
+           "WHERE r.projectId = :projectId GROUP BY r.activityType")
+    List<Object[]> countByTypeForProject(@Param("projectId") Long projectId);
+
+    @Query("SELECT new com.example.demo.dto.ActivityTrendPointDto(r.day, SUM(r.activityCount)) " +
+           "FROM ActivityRollup r WHERE r.projectId = :projectId AND r.day BETWEEN :from AND :to " +
+           "GROUP BY r.day ORDER BY r.day")
+    List<ActivityTrendPointDto> dailyTrend(@Param("projectId") Long projectId,
+                                           @Param("from") LocalDate from,
+                                           @Param("to") LocalDate to);
+
+    @Query("SELECT new com.example.demo.dto.UserActivityCountDto(r.userId, u.username, SUM(r.activityCount)) " +
+           "FROM ActivityRollup r JOIN User u ON u.id = r.userId " +
+           "WHERE r.projectId = :projectId AND r.day BETWEEN :from AND :to " +
+           "GROUP BY r.userId, u.username ORDER BY SUM(r.activityCount) DESC")
+    List<UserActivityCountDto> countByUser(@Param("projectId") Long projectId,
+                                           @Param("from") LocalDate from,
+                                           @Param("to") LocalDate to);
+}
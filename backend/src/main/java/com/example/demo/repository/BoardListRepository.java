@@ -2,9 +2,27 @@ package com.example.demo.repository;
 
 import com.example.demo.entity.BoardList;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
 
 public interface BoardListRepository extends JpaRepository<BoardList, Long> {
     List<BoardList> findByProjectIdOrderByPositionAsc(Long projectId);
+
+    // Ordered scan over idx_board_list_project_order; id breaks ties between equal keys
+    List<BoardList> findByProjectIdOrderByOrderKeyAscIdAsc(Long projectId);
+
+    @Query("SELECT MAX(l.orderKey) FROM BoardList l WHERE l.project.id = :projectId")
+    String findLastOrderKeyByProjectId(Long projectId);
+
+    @Query("SELECT MIN(l.orderKey) FROM BoardList l WHERE l.project.id = :projectId AND l.id <> :excludeId")
+    String findFirstOrderKeyByProjectId(Long projectId, Long excludeId);
+
+    @Query("SELECT MIN(l.orderKey) FROM BoardList l WHERE l.project.id = :projectId AND l.orderKey > :key AND l.id <> :excludeId")
+    String findNextOrderKey(Long projectId, String key, Long excludeId);
+
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM BoardList l WHERE l.id = :id")
+    int deleteInBulkById(Long id);
 }
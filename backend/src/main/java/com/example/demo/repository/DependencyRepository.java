@@ -2,15 +2,45 @@ package com.example.demo.repository;
 
 import com.example.demo.entity.Dependency;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.util.Collection;
 import java.util.Optional;
 import java.util.List;
 
 public interface DependencyRepository extends JpaRepository<Dependency, Long> {
     List<Dependency> findByTaskId(Long taskId);
+
+    // Prerequisites of many tasks in one query, for mapping a list or a board
+    List<Dependency> findByTaskIdIn(Collection<Long> taskIds);
+
+    /**
+     * Every (task_id, depends_on_id) edge reachable from the task along "depends on" edges, in one
+     * recursive query. UNION drops rows already seen, so it ends even on a cyclic graph.
+     */
+    @Query(value = "WITH RECURSIVE reachable(task_id, depends_on_id) AS (" +
+                   "SELECT task_id, depends_on_id FROM dependency WHERE task_id = :taskId " +
+                   "UNION SELECT d.task_id, d.depends_on_id FROM dependency d " +
+                   "JOIN reachable r ON d.task_id = r.depends_on_id) " +
+                   "SELECT task_id, depends_on_id FROM reachable",
+           nativeQuery = true)
+    List<Object[]> findEdgesReachableFrom(@Param("taskId") Long taskId);
+
     boolean existsByTaskIdAndDependsOnId(Long taskId, Long dependsOnId);
 
     // Handy for reverse lookups (what tasks are blocked by X)
     List<Dependency> findByDependsOnId(Long dependsOnId);
     Optional<Dependency> findByTaskIdAndDependsOnId(Long taskId, Long dependsOnId);
 
+    // Set-based cleanup before tasks are deleted: both incoming and outgoing edges
+    @Modifying
+    @Query("DELETE FROM Dependency d WHERE d.task.id = :taskId OR d.dependsOn.id = :taskId")
+    int deleteAllTouchingTask(Long taskId);
+
+    @Modifying
+    @Query("DELETE FROM Dependency d WHERE d.task.id IN (SELECT t.id FROM Task t WHERE t.list.id = :listId) " +
+           "OR d.dependsOn.id IN (SELECT t.id FROM Task t WHERE t.list.id = :listId)")
+    int deleteAllTouchingList(Long listId);
+
 }
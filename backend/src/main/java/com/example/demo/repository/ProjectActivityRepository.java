@@ -11,14 +11,23 @@ import org.springframework.data.repository.query.Param;
 
 import com.example.demo.entity.ProjectActivity;
 
+/**
+ * project_activity is range-partitioned by month on timestamp.
+ * Every feed query takes a lower timestamp bound so PostgreSQL only scans the recent partitions.
+ */
 public interface ProjectActivityRepository extends JpaRepository<ProjectActivity, Long> {
-    
-    @Query("SELECT pa FROM ProjectActivity pa WHERE pa.project.id = :projectId ORDER BY pa.timestamp DESC")
-    List<ProjectActivity> findByProjectIdOrderByTimestampDesc(@Param("projectId") Long projectId);
-    
-    @Query("SELECT pa FROM ProjectActivity pa WHERE pa.project.id = :projectId ORDER BY pa.timestamp DESC")
-    Page<ProjectActivity> findByProjectIdOrderByTimestampDesc(@Param("projectId") Long projectId, Pageable pageable);
-    
+
+    @Query("SELECT pa FROM ProjectActivity pa WHERE pa.project.id = :projectId " +
+           "AND pa.timestamp >= :since ORDER BY pa.timestamp DESC")
+    List<ProjectActivity> findByProjectIdSince(@Param("projectId") Long projectId,
+                                               @Param("since") LocalDateTime since);
+
+    @Query("SELECT pa FROM ProjectActivity pa WHERE pa.project.id = :projectId " +
+           "AND pa.timestamp >= :since ORDER BY pa.timestamp DESC")
+    Page<ProjectActivity> findByProjectIdSince(@Param("projectId") Long projectId,
+                                               @Param("since") LocalDateTime since,
+                                               Pageable pageable);
+
     @Query("SELECT pa FROM ProjectActivity pa WHERE pa.project.id = :projectId " +
            "AND pa.timestamp BETWEEN :startDate AND :endDate ORDER BY pa.timestamp DESC")
     List<ProjectActivity> findByProjectIdAndTimestampBetween(
@@ -26,32 +35,36 @@ public interface ProjectActivityRepository extends JpaRepository<ProjectActivity
         @Param("startDate") LocalDateTime startDate,
         @Param("endDate") LocalDateTime endDate
     );
-    
+
     @Query("SELECT pa FROM ProjectActivity pa WHERE pa.project.id = :projectId " +
-           "AND pa.user.id = :userId ORDER BY pa.timestamp DESC")
-    List<ProjectActivity> findByProjectIdAndUserIdOrderByTimestampDesc(
+           "AND pa.user.id = :userId AND pa.timestamp >= :since ORDER BY pa.timestamp DESC")
+    List<ProjectActivity> findByProjectIdAndUserIdSince(
         @Param("projectId") Long projectId,
-        @Param("userId") Long userId
+        @Param("userId") Long userId,
+        @Param("since") LocalDateTime since
     );
-    
+
     @Query("SELECT pa FROM ProjectActivity pa WHERE pa.project.id = :projectId " +
-           "AND pa.activityType = :activityType ORDER BY pa.timestamp DESC")
-    List<ProjectActivity> findByProjectIdAndActivityTypeOrderByTimestampDesc(
+           "AND pa.activityType = :activityType AND pa.timestamp >= :since ORDER BY pa.timestamp DESC")
+    List<ProjectActivity> findByProjectIdAndActivityTypeSince(
         @Param("projectId") Long projectId,
-        @Param("activityType") ProjectActivity.ActivityType activityType
+        @Param("activityType") ProjectActivity.ActivityType activityType,
+        @Param("since") LocalDateTime since
     );
-    
-    @Query("SELECT pa FROM ProjectActivity pa WHERE pa.project.id = :projectId ORDER BY pa.timestamp DESC")
-    List<ProjectActivity> findTopNByProjectIdOrderByTimestampDesc(@Param("projectId") Long projectId, Pageable pageable);
-    
-    @Query("SELECT pa.activityType, COUNT(pa) FROM ProjectActivity pa WHERE pa.project.id = :projectId GROUP BY pa.activityType")
-    List<Object[]> countActivitiesByTypeForProject(@Param("projectId") Long projectId);
-    
+
+    @Query("SELECT pa FROM ProjectActivity pa WHERE pa.project.id = :projectId " +
+           "AND pa.timestamp >= :since ORDER BY pa.timestamp DESC")
+    List<ProjectActivity> findTopNByProjectIdSince(@Param("projectId") Long projectId,
+                                                   @Param("since") LocalDateTime since,
+                                                   Pageable pageable);
+
     @Query("SELECT pa FROM ProjectActivity pa WHERE pa.project.id = :projectId " +
-           "AND pa.entityType = :entityType AND pa.entityId = :entityId ORDER BY pa.timestamp DESC")
-    List<ProjectActivity> findByProjectIdAndEntityTypeAndEntityIdOrderByTimestampDesc(
+           "AND pa.entityType = :entityType AND pa.entityId = :entityId " +
+           "AND pa.timestamp >= :since ORDER BY pa.timestamp DESC")
+    List<ProjectActivity> findByProjectIdAndEntitySince(
         @Param("projectId") Long projectId,
         @Param("entityType") String entityType,
-        @Param("entityId") Long entityId
+        @Param("entityId") Long entityId,
+        @Param("since") LocalDateTime since
     );
 }
@@ -4,9 +4,11 @@ import com.example.demo.entity.ProjectInvitation;
 import com.example.demo.entity.Project;
 import com.example.demo.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -26,14 +28,23 @@ public interface ProjectInvitationRepository extends JpaRepository<ProjectInvita
     @Query("SELECT pi FROM ProjectInvitation pi WHERE pi.project.id = :projectId")
     List<ProjectInvitation> findByProjectId(@Param("projectId") Long projectId);
     
-    @Query("SELECT pi FROM ProjectInvitation pi WHERE pi.invitedEmail = :email AND pi.status = 'PENDING'")
-    List<ProjectInvitation> findPendingInvitationsByEmail(@Param("email") String email);
-    
-    @Query("SELECT pi FROM ProjectInvitation pi WHERE pi.project.id = :projectId AND pi.invitedEmail = :email AND pi.status = 'PENDING'")
-    Optional<ProjectInvitation> findPendingInvitationByProjectAndEmail(@Param("projectId") Long projectId, @Param("email") String email);
-    
-    @Query("SELECT pi FROM ProjectInvitation pi WHERE pi.expiresAt < :now AND pi.status = 'PENDING'")
-    List<ProjectInvitation> findExpiredInvitations(@Param("now") LocalDateTime now);
+    // Pending lookups check expires_at themselves, so they are correct between expiry sweeps
+    @Query("SELECT pi FROM ProjectInvitation pi WHERE pi.invitedEmail = :email AND pi.status = 'PENDING' AND pi.expiresAt > :now")
+    List<ProjectInvitation> findPendingInvitationsByEmail(@Param("email") String email, @Param("now") LocalDateTime now);
+    
+    @Query("SELECT pi FROM ProjectInvitation pi WHERE pi.project.id = :projectId AND pi.invitedEmail = :email AND pi.status = 'PENDING' AND pi.expiresAt > :now")
+    Optional<ProjectInvitation> findPendingInvitationByProjectAndEmail(@Param("projectId") Long projectId, @Param("email") String email, @Param("now") LocalDateTime now);
+    
+    /**
+     * Marks up to {@code limit} expired pending invitations as EXPIRED in one statement and its own
+     * transaction. SKIP LOCKED leaves rows being accepted or declined right now to the next chunk.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE project_invitation SET status = 'EXPIRED' WHERE id IN ("
+            + "SELECT id FROM project_invitation WHERE status = 'PENDING' AND expires_at <= :now "
+            + "LIMIT :limit FOR UPDATE SKIP LOCKED)", nativeQuery = true)
+    int expirePending(@Param("now") LocalDateTime now, @Param("limit") int limit);
     
     @Query("SELECT pi FROM ProjectInvitation pi WHERE pi.project.id = :projectId AND pi.invitedEmail = :email")
     List<ProjectInvitation> findByProjectIdAndEmail(@Param("projectId") Long projectId, @Param("email") String email);
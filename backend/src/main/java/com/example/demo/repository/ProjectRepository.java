@@ -20,4 +20,10 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
     
     @Query("SELECT p FROM Project p WHERE p.id = :id AND (p.owner = :user OR EXISTS (SELECT 1 FROM ProjectCollaborator pc WHERE pc.project = p AND pc.user = :user))")
     Optional<Project> findByIdAndUserAccess(@Param("id") Long id, @Param("user") User user);
+    
+    @Query("SELECT COUNT(p) > 0 FROM Project p WHERE p.id = :id AND (p.owner.username = :username OR EXISTS (SELECT 1 FROM ProjectCollaborator pc WHERE pc.project = p AND pc.user.username = :username))")
+    boolean hasAccess(@Param("id") Long id, @Param("username") String username);
+    
+    @Query("SELECT p.id FROM Project p ORDER BY p.id")
+    List<Long> findAllIds();
 }
@@ -2,14 +2,35 @@ package com.example.demo.repository;
 
 import com.example.demo.entity.Task;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
 
 public interface TaskRepository extends JpaRepository<Task, Long> {
     List<Task> findByListId(Long listId);
+    List<Task> findByListIdOrderByOrderKeyAscIdAsc(Long listId);
     List<Task> findByProjectId(Long projectId);
     int countByListId(Long listId);
     @Query("SELECT MAX(t.position) FROM Task t WHERE t.list.id = :listId")
     Integer findMaxPositionByListId(Long listId);
+
+    // Order key lookups are served from idx_task_list_order without touching the table
+    @Query("SELECT MAX(t.orderKey) FROM Task t WHERE t.list.id = :listId")
+    String findLastOrderKeyByListId(Long listId);
+
+    @Query("SELECT MIN(t.orderKey) FROM Task t WHERE t.list.id = :listId AND t.id <> :excludeId")
+    String findFirstOrderKeyByListId(Long listId, Long excludeId);
+
+    @Query("SELECT MIN(t.orderKey) FROM Task t WHERE t.list.id = :listId AND t.orderKey > :key AND t.id <> :excludeId")
+    String findNextOrderKey(Long listId, String key, Long excludeId);
+
+    // Single DELETE statements; callers remove the dependency rows first
+    @Modifying
+    @Query("DELETE FROM Task t WHERE t.id = :id")
+    int deleteInBulkById(Long id);
+
+    @Modifying
+    @Query("DELETE FROM Task t WHERE t.list.id = :listId")
+    int deleteInBulkByListId(Long listId);
 }
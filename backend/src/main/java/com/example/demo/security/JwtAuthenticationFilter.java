@@ -1,6 +1,8 @@
 package com.example.demo.security;
 
 import java.io.IOException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -27,6 +29,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     @Autowired
     private JwtUtil jwtUtil;
     
+    private static final Pattern EVENT_STREAM_PATH = Pattern.compile("^/api/projects/(\\d+)/events$");
+    
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, 
                                   FilterChain filterChain) throws ServletException, IOException {
@@ -38,6 +42,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         
         if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
             jwt = authorizationHeader.substring(7);
+        } else if (request.getParameter("ticket") != null) {
+            authenticateStreamTicket(request);
+        }
+        
+        if (jwt != null) {
             try {
                 username = jwtUtil.extractUsername(jwt);
             } catch (Exception e) {
@@ -58,4 +67,24 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         
         filterChain.doFilter(request, response);
     }
+    
+    /**
+     * EventSource cannot send headers, so event streams take a short-lived ticket scoped to the
+     * project in the query string instead of the session token.
+     */
+    private void authenticateStreamTicket(HttpServletRequest request) {
+        Matcher matcher = EVENT_STREAM_PATH.matcher(request.getRequestURI());
+        if (!matcher.matches() || !"GET".equals(request.getMethod())
+                || SecurityContextHolder.getContext().getAuthentication() != null) {
+            return;
+        }
+        String username = jwtUtil.extractStreamTicketUsername(request.getParameter("ticket"), Long.valueOf(matcher.group(1)));
+        if (username != null) {
+            UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
+            UsernamePasswordAuthenticationToken authToken = 
+                new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+            authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+            SecurityContextHolder.getContext().setAuthentication(authToken);
+        }
+    }
 }
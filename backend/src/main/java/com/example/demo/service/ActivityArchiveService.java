@@ -0,0 +1,165 @@
+package com.example.demo.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.postgresql.PGConnection;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Moves detached activity partitions into gzip-compressed CSV files on local disk and
+ * restores them on demand for audits.
+ * Rows are streamed through PostgreSQL COPY, so archiving never loads a partition into memory.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ActivityArchiveService {
+
+    static final String REHYDRATED_MARKER = "rehydrated";
+    private static final String ARCHIVE_SUFFIX = ".csv.gz";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ActivityPartitionService partitionService;
+
+    @Value("${app.activity.archive-dir:./activity-archive}")
+    private String archiveDir;
+
+    /**
+     * Streams every detached partition into an archive file and drops the table afterwards.
+     * The file is written under a temporary name and renamed once complete, so a crash never
+     * leaves a truncated archive behind a dropped table.
+     *
+     * @return number of partitions archived
+     */
+    public int archiveDetachedPartitions() {
+        int archived = 0;
+        for (String table : partitionService.detachedPartitions()) {
+            archivePartition(table);
+            archived++;
+        }
+        return archived;
+    }
+
+    /**
+     * Lists the months that have an archive file on disk.
+     */
+    public List<YearMonth> listArchives() {
+        Path dir = archivePath();
+        if (!Files.isDirectory(dir)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(dir)) {
+            List<YearMonth> months = new ArrayList<>();
+            files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.endsWith(ARCHIVE_SUFFIX))
+                    .map(name -> name.substring(0, name.length() - ARCHIVE_SUFFIX.length()))
+                    .forEach(name -> ActivityPartitionService.monthOf(name).ifPresent(months::add));
+            months.sort(null);
+            return months;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Restores an archived month as an attached partition so the regular date-range queries can read it.
+     * The partition is marked as rehydrated and is skipped by retention until it is released.
+     *
+     * @return number of rows restored
+     */
+    public long rehydrate(YearMonth month) {
+        String table = ActivityPartitionService.partitionName(month);
+        Path file = archiveFile(table);
+        if (!Files.exists(file)) {
+            throw new IllegalArgumentException("No archive found for " + month);
+        }
+        if (partitionService.attachedPartitions().contains(table)) {
+            throw new IllegalArgumentException("Activities for " + month + " are already available");
+        }
+
+        Long restored = transactionTemplate.execute(status -> {
+            jdbcTemplate.execute("CREATE TABLE " + table + " (LIKE " + ActivityPartitionService.PARENT_TABLE
+                    + " INCLUDING DEFAULTS)");
+            long rows = jdbcTemplate.execute((ConnectionCallback<Long>) con -> {
+                try (InputStream in = new GZIPInputStream(Files.newInputStream(file))) {
+                    return con.unwrap(PGConnection.class).getCopyAPI().copyIn(
+                            "COPY " + table + " (" + ActivityPartitionService.COLUMNS + ") FROM STDIN WITH (FORMAT csv, HEADER)",
+                            in);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            jdbcTemplate.execute("ALTER TABLE " + ActivityPartitionService.PARENT_TABLE + " ATTACH PARTITION " + table
+                    + " FOR VALUES FROM ('" + month.atDay(1) + "') TO ('" + month.plusMonths(1).atDay(1) + "')");
+            jdbcTemplate.execute("COMMENT ON TABLE " + table + " IS '" + REHYDRATED_MARKER + "'");
+            return rows;
+        });
+        log.info("Rehydrated {} activity rows for {}", restored, month);
+        return restored == null ? 0 : restored;
+    }
+
+    /**
+     * Detaches and drops a rehydrated partition. The archive file stays on disk.
+     */
+    public void release(YearMonth month) {
+        String table = ActivityPartitionService.partitionName(month);
+        if (!partitionService.attachedPartitions().contains(table) || !partitionService.isRehydrated(table)) {
+            throw new IllegalArgumentException("Activities for " + month + " are not rehydrated");
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.execute("ALTER TABLE " + ActivityPartitionService.PARENT_TABLE + " DETACH PARTITION " + table);
+            jdbcTemplate.execute("DROP TABLE " + table);
+        });
+    }
+
+    private void archivePartition(String table) {
+        Path target = archiveFile(table);
+        Path partial = target.resolveSibling(target.getFileName() + ".part");
+        try {
+            Files.createDirectories(target.getParent());
+            long rows = jdbcTemplate.execute((ConnectionCallback<Long>) con -> {
+                try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(partial), 64 * 1024)) {
+                    return con.unwrap(PGConnection.class).getCopyAPI().copyOut(
+                            "COPY " + table + " (" + ActivityPartitionService.COLUMNS + ") TO STDOUT WITH (FORMAT csv, HEADER)",
+                            out);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            Files.move(partial, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            jdbcTemplate.execute("DROP TABLE " + table);
+            log.info("Archived {} rows from {} to {}", rows, table, target);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to archive " + table, e);
+        }
+    }
+
+    private Path archiveFile(String table) {
+        return archivePath().resolve(table + ARCHIVE_SUFFIX);
+    }
+
+    private Path archivePath() {
+        return Paths.get(archiveDir).toAbsolutePath();
+    }
+}
@@ -0,0 +1,231 @@
+package com.example.demo.service;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Manages monthly range partitions of the project_activity table.
+ * Converts the Hibernate-created table into a partitioned one on first start, creates
+ * partitions ahead of time and detaches partitions that fall outside the retention window.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ActivityPartitionService {
+
+    static final String PARENT_TABLE = "project_activity";
+    static final String COLUMNS = "id, project_id, user_id, activity_type, entity_type, entity_id, "
+            + "entity_name, action, description, old_values, new_values, \"timestamp\"";
+
+    private static final Pattern PARTITION_NAME = Pattern.compile("^project_activity_y(\\d{4})m(\\d{2})$");
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("'y'yyyy'm'MM");
+    private static final long MAINTENANCE_LOCK_ID = 7_340_026L;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.activity.partition-months-ahead:3}")
+    private int monthsAhead;
+
+    @Value("${app.activity.retention-months:12}")
+    private int retentionMonths;
+
+    @Value("${app.activity.hot-months:3}")
+    private int hotMonths;
+
+    // Conversion happens once per database and the partition job keeps partitions ahead
+    @Value("${app.startup.maintenance:true}")
+    private boolean startupMaintenance;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (!startupMaintenance) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            lockMaintenance();
+            if (!isPartitioned()) {
+                convertToPartitionedTable();
+            }
+        });
+        ensurePartitions();
+    }
+
+    /**
+     * Start of the window served by hot activity queries.
+     * Bounding queries by this timestamp lets PostgreSQL prune older partitions.
+     */
+    public LocalDateTime hotWindowStart() {
+        return YearMonth.now().minusMonths(hotMonths - 1L).atDay(1).atStartOfDay();
+    }
+
+    /**
+     * Creates any missing partitions from the start of the retention window up to
+     * the configured number of months ahead of the current month.
+     */
+    public void ensurePartitions() {
+        YearMonth current = YearMonth.now();
+        createPartitions(retentionStart(), current.plusMonths(monthsAhead));
+    }
+
+    /**
+     * Detaches attached partitions that ended before the retention window.
+     * Rehydrated partitions are left alone until they are explicitly released.
+     *
+     * @return names of the detached tables, ready to be archived
+     */
+    public List<String> detachExpiredPartitions() {
+        YearMonth cutoff = retentionStart();
+        return transactionTemplate.execute(status -> {
+            lockMaintenance();
+            List<String> detached = new ArrayList<>();
+            for (String name : attachedPartitions()) {
+                Optional<YearMonth> month = monthOf(name);
+                if (month.isPresent() && month.get().isBefore(cutoff) && !isRehydrated(name)) {
+                    jdbcTemplate.execute("ALTER TABLE " + PARENT_TABLE + " DETACH PARTITION " + name);
+                    detached.add(name);
+                    log.info("Detached expired activity partition {}", name);
+                }
+            }
+            return detached;
+        });
+    }
+
+    /**
+     * Lists partition tables that exist but are no longer attached to project_activity.
+     */
+    public List<String> detachedPartitions() {
+        List<String> attached = attachedPartitions();
+        return jdbcTemplate.queryForList(
+                "SELECT c.relname FROM pg_class c JOIN pg_namespace n ON n.oid = c.relnamespace "
+                        + "WHERE n.nspname = current_schema() AND c.relkind = 'r' AND c.relname LIKE 'project_activity\\_y%' "
+                        + "ORDER BY c.relname",
+                String.class).stream()
+                .filter(name -> PARTITION_NAME.matcher(name).matches())
+                .filter(name -> !attached.contains(name))
+                .toList();
+    }
+
+    public List<String> attachedPartitions() {
+        return jdbcTemplate.queryForList(
+                "SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid "
+                        + "JOIN pg_class p ON p.oid = i.inhparent WHERE p.relname = ? ORDER BY c.relname",
+                String.class, PARENT_TABLE);
+    }
+
+    public static String partitionName(YearMonth month) {
+        return PARENT_TABLE + "_" + month.format(PARTITION_SUFFIX);
+    }
+
+    public static Optional<YearMonth> monthOf(String partitionName) {
+        Matcher matcher = PARTITION_NAME.matcher(partitionName);
+        if (!matcher.matches()) {
+            return Optional.empty();
+        }
+        return Optional.of(YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2))));
+    }
+
+    boolean isRehydrated(String partitionName) {
+        String comment = jdbcTemplate.queryForObject(
+                "SELECT obj_description(to_regclass(?), 'pg_class')", String.class, partitionName);
+        return ActivityArchiveService.REHYDRATED_MARKER.equals(comment);
+    }
+
+    private YearMonth retentionStart() {
+        return YearMonth.now().minusMonths(retentionMonths - 1L);
+    }
+
+    private void createPartitions(YearMonth from, YearMonth to) {
+        transactionTemplate.executeWithoutResult(status -> {
+            lockMaintenance();
+            createPartitionsInCurrentTransaction(from, to);
+        });
+    }
+
+    private boolean isPartitioned() {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM pg_partitioned_table WHERE partrelid = to_regclass(?)",
+                Integer.class, PARENT_TABLE);
+        return count != null && count > 0;
+    }
+
+    /**
+     * One-time migration of the plain table created by Hibernate into a partitioned table.
+     * Existing rows are copied into monthly partitions and the identity sequence is carried over.
+     */
+    private void convertToPartitionedTable() {
+        log.info("Converting {} into a range-partitioned table", PARENT_TABLE);
+        String legacy = PARENT_TABLE + "_unpartitioned";
+
+        jdbcTemplate.execute("ALTER TABLE " + PARENT_TABLE + " RENAME TO " + legacy);
+        jdbcTemplate.execute("CREATE SEQUENCE IF NOT EXISTS " + PARENT_TABLE + "_seq");
+        jdbcTemplate.execute("CREATE TABLE " + PARENT_TABLE + " ("
+                + "id bigint NOT NULL DEFAULT nextval('" + PARENT_TABLE + "_seq'), "
+                + "project_id bigint NOT NULL REFERENCES project(id), "
+                + "user_id bigint NOT NULL REFERENCES app_user(id), "
+                + "activity_type varchar(255) NOT NULL, "
+                + "entity_type varchar(255) NOT NULL, "
+                + "entity_id bigint, "
+                + "entity_name varchar(255), "
+                + "action varchar(255) NOT NULL, "
+                + "description text, "
+                + "old_values text, "
+                + "new_values text, "
+                + "\"timestamp\" timestamp(6) NOT NULL, "
+                + "PRIMARY KEY (id, \"timestamp\")"
+                + ") PARTITION BY RANGE (\"timestamp\")");
+        jdbcTemplate.execute("ALTER SEQUENCE " + PARENT_TABLE + "_seq OWNED BY " + PARENT_TABLE + ".id");
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_project_activity_project_time ON "
+                + PARENT_TABLE + " (project_id, \"timestamp\" DESC)");
+
+        LocalDateTime oldest = jdbcTemplate.queryForObject(
+                "SELECT MIN(\"timestamp\") FROM " + legacy, LocalDateTime.class);
+        if (oldest != null) {
+            createPartitionsInCurrentTransaction(YearMonth.from(oldest), YearMonth.now());
+        }
+        createPartitionsInCurrentTransaction(retentionStart(), YearMonth.now().plusMonths(monthsAhead));
+
+        int copied = jdbcTemplate.update("INSERT INTO " + PARENT_TABLE + " (" + COLUMNS + ") "
+                + "SELECT " + COLUMNS + " FROM " + legacy);
+        jdbcTemplate.execute("SELECT setval('" + PARENT_TABLE + "_seq', "
+                + "(SELECT COALESCE(MAX(id), 0) + 1 FROM " + PARENT_TABLE + "), false)");
+        jdbcTemplate.execute("DROP TABLE " + legacy);
+        log.info("Moved {} activity rows into partitions", copied);
+    }
+
+    private void createPartitionsInCurrentTransaction(YearMonth from, YearMonth to) {
+        List<String> existing = attachedPartitions();
+        for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+            String name = partitionName(month);
+            if (existing.contains(name)) {
+                continue;
+            }
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + name + " PARTITION OF " + PARENT_TABLE
+                    + " FOR VALUES FROM ('" + month.atDay(1) + "') TO ('" + month.plusMonths(1).atDay(1) + "')");
+            log.info("Created activity partition {}", name);
+        }
+    }
+
+    /**
+     * Serializes partition maintenance across nodes for the rest of the current transaction.
+     */
+    private void lockMaintenance() {
+        jdbcTemplate.queryForObject("SELECT pg_advisory_xact_lock(?)", Object.class, MAINTENANCE_LOCK_ID);
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.demo.service;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.demo.dto.ActivityTrendPointDto;
+import com.example.demo.dto.UserActivityCountDto;
+import com.example.demo.entity.ProjectActivity;
+import com.example.demo.repository.ActivityRollupRepository;
+import com.example.demo.repository.ProjectRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Maintains and reads the per-day activity rollups.
+ * Counters are bumped in the same transaction that logs the activity, so statistics cost
+ * O(days) instead of a GROUP BY over the whole activity history.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ActivityRollupService {
+
+    private final ActivityRollupRepository rollupRepository;
+    private final ProjectRepository projectRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    // Seeding only matters on the first start after an upgrade; scaled-out nodes skip it
+    @Value("${app.startup.maintenance:true}")
+    private boolean startupMaintenance;
+
+    /**
+     * Adds a logged activity to its rollup bucket. Must run inside the logging transaction.
+     */
+    @Transactional
+    public void record(ProjectActivity activity) {
+        rollupRepository.increment(
+                activity.getProject().getId(),
+                activity.getUser().getId(),
+                activity.getActivityType().name(),
+                activity.getTimestamp().toLocalDate());
+    }
+
+    /**
+     * Seeds the rollups from the activity log when the table is still empty (first start after upgrade).
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfEmpty() {
+        if (!startupMaintenance) {
+            return;
+        }
+        if (rollupRepository.count() == 0) {
+            backfillAll();
+        }
+    }
+
+    /**
+     * Rebuilds the rollups of every project from the activity log, one project per transaction.
+     *
+     * @return number of rollup rows written
+     */
+    public int backfillAll() {
+        int rows = 0;
+        for (Long projectId : projectRepository.findAllIds()) {
+            rows += backfillProject(projectId);
+        }
+        log.info("Backfilled {} activity rollup rows", rows);
+        return rows;
+    }
+
+    public int backfillProject(Long projectId) {
+        Integer rows = transactionTemplate.execute(status -> rollupRepository.backfillProject(projectId));
+        return rows == null ? 0 : rows;
+    }
+
+    @Transactional(readOnly = true)
+    public List<Object[]> countByType(Long projectId) {
+        return rollupRepository.countByTypeForProject(projectId);
+    }
+
+    @Transactional(readOnly = true)
+    public List<ActivityTrendPointDto> dailyTrend(Long projectId, LocalDate from, LocalDate to) {
+        return rollupRepository.dailyTrend(projectId, from, to);
+    }
+
+    @Transactional(readOnly = true)
+    public List<UserActivityCountDto> countByUser(Long projectId, LocalDate from, LocalDate to) {
+        return rollupRepository.countByUser(projectId, from, to);
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.demo.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.demo.dto.ProjectActivityDto;
+import com.example.demo.dto.ProjectCollaboratorDto;
+import com.example.demo.dto.ProjectDto;
+import com.example.demo.dto.ProjectInvitationDto;
+import com.example.demo.entity.Project;
+import com.example.demo.entity.User;
+import com.example.demo.repository.ProjectRepository;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.annotation.Timed;
+
+/**
+ * Everything the board page needs on open in one response: the project, its board, collaborators,
+ * pending and past invitations, and recent activity.
+ *
+ * Access is checked once. The collaborators, invitations and activities are then loaded at the same
+ * time on the bootstrap executor, each on its own connection, and the board streams out on the
+ * request thread once they are in. The request thread holds no connection while it waits, so a burst
+ * of board opens cannot use up the pool (or the database bulkhead) waiting on itself.
+ */
+@Service
+public class BoardBootstrapService {
+
+    private final ProjectRepository projectRepo;
+    private final BoardListService boardListService;
+    private final ProjectCollaborationService collaborationService;
+    private final ProjectActivityService activityService;
+    private final ThreadPoolTaskExecutor executor;
+    private final TransactionTemplate readOnly;
+
+    @Value("${app.board.bootstrap.activity-limit:20}")
+    private int activityLimit;
+
+    public BoardBootstrapService(ProjectRepository projectRepo, BoardListService boardListService,
+                                 ProjectCollaborationService collaborationService, ProjectActivityService activityService,
+                                 @Qualifier("bootstrapExecutor") ThreadPoolTaskExecutor executor,
+                                 PlatformTransactionManager transactionManager) {
+        this.projectRepo = projectRepo;
+        this.boardListService = boardListService;
+        this.collaborationService = collaborationService;
+        this.activityService = activityService;
+        this.executor = executor;
+        this.readOnly = new TransactionTemplate(transactionManager);
+        // The board comes through a cursor, which needs a transaction
+        this.readOnly.setReadOnly(true);
+    }
+
+    /**
+     * Writes the bootstrap object to {@code out} in the format of {@code mapper}; the board is
+     * streamed as in {@link BoardListService#writeAllByProject}.
+     */
+    @Timed(value = "planner.board.bootstrap", histogram = true)
+    public void write(Long projectId, User user, ObjectMapper mapper, OutputStream out) throws IOException {
+        Project project = projectRepo.findByIdAndUserAccess(projectId, user)
+                .orElseThrow(() -> new RuntimeException("Project not found or access denied"));
+
+        CompletableFuture<List<ProjectCollaboratorDto>> collaborators = CompletableFuture.supplyAsync(
+                () -> collaborationService.getProjectCollaborators(projectId), executor);
+        CompletableFuture<List<ProjectInvitationDto>> invitations = CompletableFuture.supplyAsync(
+                () -> collaborationService.getProjectInvitations(projectId), executor);
+        CompletableFuture<List<ProjectActivityDto>> activities = CompletableFuture.supplyAsync(
+                () -> activityService.getRecentProjectActivities(projectId, activityLimit), executor);
+        // Joined before the board's connection is taken, so this thread never holds one while waiting
+        // for theirs, and before anything is written, so a failed part is still an error response
+        List<ProjectCollaboratorDto> collaboratorList = join(collaborators);
+        List<ProjectInvitationDto> invitationList = join(invitations);
+        List<ProjectActivityDto> activityList = join(activities);
+
+        try {
+            readOnly.executeWithoutResult(status -> {
+                try (JsonGenerator generator = mapper.getFactory().createGenerator(out)) {
+                    generator.writeStartObject();
+                    // Lists are sent on their own below, not inside the project
+                    generator.writeObjectField("project", new ProjectDto(project.getId(), project.getName(),
+                            project.getDescription(), project.getCreatedAt(), null));
+                    generator.writeFieldName("lists");
+                    boardListService.writeBoard(projectId, generator);
+                    generator.writeObjectField("collaborators", collaboratorList);
+                    generator.writeObjectField("invitations", invitationList);
+                    generator.writeObjectField("activities", activityList);
+                    generator.writeEndObject();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static <T> T join(CompletableFuture<T> part) {
+        try {
+            return part.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package com.example.demo.service;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.example.demo.dto.BoardEventDto;
+import com.example.demo.event.BoardChangeEvent;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Fans out board change events to live SSE subscribers of each project.
+ *
+ * Publishing only enqueues into each subscriber's bounded queue; delivery happens on the
+ * board event executor. A subscriber whose queue overflows is evicted and has to reconnect
+ * with its Last-Event-ID, which is replayed from a small per-project ring buffer.
+ */
+@Slf4j
+@Service
+public class BoardEventService {
+
+    private final ThreadPoolTaskExecutor deliveryExecutor;
+    private final Map<Long, ProjectChannel> channels = new ConcurrentHashMap<>();
+
+    @Value("${app.board-events.subscriber-queue-size:64}")
+    private int subscriberQueueSize;
+
+    @Value("${app.board-events.replay-buffer-size:256}")
+    private int replayBufferSize;
+
+    @Value("${app.board-events.emitter-timeout-ms:1800000}")
+    private long emitterTimeoutMs;
+
+    public BoardEventService(@Qualifier("boardEventExecutor") ThreadPoolTaskExecutor deliveryExecutor) {
+        this.deliveryExecutor = deliveryExecutor;
+    }
+
+    /**
+     * Opens a stream for a project. When lastEventId is given, buffered events after it are replayed
+     * first; if the gap is no longer buffered the client receives a "reset" event and should refetch.
+     */
+    public SseEmitter subscribe(Long projectId, Long lastEventId) {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        // Registered inside compute so the heartbeat cannot drop the channel in between
+        channels.compute(projectId, (id, existing) -> {
+            ProjectChannel channel = existing != null ? existing : new ProjectChannel(id);
+            Subscriber subscriber = new Subscriber(channel, emitter);
+            emitter.onCompletion(() -> channel.remove(subscriber));
+            emitter.onTimeout(() -> channel.remove(subscriber));
+            emitter.onError(e -> channel.remove(subscriber));
+            channel.add(subscriber, lastEventId);
+            return channel;
+        });
+        return emitter;
+    }
+
+    /**
+     * Receives change events after the publishing transaction commits (or immediately when none is active).
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBoardChange(BoardChangeEvent event) {
+        ProjectChannel channel = channels.get(event.getProjectId());
+        if (channel != null) {
+            channel.publish(event);
+        }
+    }
+
+    /**
+     * Keeps idle connections open through proxies and detects clients that went away.
+     */
+    @Scheduled(fixedRateString = "${app.board-events.heartbeat-ms:25000}")
+    public void heartbeat() {
+        for (Long projectId : channels.keySet()) {
+            channels.computeIfPresent(projectId, (id, channel) -> {
+                channel.heartbeat();
+                return channel.isIdle() ? null : channel;
+            });
+        }
+    }
+
+    public int subscriberCount(Long projectId) {
+        ProjectChannel channel = channels.get(projectId);
+        return channel == null ? 0 : channel.subscribers.size();
+    }
+
+    private final class ProjectChannel {
+
+        private final Long projectId;
+        private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+        private final ArrayDeque<BoardEventDto> replay = new ArrayDeque<>();
+        // Seeded from the clock so ids keep increasing across restarts and stale ids trigger a reset
+        private long sequence = System.currentTimeMillis() * 1000;
+
+        ProjectChannel(Long projectId) {
+            this.projectId = projectId;
+        }
+
+        void publish(BoardChangeEvent event) {
+            synchronized (this) {
+                BoardEventDto dto = new BoardEventDto(++sequence, projectId, event.getType().name(), event.getEntityId(),
+                        event.getActor(), event.getPayload(), LocalDateTime.now());
+                replay.addLast(dto);
+                if (replay.size() > replayBufferSize) {
+                    replay.removeFirst();
+                }
+                // Under the same lock as the id and as add(), so every subscriber gets ids in
+                // order and one added meanwhile sees the event either in its replay or live, not
+                // both; enqueue only offers to a bounded queue, so this never blocks
+                for (Subscriber subscriber : subscribers) {
+                    subscriber.enqueue(dto);
+                }
+            }
+        }
+
+        void add(Subscriber subscriber, Long lastEventId) {
+            synchronized (this) {
+                if (lastEventId != null) {
+                    BoardEventDto oldest = replay.peekFirst();
+                    boolean gap = lastEventId < sequence && (oldest == null || oldest.getId() > lastEventId + 1);
+                    if (gap || lastEventId > sequence) {
+                        subscriber.enqueueReset(sequence);
+                    } else {
+                        for (BoardEventDto dto : replay) {
+                            if (dto.getId() > lastEventId) {
+                                subscriber.enqueue(dto);
+                            }
+                        }
+                    }
+                }
+                // Registered under the lock so no event can slip between replay and live delivery
+                subscribers.add(subscriber);
+            }
+        }
+
+        void remove(Subscriber subscriber) {
+            subscribers.remove(subscriber);
+        }
+
+        void heartbeat() {
+            for (Subscriber subscriber : subscribers) {
+                subscriber.ping();
+            }
+        }
+
+        boolean isIdle() {
+            return subscribers.isEmpty();
+        }
+    }
+
+    private final class Subscriber {
+
+        private final ProjectChannel channel;
+        private final SseEmitter emitter;
+        private final BlockingQueue<SseEmitter.SseEventBuilder> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        Subscriber(ProjectChannel channel, SseEmitter emitter) {
+            this.channel = channel;
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(subscriberQueueSize);
+        }
+
+        void enqueue(BoardEventDto dto) {
+            offer(SseEmitter.event()
+                    .id(Long.toString(dto.getId()))
+                    .name("board")
+                    .data(dto, MediaType.APPLICATION_JSON));
+        }
+
+        void enqueueReset(long currentId) {
+            offer(SseEmitter.event().id(Long.toString(currentId)).name("reset").data("{}"));
+        }
+
+        void ping() {
+            offer(SseEmitter.event().comment("ping"));
+        }
+
+        private void offer(SseEmitter.SseEventBuilder event) {
+            if (!queue.offer(event)) {
+                evict();
+                return;
+            }
+            if (draining.compareAndSet(false, true)) {
+                deliveryExecutor.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                List<SseEmitter.SseEventBuilder> batch = new ArrayList<>();
+                while (queue.drainTo(batch) > 0) {
+                    for (SseEmitter.SseEventBuilder event : batch) {
+                        emitter.send(event);
+                    }
+                    batch.clear();
+                }
+            } catch (IOException | IllegalStateException e) {
+                channel.remove(this);
+                emitter.completeWithError(e);
+                return;
+            } finally {
+                draining.set(false);
+            }
+            // An event may have arrived between the last drain and releasing the flag
+            if (!queue.isEmpty() && draining.compareAndSet(false, true)) {
+                deliveryExecutor.execute(this::drain);
+            }
+        }
+
+        private void evict() {
+            log.debug("Evicting slow board event subscriber of project {}", channel.projectId);
+            channel.remove(this);
+            queue.clear();
+            emitter.complete();
+        }
+    }
+}
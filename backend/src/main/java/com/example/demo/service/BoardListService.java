@@ -1,15 +1,43 @@
 package com.example.demo.service;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.example.demo.dto.BoardListDto;
+import com.example.demo.dto.MoveDto;
+import com.example.demo.dto.ReorderDto;
 import com.example.demo.entity.BoardList;
 import com.example.demo.entity.User;
+import com.example.demo.event.BoardChangeEvent;
+import com.example.demo.exception.VersionConflictException;
+import com.example.demo.mapper.BoardJsonWriter;
 import com.example.demo.mapper.ProjectMapper;
 import com.example.demo.repository.BoardListRepository;
+import com.example.demo.repository.DependencyRepository;
 import com.example.demo.repository.ProjectRepository;
+import com.example.demo.repository.TaskRepository;
+import com.example.demo.util.FractionalIndex;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import lombok.RequiredArgsConstructor;
 
@@ -23,58 +51,244 @@ public class BoardListService {
 
     private final BoardListRepository listRepo;
     private final ProjectRepository projectRepo;
+    private final TaskRepository taskRepo;
+    private final DependencyRepository dependencyRepo;
     private final ProjectActivityService activityService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JdbcTemplate jdbcTemplate;
 
-public List<BoardListDto> getAllByProject(Long projectId, User user) {
-    // Check if user has access to the project
-    projectRepo.findByIdAndUserAccess(projectId, user)
-            .orElseThrow(() -> new RuntimeException("Project not found or access denied"));
-    
-    return listRepo.findByProjectIdOrderByPositionAsc(projectId)
-                   .stream()
-                   .map(ProjectMapper::toDto)
-                   .toList();
-}
+    @Value("${app.board.fetch-size:500}")
+    private int boardFetchSize;
+
+    /**
+     * Streams the project's board to {@code out} as an array of lists with their tasks, in the format of
+     * {@code mapper} (JSON, CBOR or Smile).
+     *
+     * One query returns the lists with their tasks and dependency ids in board order, and each row
+     * is written as soon as it is read, so memory stays flat however large the board is and the first
+     * bytes leave before the last rows are fetched. The read-only transaction lets PostgreSQL hand the
+     * rows over through a cursor in chunks of the fetch size.
+     */
+    @Transactional(readOnly = true)
+    public void writeAllByProject(Long projectId, User user, ObjectMapper mapper, OutputStream out) throws IOException {
+        projectRepo.findByIdAndUserAccess(projectId, user)
+                .orElseThrow(() -> new RuntimeException("Project not found or access denied"));
+
+        try (JsonGenerator generator = mapper.getFactory().createGenerator(out)) {
+            writeBoard(projectId, generator);
+        }
+    }
+
+    /**
+     * Writes the project's board as an array of lists to {@code generator}, for callers that embed it in
+     * a larger response. Does not check access; call it inside a read-only transaction so the rows come
+     * through a cursor.
+     */
+    public void writeBoard(Long projectId, JsonGenerator generator) throws IOException {
+        BoardJsonWriter writer = new BoardJsonWriter(generator);
+        try {
+            jdbcTemplate.query(con -> {
+                PreparedStatement ps = con.prepareStatement(
+                        "SELECT l.id AS list_id, l.name AS list_name, l.position AS list_position, "
+                                + "l.created_at AS list_created_at, l.version AS list_version, "
+                                + "t.id, t.name, t.description, t.start_date, t.due_date, t.created_at, t.position, t.version, "
+                                + "ARRAY(SELECT d.depends_on_id FROM dependency d WHERE d.task_id = t.id "
+                                + "ORDER BY d.depends_on_id) AS dependency_ids "
+                                + "FROM board_list l LEFT JOIN task t ON t.list_id = l.id "
+                                + "WHERE l.project_id = ? "
+                                + "ORDER BY l.order_key, l.id, t.order_key, t.id");
+                ps.setLong(1, projectId);
+                ps.setFetchSize(boardFetchSize);
+                return ps;
+            }, new RowCallbackHandler() {
+                private long currentList = -1;
 
+                @Override
+                public void processRow(ResultSet rs) throws SQLException {
+                    try {
+                        long listId = rs.getLong("list_id");
+                        if (listId != currentList) {
+                            writer.list(listId, rs.getString("list_name"), rs.getInt("list_position"),
+                                    rs.getObject("list_created_at", LocalDateTime.class),
+                                    rs.getObject("list_version", Long.class));
+                            currentList = listId;
+                        }
+                        long taskId = rs.getLong("id");
+                        if (!rs.wasNull()) {
+                            writer.task(taskId, rs.getString("name"), rs.getString("description"),
+                                    rs.getObject("start_date", LocalDate.class), rs.getObject("due_date", LocalDate.class),
+                                    rs.getObject("created_at", LocalDateTime.class), rs.getInt("position"),
+                                    rs.getObject("version", Long.class), (Long[]) rs.getArray("dependency_ids").getArray());
+                        }
+                    } catch (IOException e) {
+                        // Client went away; stop reading rows
+                        throw new UncheckedIOException(e);
+                    }
+                }
+            });
+            writer.finish();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
 
     public BoardListDto create(BoardList list, User user) {
-        // auto-set position
-        int nextPosition = listRepo.findByProjectIdOrderByPositionAsc(list.getProject().getId()).size() + 1;
-        list.setPosition(nextPosition);
+        // append after the current last list
+        list.setOrderKey(FractionalIndex.between(listRepo.findLastOrderKeyByProjectId(list.getProject().getId()), null));
         BoardList saved = listRepo.save(list);
         
         activityService.logListCreated(list.getProject().getId(), user.getUsername(), 
                                      saved.getId(), saved.getName());
+        eventPublisher.publishEvent(new BoardChangeEvent(list.getProject().getId(),
+                BoardChangeEvent.Type.LIST_CREATED, saved.getId(), user.getUsername(), ProjectMapper.toSummaryDto(saved)));
         
         return ProjectMapper.toDto(saved);
     }
 
 
+    /**
+     * Renames or repositions a list. A version in the DTO makes the update conditional on it.
+     */
     public BoardListDto update(Long id, BoardListDto dto, User user) {
         BoardList list = listRepo.findById(id)
                 .orElseThrow(() -> new RuntimeException("List not found"));
         
+        if (dto.getVersion() != null && dto.getVersion() != list.getVersion()) {
+            throw new VersionConflictException("List was modified by someone else", ProjectMapper.toSummaryDto(list));
+        }
+        
         String oldValues = String.format("{\"name\":\"%s\",\"position\":%d}", list.getName(), list.getPosition());
         
         list.setName(dto.getName());
         list.setPosition(dto.getPosition());
-        BoardList saved = listRepo.save(list);
+        BoardList saved;
+        try {
+            saved = listRepo.save(list);
+        } catch (ObjectOptimisticLockingFailureException e) {
+            BoardList current = listRepo.findById(id)
+                    .orElseThrow(() -> new RuntimeException("List not found"));
+            throw new VersionConflictException("List was modified by someone else", ProjectMapper.toSummaryDto(current));
+        }
         
         String newValues = String.format("{\"name\":\"%s\",\"position\":%d}", saved.getName(), saved.getPosition());
         
         activityService.logListUpdated(list.getProject().getId(), user.getUsername(), 
                                      saved.getId(), saved.getName(), oldValues, newValues);
+        eventPublisher.publishEvent(new BoardChangeEvent(list.getProject().getId(),
+                BoardChangeEvent.Type.LIST_UPDATED, saved.getId(), user.getUsername(), ProjectMapper.toSummaryDto(saved)));
         
         return ProjectMapper.toDto(saved);
     }
 
+    /**
+     * Applies a new list order in one batched UPDATE; positions and order keys follow the order of
+     * the given ids, which must cover every list of the project since the keys start over.
+     * Fails without changes if any id does not belong to the project, and with a
+     * VersionConflictException if lists were added or removed or any changed since the client read it.
+     */
+    @Transactional
+    public void reorder(Long projectId, ReorderDto dto, User user) {
+        projectRepo.findByIdAndUserAccess(projectId, user)
+                .orElseThrow(() -> new RuntimeException("Project not found or access denied"));
+
+        if (dto.getVersions() == null || dto.getVersions().size() != dto.getIds().size()) {
+            throw new IllegalArgumentException("Every reordered list needs its version");
+        }
+        List<Map<String, Object>> current = jdbcTemplate.queryForList(
+                "SELECT id, version FROM board_list WHERE project_id = ? ORDER BY order_key, id", projectId);
+        Set<Long> existing = current.stream().map(row -> ((Number) row.get("id")).longValue()).collect(Collectors.toSet());
+        Set<Long> requested = Set.copyOf(dto.getIds());
+        if (requested.size() != dto.getIds().size()) {
+            throw new IllegalArgumentException("Reorder lists a list more than once");
+        }
+        if (!existing.containsAll(requested)) {
+            throw new IllegalArgumentException("Lists do not belong to project " + projectId);
+        }
+        if (existing.size() != requested.size()) {
+            throw new VersionConflictException("Lists were added to or removed from the project", current);
+        }
+
+        Long[] ids = dto.getIds().toArray(new Long[0]);
+        Long[] versions = dto.getVersions().toArray(new Long[0]);
+        String[] keys = FractionalIndex.initialKeys(ids.length);
+        int updated = jdbcTemplate.update(con -> {
+            var ps = con.prepareStatement(
+                    "UPDATE board_list l SET position = v.ord - 1, order_key = v.order_key, version = l.version + 1 "
+                            + "FROM unnest(?, ?, ?) WITH ORDINALITY AS v(id, order_key, version, ord) "
+                            + "WHERE l.id = v.id AND l.project_id = ? AND l.version = v.version");
+            ps.setArray(1, con.createArrayOf("bigint", ids));
+            ps.setArray(2, con.createArrayOf("varchar", keys));
+            ps.setArray(3, con.createArrayOf("bigint", versions));
+            ps.setLong(4, projectId);
+            return ps;
+        });
+        if (updated != ids.length) {
+            // Stale version or a concurrent change; the exception rolls back the rows that did match
+            throw new VersionConflictException("Lists were modified by someone else", current);
+        }
+
+        activityService.logListsReordered(projectId, user.getUsername(), ids.length);
+        eventPublisher.publishEvent(new BoardChangeEvent(projectId,
+                BoardChangeEvent.Type.LISTS_REORDERED, projectId, user.getUsername(), dto));
+    }
+
+    /**
+     * Moves a list directly after another one by giving it a key between its new neighbours.
+     * Only the moved list is written.
+     */
+    @Transactional
+    public BoardListDto move(Long id, MoveDto dto, User user) {
+        BoardList list = listRepo.findById(id)
+                .orElseThrow(() -> new RuntimeException("List not found"));
+        Long projectId = list.getProject().getId();
+        projectRepo.findByIdAndUserAccess(projectId, user)
+                .orElseThrow(() -> new RuntimeException("Project not found or access denied"));
+
+        String before = null;
+        String after;
+        if (dto.getPreviousId() != null) {
+            BoardList previous = listRepo.findById(dto.getPreviousId())
+                    .orElseThrow(() -> new RuntimeException("List not found"));
+            if (previous.getId().equals(id) || !previous.getProject().getId().equals(projectId)) {
+                throw new IllegalArgumentException("Invalid previous list");
+            }
+            before = previous.getOrderKey();
+            after = listRepo.findNextOrderKey(projectId, before, id);
+        } else {
+            after = listRepo.findFirstOrderKeyByProjectId(projectId, id);
+        }
+
+        String oldValues = String.format("{\"orderKey\":\"%s\"}", list.getOrderKey());
+        list.setOrderKey(FractionalIndex.between(before, after));
+        BoardList saved = listRepo.save(list);
+        String newValues = String.format("{\"orderKey\":\"%s\"}", saved.getOrderKey());
+
+        activityService.logListUpdated(projectId, user.getUsername(),
+                                     saved.getId(), saved.getName(), oldValues, newValues);
+        eventPublisher.publishEvent(new BoardChangeEvent(projectId,
+                BoardChangeEvent.Type.LIST_UPDATED, saved.getId(), user.getUsername(), ProjectMapper.toSummaryDto(saved)));
+        return ProjectMapper.toSummaryDto(saved);
+    }
+
+    /**
+     * Deletes a list with its tasks and every dependency edge touching them, using three set-based
+     * DELETEs in one transaction instead of loading and cascading through each task.
+     */
+    @Transactional
     public void delete(Long id, User user) {
         BoardList list = listRepo.findById(id)
                 .orElseThrow(() -> new RuntimeException("List not found"));
         
+        projectRepo.findByIdAndUserAccess(list.getProject().getId(), user)
+                .orElseThrow(() -> new RuntimeException("Project not found or access denied"));
+        
         activityService.logListDeleted(list.getProject().getId(), user.getUsername(), 
                                      list.getId(), list.getName());
         
-        listRepo.deleteById(id);
+        dependencyRepo.deleteAllTouchingList(id);
+        taskRepo.deleteInBulkByListId(id);
+        listRepo.deleteInBulkById(id);
+        eventPublisher.publishEvent(new BoardChangeEvent(list.getProject().getId(),
+                BoardChangeEvent.Type.LIST_DELETED, id, user.getUsername(), null));
     }
 }
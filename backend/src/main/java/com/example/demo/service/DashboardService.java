@@ -0,0 +1,245 @@
+package com.example.demo.service;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.demo.dto.DashboardDto;
+import com.example.demo.entity.User;
+import com.example.demo.event.BoardChangeEvent;
+
+import io.micrometer.core.annotation.Timed;
+
+/**
+ * Builds the dashboard of a user with one grouped query per kind of figure: per-project counts,
+ * the due and overdue tasks, and the recent activity. The three queries run at the same time on
+ * the dashboard executor.
+ *
+ * Results are cached per user for app.dashboard.cache-ttl-seconds. A cached dashboard is dropped
+ * as soon as one of its projects changes on this node, or the user joins or leaves a project, so
+ * the TTL only bounds how stale changes from other nodes can get.
+ */
+@Service
+public class DashboardService {
+
+    // Projects the user owns or collaborates on; every query passes the user id twice for it
+    private static final String ACCESSIBLE =
+            "(p.owner_id = ? OR p.id IN (SELECT project_id FROM project_collaborator WHERE user_id = ?))";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ActivityPartitionService partitionService;
+    private final ThreadPoolTaskExecutor executor;
+
+    @Value("${app.dashboard.cache-ttl-seconds:30}")
+    private long cacheTtlSeconds;
+
+    @Value("${app.dashboard.max-cached-users:10000}")
+    private int maxCachedUsers;
+
+    @Value("${app.dashboard.max-items:10}")
+    private int maxItems;
+
+    // Access-ordered, so the least recently viewed dashboard is evicted first
+    private final Map<Long, Cached> cache = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, Cached> eldest) {
+                    return size() > maxCachedUsers;
+                }
+            });
+
+    // Dashboards being built, so that evictions can tell them their result may be stale;
+    // guarded by the cache's lock
+    private final List<Build> builds = new ArrayList<>();
+
+    public DashboardService(JdbcTemplate jdbcTemplate, ActivityPartitionService partitionService,
+                            @Qualifier("dashboardExecutor") ThreadPoolTaskExecutor executor) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.partitionService = partitionService;
+        this.executor = executor;
+    }
+
+    @Timed(value = "planner.dashboard", histogram = true)
+    public DashboardDto getDashboard(User user) {
+        Cached cached = cache.get(user.getId());
+        long now = System.nanoTime();
+        if (cached != null && now - cached.builtAt < TimeUnit.SECONDS.toNanos(cacheTtlSeconds)) {
+            return cached.dashboard;
+        }
+        Build build = new Build(user.getId());
+        synchronized (cache) {
+            builds.add(build);
+        }
+        DashboardDto dashboard;
+        try {
+            dashboard = build(user.getId());
+        } finally {
+            synchronized (cache) {
+                builds.remove(build);
+            }
+        }
+        Set<Long> projectIds = new HashSet<>();
+        dashboard.getProjects().forEach(project -> projectIds.add(project.getId()));
+        synchronized (cache) {
+            // An eviction that ran while building may have hit an empty slot; the result could
+            // then hold rows from before that change and is returned without being cached
+            if (!build.userChanged && Collections.disjoint(build.changedProjects, projectIds)) {
+                cache.put(user.getId(), new Cached(dashboard, projectIds, now));
+            }
+        }
+        return dashboard;
+    }
+
+    /**
+     * Drops the cached dashboard of a user whose set of projects changed.
+     */
+    public void evictUser(Long userId) {
+        evictNowAndAfterCommit(() -> {
+            synchronized (cache) {
+                cache.remove(userId);
+                builds.stream().filter(build -> build.userId == userId).forEach(build -> build.userChanged = true);
+            }
+        });
+    }
+
+    /**
+     * Drops every cached dashboard that shows the project.
+     */
+    public void evictProject(Long projectId) {
+        evictNowAndAfterCommit(() -> {
+            synchronized (cache) {
+                cache.values().removeIf(cached -> cached.projectIds.contains(projectId));
+                builds.forEach(build -> build.changedProjects.add(projectId));
+            }
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBoardChange(BoardChangeEvent event) {
+        evictProject(event.getProjectId());
+    }
+
+    private void evictNowAndAfterCommit(Runnable eviction) {
+        eviction.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // Again once committed, in case a dashboard was rebuilt from the old rows in between
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eviction.run();
+                }
+            });
+        }
+    }
+
+    private DashboardDto build(long userId) {
+        LocalDate today = LocalDate.now();
+        LocalDate weekEnd = today.with(TemporalAdjusters.nextOrSame(DayOfWeek.SUNDAY));
+        DashboardDto dashboard = new DashboardDto();
+        dashboard.setGeneratedAt(LocalDateTime.now());
+
+        // Each query fills its own part of the DTO, so they need no coordination
+        CompletableFuture<Void> projects = CompletableFuture.runAsync(
+                () -> loadProjects(userId, today, weekEnd, dashboard), executor);
+        CompletableFuture<Void> dueTasks = CompletableFuture.runAsync(
+                () -> loadDueTasks(userId, today, weekEnd, dashboard), executor);
+        CompletableFuture<Void> activity = CompletableFuture.runAsync(
+                () -> loadRecentActivity(userId, dashboard), executor);
+        try {
+            CompletableFuture.allOf(projects, dueTasks, activity).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+        return dashboard;
+    }
+
+    private void loadProjects(long userId, LocalDate today, LocalDate weekEnd, DashboardDto dashboard) {
+        List<DashboardDto.ProjectSummary> projects = jdbcTemplate.query(
+                "SELECT p.id, p.name, p.owner_id = ? AS owned, count(t.id) AS tasks, "
+                        + "count(t.id) FILTER (WHERE t.due_date < ?) AS overdue, "
+                        + "count(t.id) FILTER (WHERE t.due_date BETWEEN ? AND ?) AS due_this_week "
+                        + "FROM project p LEFT JOIN board_list l ON l.project_id = p.id "
+                        + "LEFT JOIN task t ON t.list_id = l.id "
+                        + "WHERE " + ACCESSIBLE + " GROUP BY p.id, p.name, p.owner_id ORDER BY p.name, p.id",
+                (rs, rowNum) -> new DashboardDto.ProjectSummary(rs.getLong("id"), rs.getString("name"),
+                        rs.getBoolean("owned"), rs.getLong("tasks"), rs.getLong("overdue"), rs.getLong("due_this_week")),
+                userId, Date.valueOf(today), Date.valueOf(today), Date.valueOf(weekEnd), userId, userId);
+        dashboard.setProjects(projects);
+        dashboard.setOwnedProjects((int) projects.stream().filter(DashboardDto.ProjectSummary::isOwned).count());
+        dashboard.setSharedProjects(projects.size() - dashboard.getOwnedProjects());
+        dashboard.setOverdueTasks(projects.stream().mapToLong(DashboardDto.ProjectSummary::getOverdueTasks).sum());
+        dashboard.setTasksDueThisWeek(projects.stream().mapToLong(DashboardDto.ProjectSummary::getTasksDueThisWeek).sum());
+    }
+
+    /**
+     * The first few overdue and due-this-week tasks, ranked separately within one query.
+     */
+    private void loadDueTasks(long userId, LocalDate today, LocalDate weekEnd, DashboardDto dashboard) {
+        jdbcTemplate.query(
+                "SELECT id, name, due_date, project_id, project_name, overdue FROM ("
+                        + "SELECT t.id, t.name, t.due_date, p.id AS project_id, p.name AS project_name, "
+                        + "t.due_date < ? AS overdue, "
+                        + "row_number() OVER (PARTITION BY t.due_date < ? ORDER BY t.due_date, t.id) AS rank "
+                        + "FROM task t JOIN board_list l ON l.id = t.list_id JOIN project p ON p.id = l.project_id "
+                        + "WHERE t.due_date <= ? AND " + ACCESSIBLE + ") ranked "
+                        + "WHERE rank <= ? ORDER BY due_date, id",
+                rs -> {
+                    DashboardDto.DueTask task = new DashboardDto.DueTask(rs.getLong("id"), rs.getString("name"),
+                            rs.getDate("due_date").toLocalDate(), rs.getLong("project_id"), rs.getString("project_name"));
+                    (rs.getBoolean("overdue") ? dashboard.getOverdue() : dashboard.getDueThisWeek()).add(task);
+                },
+                Date.valueOf(today), Date.valueOf(today), Date.valueOf(weekEnd), userId, userId, maxItems);
+    }
+
+    private void loadRecentActivity(long userId, DashboardDto dashboard) {
+        dashboard.setRecentActivity(jdbcTemplate.query(
+                "SELECT a.id, a.project_id, p.name AS project_name, u.username, a.action, a.description, a.timestamp "
+                        + "FROM project_activity a JOIN project p ON p.id = a.project_id "
+                        + "JOIN app_user u ON u.id = a.user_id "
+                        // Bounded by the hot window so PostgreSQL only reads the recent partitions
+                        + "WHERE a.timestamp >= ? AND " + ACCESSIBLE + " "
+                        + "ORDER BY a.timestamp DESC, a.id DESC LIMIT ?",
+                (rs, rowNum) -> new DashboardDto.RecentActivity(rs.getLong("id"), rs.getLong("project_id"),
+                        rs.getString("project_name"), rs.getString("username"), rs.getString("action"),
+                        rs.getString("description"), rs.getTimestamp("timestamp").toLocalDateTime()),
+                Timestamp.valueOf(partitionService.hotWindowStart()), userId, userId, maxItems));
+    }
+
+    private record Cached(DashboardDto dashboard, Set<Long> projectIds, long builtAt) {
+    }
+
+    private static final class Build {
+        private final long userId;
+        private final Set<Long> changedProjects = new HashSet<>();
+        private boolean userChanged;
+
+        private Build(long userId) {
+            this.userId = userId;
+        }
+    }
+}
@@ -2,16 +2,20 @@ package com.example.demo.service;
 
 import java.util.List;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.example.demo.dto.DependencyDto;
 import com.example.demo.entity.Dependency;
 import com.example.demo.entity.Task;
 import com.example.demo.entity.User;
+import com.example.demo.event.BoardChangeEvent;
 import com.example.demo.repository.DependencyRepository;
 import com.example.demo.repository.TaskRepository;
 import com.example.demo.strategy.CycleDetectionStrategy;
 
+import io.micrometer.core.annotation.Timed;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 
@@ -28,11 +32,13 @@ public class DependencyService {
     private final TaskRepository taskRepo;
     private final CycleDetectionStrategy cycleDetectionStrategy;
     private final ProjectActivityService activityService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Adds a dependency between two tasks and logs the activity.
      * Validates that tasks belong to the same project and prevents cycles.
      */
+    @Timed(value = "planner.dependency.add", histogram = true)
     public Dependency addDependency(Long taskId, Long dependsOnId, User user) {
         if (taskId.equals(dependsOnId)) {
             throw new IllegalArgumentException("Task cannot depend on itself.");
@@ -63,6 +69,8 @@ public class DependencyService {
         
         activityService.logDependencyAdded(projectId1, user.getUsername(), 
                                          task.getName(), dependsOn.getName());
+        eventPublisher.publishEvent(new BoardChangeEvent(projectId1, BoardChangeEvent.Type.DEPENDENCY_ADDED,
+                saved.getId(), user.getUsername(), DependencyDto.from(saved)));
         
         return saved;
     }
@@ -82,6 +90,8 @@ public class DependencyService {
                                            existing.getTask().getName(), existing.getDependsOn().getName());
         
         dependencyRepo.delete(existing);
+        eventPublisher.publishEvent(new BoardChangeEvent(projectId, BoardChangeEvent.Type.DEPENDENCY_REMOVED,
+                existing.getId(), user.getUsername(), DependencyDto.from(existing)));
     }
 
     /**
@@ -0,0 +1,331 @@
+package com.example.demo.service;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.demo.util.TextTemplate;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Builds the daily digest emails from the activity log.
+ *
+ * Due projects are digested in chunks of app.digest.chunk-size, each in its own transaction. A
+ * chunk locks its checkpoint rows and streams each project's activities since its own checkpoint
+ * once, fanning them out to every member except the actor. Within the chunk each user gets a
+ * single email covering all of their projects. These are queued in the email outbox with batched
+ * inserts, and the chunk's checkpoints move forward in the same commit. A crash therefore loses
+ * at most the chunk in progress, and the next run resumes from the checkpoints. A project whose
+ * queries fail is rolled back to a savepoint and keeps its checkpoint for the next run. A second
+ * node running the job skips the checkpoints that are locked and takes the remaining chunks.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DigestService {
+
+    private static final TextTemplate SUBJECT = TextTemplate.compile("Daily digest: {{project}}");
+
+    private static final TextTemplate SUBJECT_MANY = TextTemplate.compile("Daily digest: {{count}} projects");
+
+    private static final TextTemplate BODY = TextTemplate.compile("""
+            Hello {{username}},
+
+            Here is what happened in your projects:
+
+            {{sections}}Best regards,
+            Dependency Aware Planner Team
+            """);
+
+    private static final TextTemplate SECTION = TextTemplate.compile("""
+            "{{project}}" since {{since}}:
+
+            {{items}}{{more}}
+            Open the board: {{boardUrl}}
+
+            """);
+
+    private static final TextTemplate ITEM = TextTemplate.compile("- {{time}} {{actor}}: {{description}}\n");
+
+    private static final TextTemplate MORE = TextTemplate.compile("...and {{count}} more\n");
+
+    private static final DateTimeFormatter ITEM_TIME = DateTimeFormatter.ofPattern("MMM d HH:mm");
+    private static final DateTimeFormatter SINCE = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.frontend.url:http://localhost:5173}")
+    private String frontendUrl;
+
+    @Value("${app.digest.max-items:50}")
+    private int maxItems;
+
+    @Value("${app.digest.chunk-size:200}")
+    private int chunkSize;
+
+    @Value("${app.digest.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.digest.fetch-size:1000}")
+    private int fetchSize;
+
+    // Activities newer than this are left for the next run, so transactions still committing are not skipped
+    @Value("${app.digest.settle-seconds:60}")
+    private int settleSeconds;
+
+    /**
+     * Queues one digest for every user with activity to report in any of their projects.
+     *
+     * @return number of digest emails queued
+     */
+    public int generateDigests() {
+        LocalDateTime until = LocalDateTime.now().minusSeconds(settleSeconds);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        // New projects start with the last day of history rather than their whole log
+        jdbcTemplate.update(
+                "INSERT INTO digest_checkpoint (project_id, digested_until, updated_at) "
+                        + "SELECT id, ?, ? FROM project ON CONFLICT (project_id) DO NOTHING",
+                Timestamp.valueOf(until.minusDays(1)), now);
+
+        int emails = 0;
+        int[] failed = { 0 };
+        long[] after = { 0 };
+        while (true) {
+            Integer queued = transactionTemplate.execute(status -> digestChunk(status, after, until, now, failed));
+            if (queued == null) {
+                break;
+            }
+            emails += queued;
+        }
+        log.info("Queued {} digest emails ({} projects failed)", emails, failed[0]);
+        return emails;
+    }
+
+    /**
+     * Digests the next chunk of due projects after {@code after[0]} and commits their emails and
+     * checkpoints together.
+     *
+     * @return emails queued, or null once no due project is left
+     */
+    private Integer digestChunk(TransactionStatus status, long[] after, LocalDateTime until, Timestamp now, int[] failed) {
+        Map<Long, LocalDateTime> checkpoints = new LinkedHashMap<>();
+        jdbcTemplate.query(
+                "SELECT project_id, digested_until FROM digest_checkpoint "
+                        + "WHERE digested_until < ? AND project_id > ? "
+                        + "ORDER BY project_id LIMIT ? FOR UPDATE SKIP LOCKED",
+                rs -> {
+                    checkpoints.put(rs.getLong("project_id"), rs.getTimestamp("digested_until").toLocalDateTime());
+                },
+                Timestamp.valueOf(until), after[0], chunkSize);
+        if (checkpoints.isEmpty()) {
+            return null;
+        }
+
+        Map<Long, Recipient> recipients = new LinkedHashMap<>();
+        List<Object[]> digested = new ArrayList<>();
+        for (Map.Entry<Long, LocalDateTime> checkpoint : checkpoints.entrySet()) {
+            Long projectId = checkpoint.getKey();
+            after[0] = projectId;
+            Object savepoint = status.createSavepoint();
+            try {
+                Map<Long, Recipient> members = digestProject(projectId, checkpoint.getValue(), until);
+                status.releaseSavepoint(savepoint);
+                members.forEach((userId, member) -> recipients.merge(userId, member, Recipient::addAll));
+                digested.add(new Object[] { Timestamp.valueOf(until), now, projectId });
+            } catch (RuntimeException e) {
+                // The checkpoint does not move, so the next run picks the project up again
+                status.rollbackToSavepoint(savepoint);
+                failed[0]++;
+                log.warn("Digest for project {} failed: {}", projectId, e.getMessage());
+            }
+        }
+
+        int count = enqueue(render(recipients.values()));
+        for (int from = 0; from < digested.size(); from += batchSize) {
+            jdbcTemplate.batchUpdate(
+                    "UPDATE digest_checkpoint SET digested_until = ?, updated_at = ? WHERE project_id = ?",
+                    digested.subList(from, Math.min(from + batchSize, digested.size())));
+        }
+        return count;
+    }
+
+    /**
+     * Collects one project's activities between its checkpoint and {@code until} into a section per member.
+     *
+     * @return members by user id, each holding only this project's section
+     */
+    private Map<Long, Recipient> digestProject(Long projectId, LocalDateTime since, LocalDateTime until) {
+        List<String> projectNames = jdbcTemplate.queryForList(
+                "SELECT name FROM project WHERE id = ?", String.class, projectId);
+        if (projectNames.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, Recipient> members = loadRecipients(projectId);
+        if (members.isEmpty()) {
+            return members;
+        }
+        Map<Long, Section> sections = new LinkedHashMap<>();
+        members.forEach((userId, member) -> sections.put(userId, member.section(projectId, projectNames.get(0), since)));
+        collectActivities(projectId, since, until, sections);
+        return members;
+    }
+
+    private Map<Long, Recipient> loadRecipients(Long projectId) {
+        Map<Long, Recipient> recipients = new LinkedHashMap<>();
+        jdbcTemplate.query(
+                "SELECT u.id, u.username, u.email FROM app_user u WHERE u.email_verified "
+                        + "AND (u.id = (SELECT owner_id FROM project WHERE id = ?) "
+                        + "OR u.id IN (SELECT user_id FROM project_collaborator WHERE project_id = ?))",
+                rs -> {
+                    recipients.put(rs.getLong("id"), new Recipient(rs.getString("username"), rs.getString("email")));
+                },
+                projectId, projectId);
+        return recipients;
+    }
+
+    /**
+     * Streams the project's activities in the window and adds each one, rendered once, to the section
+     * of every member other than the actor.
+     */
+    private void collectActivities(Long projectId, LocalDateTime since, LocalDateTime until, Map<Long, Section> sections) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(
+                    "SELECT a.user_id, u.username, a.action, a.description, a.timestamp "
+                            + "FROM project_activity a JOIN app_user u ON u.id = a.user_id "
+                            + "WHERE a.project_id = ? AND a.timestamp > ? AND a.timestamp <= ? "
+                            + "ORDER BY a.timestamp, a.id");
+            ps.setLong(1, projectId);
+            ps.setTimestamp(2, Timestamp.valueOf(since));
+            ps.setTimestamp(3, Timestamp.valueOf(until));
+            // Runs inside the transaction, so PostgreSQL fetches through a cursor instead of buffering every row
+            ps.setFetchSize(fetchSize);
+            return ps;
+        }, rs -> {
+            long actorId = rs.getLong("user_id");
+            String description = rs.getString("description");
+            values.put("time", rs.getTimestamp("timestamp").toLocalDateTime().format(ITEM_TIME));
+            values.put("actor", rs.getString("username"));
+            values.put("description", description != null ? description : rs.getString("action"));
+            String item = null;
+            for (Map.Entry<Long, Section> entry : sections.entrySet()) {
+                if (entry.getKey() == actorId) {
+                    continue;
+                }
+                Section section = entry.getValue();
+                if (section.items.size() < maxItems) {
+                    if (item == null) {
+                        item = ITEM.render(values);
+                    }
+                    section.items.add(item);
+                } else {
+                    section.overflow++;
+                }
+            }
+        });
+    }
+
+    /**
+     * Renders one email per recipient with a section for each project that had activity; recipients
+     * with nothing to report are left out.
+     *
+     * @return rows of recipient address, subject and body
+     */
+    List<String[]> render(Collection<Recipient> recipients) {
+        List<String[]> emails = new ArrayList<>();
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (Recipient recipient : recipients) {
+            List<Section> active = recipient.sections.values().stream()
+                    .filter(section -> !section.items.isEmpty())
+                    .toList();
+            if (active.isEmpty()) {
+                continue;
+            }
+            StringBuilder sections = new StringBuilder();
+            for (Section section : active) {
+                StringBuilder items = new StringBuilder();
+                section.items.forEach(items::append);
+                values.clear();
+                values.put("project", section.projectName);
+                values.put("since", section.since.format(SINCE));
+                values.put("items", items);
+                values.put("more", section.overflow > 0 ? MORE.render(Map.of("count", section.overflow)) : "");
+                values.put("boardUrl", frontendUrl + "/projects/" + section.projectId);
+                sections.append(SECTION.render(values));
+            }
+            String subject = active.size() == 1
+                    ? SUBJECT.render(Map.of("project", active.get(0).projectName))
+                    : SUBJECT_MANY.render(Map.of("count", active.size()));
+            String body = BODY.render(Map.of("username", recipient.username, "sections", sections));
+            emails.add(new String[] { recipient.email, subject, body });
+        }
+        return emails;
+    }
+
+    private int enqueue(List<String[]> emails) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>();
+        for (String[] email : emails) {
+            rows.add(new Object[] { email[0], email[1], email[2], now, now });
+        }
+        for (int from = 0; from < rows.size(); from += batchSize) {
+            jdbcTemplate.batchUpdate(
+                    "INSERT INTO email_outbox (recipient, subject, body, status, attempts, next_attempt_at, created_at) "
+                            + "VALUES (?, ?, ?, 'PENDING', 0, ?, ?)",
+                    rows.subList(from, Math.min(from + batchSize, rows.size())));
+        }
+        return rows.size();
+    }
+
+    /**
+     * One user's digest, with a section per project in checkpoint order.
+     */
+    static final class Recipient {
+        private final String username;
+        private final String email;
+        private final Map<Long, Section> sections = new LinkedHashMap<>();
+
+        Recipient(String username, String email) {
+            this.username = username;
+            this.email = email;
+        }
+
+        Section section(Long projectId, String projectName, LocalDateTime since) {
+            return sections.computeIfAbsent(projectId, id -> new Section(id, projectName, since));
+        }
+
+        Recipient addAll(Recipient other) {
+            sections.putAll(other.sections);
+            return this;
+        }
+    }
+
+    static final class Section {
+        private final Long projectId;
+        private final String projectName;
+        private final LocalDateTime since;
+        final List<String> items = new ArrayList<>();
+        int overflow;
+
+        private Section(Long projectId, String projectName, LocalDateTime since) {
+            this.projectId = projectId;
+            this.projectName = projectName;
+            this.since = since;
+        }
+    }
+}
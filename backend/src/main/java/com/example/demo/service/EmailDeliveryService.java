@@ -0,0 +1,112 @@
+package com.example.demo.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import com.example.demo.entity.EmailOutbox;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Drains the email outbox. Each poll claims a batch of due emails and sends them on the email
+ * worker pool; failures are retried with exponential backoff and moved to DEAD after the
+ * configured number of attempts.
+ */
+@Slf4j
+@Service
+public class EmailDeliveryService {
+
+    private final EmailOutboxService outboxService;
+    private final JavaMailSender mailSender;
+    private final ThreadPoolTaskExecutor executor;
+
+    @Value("${app.email.from:${spring.mail.username}}")
+    private String fromEmail;
+
+    @Value("${app.email.outbox.batch-size:20}")
+    private int batchSize;
+
+    @Value("${app.email.outbox.max-attempts:8}")
+    private int maxAttempts;
+
+    @Value("${app.email.outbox.initial-backoff-ms:30000}")
+    private long initialBackoffMs;
+
+    @Value("${app.email.outbox.max-backoff-ms:3600000}")
+    private long maxBackoffMs;
+
+    @Value("${app.email.outbox.lease-ms:120000}")
+    private long leaseMs;
+
+    // Lazy so Jakarta Mail is only loaded when the first email actually goes out; MailConfig makes the bean lazy too
+    public EmailDeliveryService(EmailOutboxService outboxService, @Lazy JavaMailSender mailSender,
+                                @Qualifier("emailExecutor") ThreadPoolTaskExecutor executor) {
+        this.outboxService = outboxService;
+        this.mailSender = mailSender;
+        this.executor = executor;
+    }
+
+    /**
+     * Sends one batch of due emails and waits for it, so polls never overlap on a node.
+     */
+    @Scheduled(fixedDelayString = "${app.email.outbox.poll-interval-ms:2000}")
+    public void deliverDue() {
+        List<EmailOutbox> claimed = outboxService.claimDue(batchSize, LocalDateTime.now().plus(Duration.ofMillis(leaseMs)),
+                maxAttempts);
+        if (claimed.isEmpty()) {
+            return;
+        }
+        CompletableFuture.allOf(claimed.stream()
+                .map(email -> CompletableFuture.runAsync(() -> deliver(email), executor))
+                .toArray(CompletableFuture[]::new))
+                .join();
+    }
+
+    private void deliver(EmailOutbox email) {
+        try {
+            SimpleMailMessage message = new SimpleMailMessage();
+            message.setFrom(fromEmail);
+            message.setTo(email.getRecipient());
+            message.setSubject(email.getSubject());
+            message.setText(email.getBody());
+            mailSender.send(message);
+            outboxService.markSent(email.getId());
+        } catch (RuntimeException e) {
+            // Not only MailException: a failed markSent must not leave the row in SENDING
+            String error = e.getMessage();
+            if (email.getAttempts() >= maxAttempts) {
+                log.warn("Giving up on email {} to {} after {} attempts: {}", email.getId(), email.getRecipient(),
+                        email.getAttempts(), error);
+                outboxService.markDead(email.getId(), error);
+            } else {
+                Duration delay = backoff(email.getAttempts(), Duration.ofMillis(initialBackoffMs), Duration.ofMillis(maxBackoffMs));
+                // +-20% jitter so a mail server outage does not end in synchronized retry waves
+                long jittered = (long) (delay.toMillis() * ThreadLocalRandom.current().nextDouble(0.8, 1.2));
+                log.debug("Email {} failed (attempt {}), retrying in {} ms: {}", email.getId(), email.getAttempts(),
+                        jittered, error);
+                outboxService.markForRetry(email.getId(), error, LocalDateTime.now().plus(Duration.ofMillis(jittered)));
+            }
+        }
+    }
+
+    /**
+     * Delay before the next attempt after {@code attempts} failed ones: initial, 2x, 4x, ... capped at max.
+     */
+    static Duration backoff(int attempts, Duration initial, Duration max) {
+        int doublings = Math.min(Math.max(attempts - 1, 0), 30);
+        Duration delay = initial.multipliedBy(1L << doublings);
+        return delay.compareTo(max) > 0 ? max : delay;
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.demo.service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import com.example.demo.entity.EmailOutbox;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Row-level bookkeeping of the email outbox for the delivery workers.
+ * Each statement runs on its own, so no transaction is held open while talking to SMTP.
+ */
+@Service
+@RequiredArgsConstructor
+public class EmailOutboxService {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Claims up to {@code limit} due emails and leases them until {@code leaseUntil}.
+     * SKIP LOCKED lets several nodes poll concurrently without handing out the same row; rows whose
+     * lease expired (a worker died mid-send) become due again, unless they already used
+     * {@code maxAttempts}, in which case they are moved to DEAD instead of being claimed forever.
+     */
+    public List<EmailOutbox> claimDue(int limit, LocalDateTime leaseUntil, int maxAttempts) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update(
+                "UPDATE email_outbox SET status = 'DEAD', locked_until = NULL, "
+                        + "last_error = COALESCE(last_error, 'Lease expired after the last attempt') "
+                        + "WHERE status = 'SENDING' AND locked_until < ? AND attempts >= ?",
+                now, maxAttempts);
+        return jdbcTemplate.query(
+                "UPDATE email_outbox SET status = 'SENDING', attempts = attempts + 1, locked_until = ? "
+                        + "WHERE id IN (SELECT id FROM email_outbox "
+                        + "WHERE ((status = 'PENDING' AND next_attempt_at <= ?) OR (status = 'SENDING' AND locked_until < ?)) "
+                        + "AND attempts < ? "
+                        + "ORDER BY next_attempt_at LIMIT ? FOR UPDATE SKIP LOCKED) "
+                        + "RETURNING id, recipient, subject, body, attempts",
+                (rs, rowNum) -> {
+                    EmailOutbox email = new EmailOutbox(rs.getString("recipient"), rs.getString("subject"), rs.getString("body"));
+                    email.setId(rs.getLong("id"));
+                    email.setAttempts(rs.getInt("attempts"));
+                    email.setStatus(EmailOutbox.Status.SENDING);
+                    return email;
+                },
+                Timestamp.valueOf(leaseUntil), now, now, maxAttempts, limit);
+    }
+
+    public void markSent(Long id) {
+        jdbcTemplate.update(
+                "UPDATE email_outbox SET status = 'SENT', sent_at = ?, locked_until = NULL, last_error = NULL WHERE id = ?",
+                Timestamp.valueOf(LocalDateTime.now()), id);
+    }
+
+    /**
+     * Puts a failed email back in the queue for {@code nextAttemptAt}.
+     */
+    public void markForRetry(Long id, String error, LocalDateTime nextAttemptAt) {
+        jdbcTemplate.update(
+                "UPDATE email_outbox SET status = 'PENDING', next_attempt_at = ?, locked_until = NULL, last_error = ? WHERE id = ?",
+                Timestamp.valueOf(nextAttemptAt), error, id);
+    }
+
+    /**
+     * Gives up on an email; it stays in the table with status DEAD for inspection.
+     */
+    public void markDead(Long id, String error) {
+        jdbcTemplate.update(
+                "UPDATE email_outbox SET status = 'DEAD', locked_until = NULL, last_error = ? WHERE id = ?",
+                error, id);
+    }
+
+    /**
+     * Deletes delivered emails older than the given time.
+     *
+     * @return number of rows removed
+     */
+    public int purgeSent(LocalDateTime olderThan) {
+        return jdbcTemplate.update("DELETE FROM email_outbox WHERE status = 'SENT' AND sent_at < ?",
+                Timestamp.valueOf(olderThan));
+    }
+}
@@ -2,34 +2,33 @@ package com.example.demo.service;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.example.demo.entity.EmailOutbox;
 import com.example.demo.entity.User;
+import com.example.demo.repository.EmailOutboxRepository;
 import com.example.demo.entity.ProjectInvitation;
 
+/**
+ * Composes application emails and queues them in the email outbox.
+ * The outbox row joins the caller's transaction, so a mail is only sent if the change that
+ * triggered it commits; EmailDeliveryService does the actual SMTP work in the background.
+ */
 @Service
+@Transactional
 public class EmailService {
     
     @Autowired
-    private JavaMailSender mailSender;
+    private EmailOutboxRepository outboxRepository;
     
     @Value("${app.frontend.url:http://localhost:5173}")
     private String frontendUrl;
     
-    @Value("${spring.mail.username}")
-    private String fromEmail;
-    
     public void sendVerificationEmail(User user, String verificationToken) {
-        SimpleMailMessage message = new SimpleMailMessage();
-        message.setFrom(fromEmail);
-        message.setTo(user.getEmail());
-        message.setSubject("Verify Your Email Address");
-        
         String verificationUrl = frontendUrl + "/verify-email?token=" + verificationToken;
         
-        message.setText(
+        enqueue(user.getEmail(), "Verify Your Email Address",
             "Hello " + user.getUsername() + ",\n\n" +
             "Thank you for registering! Please click the link below to verify your email address:\n\n" +
             verificationUrl + "\n\n" +
@@ -38,35 +37,23 @@ public class EmailService {
             "Best regards,\n" +
             "Dependency Aware Planner Team"
         );
-        
-        mailSender.send(message);
     }
     
     public void sendVerificationSuccessEmail(User user) {
-        SimpleMailMessage message = new SimpleMailMessage();
-        message.setFrom(fromEmail);
-        message.setTo(user.getEmail());
-        message.setSubject("Email Verified Successfully");
-        
-        message.setText(
+        enqueue(user.getEmail(), "Email Verified Successfully",
             "Hello " + user.getUsername() + ",\n\n" +
             "Your email has been successfully verified! You can now log in to your account.\n\n" +
             "Best regards,\n" +
             "Dependency Aware Planner Team"
         );
-        
-        mailSender.send(message);
     }
     
     public void sendProjectInvitationEmail(ProjectInvitation invitation) {
-        SimpleMailMessage message = new SimpleMailMessage();
-        message.setFrom(fromEmail);
-        message.setTo(invitation.getInvitedEmail());
-        message.setSubject("Project Collaboration Invitation: " + invitation.getProject().getName());
-        
         String invitationUrl = frontendUrl + "/invitation/" + invitation.getToken();
         
-        message.setText("""
+        enqueue(invitation.getInvitedEmail(),
+                "Project Collaboration Invitation: " + invitation.getProject().getName(),
+                """
             Hello,
             
             You have been invited to collaborate on the project "%s" by %s.
@@ -93,7 +80,9 @@ public class EmailService {
                 invitationUrl,
                 invitation.getExpiresAt()
             ));
-        
-        mailSender.send(message);
+    }
+    
+    private void enqueue(String recipient, String subject, String body) {
+        outboxRepository.save(new EmailOutbox(recipient, subject, body));
     }
 }
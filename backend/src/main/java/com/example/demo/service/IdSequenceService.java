@@ -0,0 +1,51 @@
+package com.example.demo.service;
+
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Moves the pooled id sequences of tasks, lists and dependencies past the ids already in use.
+ * Those tables were filled through identity columns before the entities switched to sequences,
+ * so a freshly created sequence would hand out ids that already exist.
+ */
+@Slf4j
+@Service
+public class IdSequenceService {
+
+    // Must match the allocationSize of the entities' @SequenceGenerator
+    static final int ALLOCATION_SIZE = 50;
+
+    private static final Map<String, String> SEQUENCES = Map.of(
+            "task", "task_seq",
+            "board_list", "board_list_seq",
+            "dependency", "dependency_seq");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // The EntityManagerFactory is only a dependency so the schema update has created the sequences
+    public IdSequenceService(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    public void synchronizeSequences() {
+        SEQUENCES.forEach((table, sequence) -> {
+            // Hibernate's pooled optimizer hands out (value - allocationSize, value], so stay one block ahead
+            Long moved = jdbcTemplate.query(
+                    "SELECT setval('" + sequence + "', m.max_id + ?) FROM "
+                            + "(SELECT COALESCE(MAX(id), 0) AS max_id FROM " + table + ") m "
+                            + "WHERE (SELECT last_value FROM " + sequence + ") < m.max_id + ?",
+                    rs -> rs.next() ? rs.getLong(1) : null,
+                    ALLOCATION_SIZE, ALLOCATION_SIZE);
+            if (moved != null) {
+                log.info("Advanced {} to {}", sequence, moved);
+            }
+        });
+    }
+}
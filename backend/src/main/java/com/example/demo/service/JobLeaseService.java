@@ -0,0 +1,181 @@
+package com.example.demo.service;
+
+import java.net.InetAddress;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import com.example.demo.entity.JobLease;
+import com.example.demo.repository.JobLeaseRepository;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Makes each scheduled job run on one node of the cluster at a time.
+ *
+ * Every node still fires its own @Scheduled triggers; the first one to take the job's lease row
+ * runs the work and the others skip. The lease is short and extended by heartbeats while the job
+ * runs, so a node that dies mid-run frees the job within one lease period. On completion the
+ * lease is kept until {@code minHold} after the start, which stops nodes whose triggers fire a
+ * little later from running the same occurrence again.
+ *
+ * All lease times come from the database clock (LOCALTIMESTAMP), so clock skew between nodes
+ * cannot make a live lease look expired or keep an expired one alive.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class JobLeaseService {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JobLeaseRepository jobLeaseRepository;
+
+    @Value("${app.jobs.node-id:}")
+    private String configuredNodeId;
+
+    @Value("${app.jobs.lease-ms:60000}")
+    private long leaseMs;
+
+    private String nodeId;
+    private ScheduledExecutorService heartbeats;
+
+    @PostConstruct
+    public void initialize() {
+        nodeId = configuredNodeId.isBlank() ? defaultNodeId() : configuredNodeId;
+        // Own thread so heartbeats keep going while the scheduler thread is busy with the job
+        heartbeats = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "job-lease-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeats.shutdownNow();
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * Runs {@code work} if this node can take the job's lease, and records the run.
+     *
+     * @param job     unique job name
+     * @param minHold how long after the start other nodes stay locked out, even if the work is quicker
+     * @param work    the job; returns the number of rows it touched
+     * @return true if the job ran here, false if another node holds it
+     */
+    public boolean runExclusive(String job, Duration minHold, IntSupplier work) {
+        LocalDateTime startedAt = tryAcquire(job);
+        if (startedAt == null) {
+            log.debug("Skipping job {}: leased by another node", job);
+            return false;
+        }
+
+        ScheduledFuture<?> heartbeat = heartbeats.scheduleAtFixedRate(
+                () -> heartbeat(job), leaseMs / 3, leaseMs / 3, TimeUnit.MILLISECONDS);
+        long start = System.nanoTime();
+        Integer rows = null;
+        RuntimeException failure = null;
+        try {
+            rows = work.getAsInt();
+        } catch (RuntimeException e) {
+            failure = e;
+        } finally {
+            heartbeat.cancel(false);
+        }
+
+        long durationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        release(job, startedAt, minHold, durationMs, rows, failure);
+
+        if (failure != null) {
+            log.error("Job {} failed after {} ms", job, durationMs, failure);
+            throw failure;
+        }
+        log.info("Job {} finished in {} ms, {} rows", job, durationMs, rows);
+        return true;
+    }
+
+    public List<JobLease> listJobs() {
+        return jobLeaseRepository.findAllByOrderByJobNameAsc();
+    }
+
+    /**
+     * Takes the lease if the job has no row yet, its lease expired, or this node already owns it.
+     *
+     * @return the database time the lease was taken at, or null if another node holds it
+     */
+    private LocalDateTime tryAcquire(String job) {
+        List<LocalDateTime> acquired = jdbcTemplate.query(
+                "INSERT INTO job_lease (job_name, owner, lease_until, heartbeat_at, run_count) "
+                        + "VALUES (?, ?, LOCALTIMESTAMP + ? * INTERVAL '1 millisecond', LOCALTIMESTAMP, 0) "
+                        + "ON CONFLICT (job_name) DO UPDATE SET owner = EXCLUDED.owner, "
+                        + "lease_until = EXCLUDED.lease_until, heartbeat_at = EXCLUDED.heartbeat_at "
+                        + "WHERE job_lease.lease_until < LOCALTIMESTAMP OR job_lease.owner = EXCLUDED.owner "
+                        + "RETURNING heartbeat_at",
+                (rs, rowNum) -> rs.getTimestamp(1).toLocalDateTime(),
+                job, nodeId, leaseMs);
+        return acquired.isEmpty() ? null : acquired.get(0);
+    }
+
+    private void heartbeat(String job) {
+        try {
+            int updated = jdbcTemplate.update(
+                    "UPDATE job_lease SET lease_until = LOCALTIMESTAMP + ? * INTERVAL '1 millisecond', "
+                            + "heartbeat_at = LOCALTIMESTAMP WHERE job_name = ? AND owner = ?",
+                    leaseMs, job, nodeId);
+            if (updated == 0) {
+                log.warn("Lost the lease of job {} while it was running", job);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Heartbeat for job {} failed: {}", job, e.getMessage());
+        }
+    }
+
+    /**
+     * Records the run and keeps the lease until {@code minHold} after the start, or until now if that is later.
+     */
+    private void release(String job, LocalDateTime startedAt, Duration minHold,
+                         long durationMs, Integer rows, RuntimeException failure) {
+        try {
+            Timestamp started = Timestamp.valueOf(startedAt);
+            jdbcTemplate.update(
+                    "UPDATE job_lease SET lease_until = GREATEST(CAST(? AS timestamp) + ? * INTERVAL '1 millisecond', LOCALTIMESTAMP), "
+                            + "last_started_at = ?, last_finished_at = LOCALTIMESTAMP, "
+                            + "last_duration_ms = ?, last_rows = ?, last_status = ?, last_error = ?, run_count = run_count + 1 "
+                            + "WHERE job_name = ? AND owner = ?",
+                    started, minHold.toMillis(), started,
+                    durationMs, rows, failure == null ? "SUCCEEDED" : "FAILED",
+                    failure == null ? null : String.valueOf(failure.getMessage()), job, nodeId);
+        } catch (RuntimeException e) {
+            // The lease simply expires on its own
+            log.warn("Could not record the run of job {}: {}", job, e.getMessage());
+        }
+    }
+
+    private static String defaultNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            host = "node";
+        }
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
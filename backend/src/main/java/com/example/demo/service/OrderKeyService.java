@@ -0,0 +1,99 @@
+package com.example.demo.service;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.demo.util.FractionalIndex;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps the fractional order keys of lists and tasks short.
+ *
+ * Repeated inserts between the same two neighbours make keys grow by a character every few
+ * inserts, so lists or projects whose longest key passes the configured length get fresh
+ * short keys in their current order. The same pass assigns keys to rows created before order keys
+ * existed, in their legacy position order.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderKeyService {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.ordering.max-key-length:24}")
+    private int maxKeyLength;
+
+    // The rebalance job catches up later, so nodes added under load can skip the startup pass
+    @Value("${app.startup.maintenance:true}")
+    private boolean startupMaintenance;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillMissingKeys() {
+        if (!startupMaintenance) {
+            return;
+        }
+        rebalance();
+    }
+
+    /**
+     * Rewrites the keys of every project and list that needs it.
+     *
+     * @return number of projects and lists rebalanced
+     */
+    public int rebalance() {
+        int rebalanced = 0;
+        for (Long projectId : groupsToRebalance("board_list", "project_id")) {
+            rewrite("board_list", "project_id", projectId);
+            rebalanced++;
+        }
+        for (Long listId : groupsToRebalance("task", "list_id")) {
+            rewrite("task", "list_id", listId);
+            rebalanced++;
+        }
+        if (rebalanced > 0) {
+            log.info("Rebalanced order keys of {} projects and lists", rebalanced);
+        }
+        return rebalanced;
+    }
+
+    private List<Long> groupsToRebalance(String table, String groupColumn) {
+        return jdbcTemplate.queryForList(
+                "SELECT DISTINCT " + groupColumn + " FROM " + table + " WHERE " + groupColumn + " IS NOT NULL "
+                        + "AND (order_key IS NULL OR length(order_key) > ?)",
+                Long.class, maxKeyLength);
+    }
+
+    /**
+     * Assigns new keys to one group in a single UPDATE. The rows are locked first so they are
+     * read and rewritten in one consistent order. The version is bumped as well, so an edit that
+     * loaded a row before the rewrite fails its version check instead of saving the old key back.
+     */
+    private void rewrite(String table, String groupColumn, Long groupId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Long> ids = jdbcTemplate.queryForList(
+                    "SELECT id FROM " + table + " WHERE " + groupColumn + " = ? "
+                            + "ORDER BY order_key NULLS LAST, position, id FOR UPDATE",
+                    Long.class, groupId);
+            Long[] idArray = ids.toArray(new Long[0]);
+            String[] keys = FractionalIndex.initialKeys(idArray.length);
+            jdbcTemplate.update(con -> {
+                var ps = con.prepareStatement(
+                        "UPDATE " + table + " t SET order_key = v.order_key, version = t.version + 1 "
+                                + "FROM unnest(?, ?) AS v(id, order_key) WHERE t.id = v.id");
+                ps.setArray(1, con.createArrayOf("bigint", idArray));
+                ps.setArray(2, con.createArrayOf("varchar", keys));
+                return ps;
+            });
+        });
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.demo.service;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -10,7 +11,9 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.example.demo.dto.ActivityTrendPointDto;
 import com.example.demo.dto.ProjectActivityDto;
+import com.example.demo.dto.UserActivityCountDto;
 import com.example.demo.entity.Project;
 import com.example.demo.entity.ProjectActivity;
 import com.example.demo.entity.User;
@@ -18,6 +21,9 @@ import com.example.demo.repository.ProjectActivityRepository;
 import com.example.demo.repository.ProjectRepository;
 import com.example.demo.repository.UserRepository;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
 /**
  * Service responsible for logging and retrieving project activity history.
  * Provides methods to track user actions and query activity logs with various filters.
@@ -35,23 +41,35 @@ public class ProjectActivityService {
     @Autowired
     private UserRepository userRepository;
     
+    @Autowired
+    private ActivityPartitionService partitionService;
+    
+    @Autowired
+    private ActivityRollupService rollupService;
+    
+    @Autowired
+    private MeterRegistry meterRegistry;
+    
     /**
      * Logs a basic activity without tracking old/new values.
      * Used for simple actions like creation, deletion, or status changes.
      */
     public void logActivity(Long projectId, String username, ProjectActivity.ActivityType activityType,
                            String entityType, Long entityId, String entityName, String action, String description) {
-        Project project = projectRepository.findById(projectId)
-                .orElseThrow(() -> new RuntimeException("Project not found"));
-        
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-        
-        ProjectActivity activity = new ProjectActivity(
-                project, user, activityType, entityType, entityId, entityName, action, description
-        );
-        
-        activityRepository.save(activity);
+        logTimer(activityType).record(() -> {
+            Project project = projectRepository.findById(projectId)
+                    .orElseThrow(() -> new RuntimeException("Project not found"));
+            
+            User user = userRepository.findByUsername(username)
+                    .orElseThrow(() -> new RuntimeException("User not found"));
+            
+            ProjectActivity activity = new ProjectActivity(
+                    project, user, activityType, entityType, entityId, entityName, action, description
+            );
+            
+            activityRepository.save(activity);
+            rollupService.record(activity);
+        });
     }
     
     /**
@@ -61,26 +79,40 @@ public class ProjectActivityService {
     public void logActivityWithValues(Long projectId, String username, ProjectActivity.ActivityType activityType,
                                      String entityType, Long entityId, String entityName, String action, 
                                      String description, String oldValues, String newValues) {
-        Project project = projectRepository.findById(projectId)
-                .orElseThrow(() -> new RuntimeException("Project not found"));
-        
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-        
-        ProjectActivity activity = new ProjectActivity(
-                project, user, activityType, entityType, entityId, entityName, action, description, oldValues, newValues
-        );
-        
-        activityRepository.save(activity);
+        logTimer(activityType).record(() -> {
+            Project project = projectRepository.findById(projectId)
+                    .orElseThrow(() -> new RuntimeException("Project not found"));
+            
+            User user = userRepository.findByUsername(username)
+                    .orElseThrow(() -> new RuntimeException("User not found"));
+            
+            ProjectActivity activity = new ProjectActivity(
+                    project, user, activityType, entityType, entityId, entityName, action, description, oldValues, newValues
+            );
+            
+            activityRepository.save(activity);
+            rollupService.record(activity);
+        });
+    }
+    
+    /**
+     * Timer behind every log* call, tagged with the activity type. The log* helpers all end up in
+     * the two methods above, so timing them here covers each one.
+     */
+    private Timer logTimer(ProjectActivity.ActivityType activityType) {
+        return Timer.builder("planner.activity.log")
+                .tag("type", activityType.name())
+                .publishPercentileHistogram()
+                .register(meterRegistry);
     }
     
     /**
-     * Retrieves all activities for a project ordered by most recent first.
+     * Retrieves all activities in the hot window for a project ordered by most recent first.
      * Use with caution for projects with high activity volume.
      */
     @Transactional(readOnly = true)
     public List<ProjectActivityDto> getProjectActivities(Long projectId) {
-        List<ProjectActivity> activities = activityRepository.findByProjectIdOrderByTimestampDesc(projectId);
+        List<ProjectActivity> activities = activityRepository.findByProjectIdSince(projectId, partitionService.hotWindowStart());
         return activities.stream()
                 .map(ProjectActivityDto::fromEntity)
                 .toList();
@@ -93,7 +125,7 @@ public class ProjectActivityService {
     @Transactional(readOnly = true)
     public Page<ProjectActivityDto> getProjectActivities(Long projectId, int page, int size) {
         Pageable pageable = PageRequest.of(page, size);
-        Page<ProjectActivity> activities = activityRepository.findByProjectIdOrderByTimestampDesc(projectId, pageable);
+        Page<ProjectActivity> activities = activityRepository.findByProjectIdSince(projectId, partitionService.hotWindowStart(), pageable);
         return activities.map(ProjectActivityDto::fromEntity);
     }
     
@@ -104,7 +136,7 @@ public class ProjectActivityService {
     @Transactional(readOnly = true)
     public List<ProjectActivityDto> getRecentProjectActivities(Long projectId, int limit) {
         Pageable pageable = PageRequest.of(0, limit);
-        List<ProjectActivity> activities = activityRepository.findTopNByProjectIdOrderByTimestampDesc(projectId, pageable);
+        List<ProjectActivity> activities = activityRepository.findTopNByProjectIdSince(projectId, partitionService.hotWindowStart(), pageable);
         return activities.stream()
                 .map(ProjectActivityDto::fromEntity)
                 .toList();
@@ -120,7 +152,7 @@ public class ProjectActivityService {
     
     @Transactional(readOnly = true)
     public List<ProjectActivityDto> getUserActivities(Long projectId, Long userId) {
-        List<ProjectActivity> activities = activityRepository.findByProjectIdAndUserIdOrderByTimestampDesc(projectId, userId);
+        List<ProjectActivity> activities = activityRepository.findByProjectIdAndUserIdSince(projectId, userId, partitionService.hotWindowStart());
         return activities.stream()
                 .map(ProjectActivityDto::fromEntity)
                 .toList();
@@ -128,7 +160,7 @@ public class ProjectActivityService {
     
     @Transactional(readOnly = true)
     public List<ProjectActivityDto> getActivitiesByType(Long projectId, ProjectActivity.ActivityType activityType) {
-        List<ProjectActivity> activities = activityRepository.findByProjectIdAndActivityTypeOrderByTimestampDesc(projectId, activityType);
+        List<ProjectActivity> activities = activityRepository.findByProjectIdAndActivityTypeSince(projectId, activityType, partitionService.hotWindowStart());
         return activities.stream()
                 .map(ProjectActivityDto::fromEntity)
                 .toList();
@@ -136,15 +168,28 @@ public class ProjectActivityService {
     
     @Transactional(readOnly = true)
     public List<ProjectActivityDto> getEntityActivities(Long projectId, String entityType, Long entityId) {
-        List<ProjectActivity> activities = activityRepository.findByProjectIdAndEntityTypeAndEntityIdOrderByTimestampDesc(projectId, entityType, entityId);
+        List<ProjectActivity> activities = activityRepository.findByProjectIdAndEntitySince(projectId, entityType, entityId, partitionService.hotWindowStart());
         return activities.stream()
                 .map(ProjectActivityDto::fromEntity)
                 .toList();
     }
     
+    /**
+     * Activity counts per type, read from the daily rollups instead of the raw log.
+     */
     @Transactional(readOnly = true)
     public List<Object[]> getActivityStatistics(Long projectId) {
-        return activityRepository.countActivitiesByTypeForProject(projectId);
+        return rollupService.countByType(projectId);
+    }
+    
+    @Transactional(readOnly = true)
+    public List<ActivityTrendPointDto> getDailyActivityTrend(Long projectId, LocalDate from, LocalDate to) {
+        return rollupService.dailyTrend(projectId, from, to);
+    }
+    
+    @Transactional(readOnly = true)
+    public List<UserActivityCountDto> getUserActivityCounts(Long projectId, LocalDate from, LocalDate to) {
+        return rollupService.countByUser(projectId, from, to);
     }
     /**
      * Convenience methods for logging common task operations.
@@ -176,6 +221,18 @@ public class ProjectActivityService {
                    "Moved task '" + taskName + "' from " + fromList + " to " + toList);
     }
     
+    public void logTasksReordered(Long projectId, String username, Long listId, String listName, int count) {
+        logActivity(projectId, username, ProjectActivity.ActivityType.TASK_MOVED, 
+                   "LIST", listId, listName, "REORDERED", 
+                   "Reordered " + count + " tasks in " + listName);
+    }
+    
+    public void logListsReordered(Long projectId, String username, int count) {
+        logActivity(projectId, username, ProjectActivity.ActivityType.LIST_MOVED, 
+                   "LIST", null, null, "REORDERED", 
+                   "Reordered " + count + " lists");
+    }
+    
     public void logListCreated(Long projectId, String username, Long listId, String listName) {
         logActivity(projectId, username, ProjectActivity.ActivityType.LIST_CREATED, 
                    "LIST", listId, listName, "CREATED", 
@@ -6,7 +6,9 @@ import java.util.Optional;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.example.demo.dto.InviteUserRequest;
@@ -48,6 +50,12 @@ public class ProjectCollaborationService {
     @Autowired
     private ProjectActivityService activityService;
     
+    @Autowired
+    private DashboardService dashboardService;
+    
+    @Value("${app.invitations.expiry-chunk-size:1000}")
+    private int expiryChunkSize;
+    
     /**
      * Invites a user to collaborate on a project and logs the invitation activity.
      * Validates permissions and prevents duplicate invitations.
@@ -70,7 +78,7 @@ public class ProjectCollaborationService {
         }
         
         Optional<ProjectInvitation> existingInvitation = invitationRepository
-                .findPendingInvitationByProjectAndEmail(projectId, request.getEmail());
+                .findPendingInvitationByProjectAndEmail(projectId, request.getEmail(), LocalDateTime.now());
         if (existingInvitation.isPresent()) {
             throw new RuntimeException("There's already a pending invitation for this email");
         }
@@ -85,11 +93,8 @@ public class ProjectCollaborationService {
         activityService.logCollaboratorInvited(projectId, inviterUsername, 
                                               request.getEmail(), request.getRole());
         
-        try {
-            emailService.sendProjectInvitationEmail(invitation);
-        } catch (Exception e) {
-            System.err.println("Failed to send invitation email: " + e.getMessage());
-        }
+        // Queued in this transaction; delivery and retries happen in the background
+        emailService.sendProjectInvitationEmail(invitation);
         
         return ProjectInvitationDto.fromEntity(invitation);
     }
@@ -122,6 +127,8 @@ public class ProjectCollaborationService {
         
         activityService.logCollaboratorJoined(invitation.getProject().getId(), username, 
                                              invitation.getRole().name());
+        dashboardService.evictProject(invitation.getProject().getId());
+        dashboardService.evictUser(user.getId());
         
         return ProjectCollaboratorDto.fromEntity(collaborator);
     }
@@ -162,7 +169,7 @@ public class ProjectCollaborationService {
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new RuntimeException("User not found"));
         
-        List<ProjectInvitation> invitations = invitationRepository.findPendingInvitationsByEmail(user.getEmail());
+        List<ProjectInvitation> invitations = invitationRepository.findPendingInvitationsByEmail(user.getEmail(), LocalDateTime.now());
         return invitations.stream()
                 .map(ProjectInvitationDto::fromEntity)
                 .collect(Collectors.toList());
@@ -198,6 +205,8 @@ public class ProjectCollaborationService {
             activityService.logCollaboratorLeft(projectId, requesterUsername, 
                                               collaborator.get().getUser().getUsername());
             collaboratorRepository.delete(collaborator.get());
+            dashboardService.evictProject(projectId);
+            dashboardService.evictUser(userId);
         }
     }
     
@@ -225,14 +234,23 @@ public class ProjectCollaborationService {
         return collaborator.isPresent() && collaborator.get().getRole() == Role.ADMIN;
     }
     
-    public void cleanupExpiredInvitations() {
-        List<ProjectInvitation> expiredInvitations = invitationRepository
-                .findExpiredInvitations(LocalDateTime.now());
-        
-        for (ProjectInvitation invitation : expiredInvitations) {
-            invitation.setStatus(ProjectInvitation.InvitationStatus.EXPIRED);
-            invitationRepository.save(invitation);
-        }
+    /**
+     * Marks expired pending invitations as EXPIRED with chunked bulk updates, each committed on its
+     * own so no long transaction or large lock set builds up. Reads already treat these invitations
+     * as expired, so this only keeps the stored status tidy.
+     *
+     * @return number of invitations expired
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int cleanupExpiredInvitations() {
+        LocalDateTime now = LocalDateTime.now();
+        int total = 0;
+        int expired;
+        do {
+            expired = invitationRepository.expirePending(now, expiryChunkSize);
+            total += expired;
+        } while (expired == expiryChunkSize);
+        return total;
     }
     
     /**
@@ -242,6 +260,9 @@ public class ProjectCollaborationService {
         ProjectInvitation invitation = invitationRepository.findByToken(token)
                 .orElseThrow(() -> new RuntimeException("Invalid invitation token"));
         
+        if (invitation.getEffectiveStatus() == ProjectInvitation.InvitationStatus.EXPIRED) {
+            throw new RuntimeException("Invitation has expired");
+        }
         if (!invitation.isPending()) {
             throw new RuntimeException("Invitation is no longer valid");
         }
@@ -275,6 +296,8 @@ public class ProjectCollaborationService {
                 invitation.getProject(), user, invitation.getInvitedBy(), invitation.getRole()
         );
         collaborator = collaboratorRepository.save(collaborator);
+        dashboardService.evictProject(invitation.getProject().getId());
+        dashboardService.evictUser(user.getId());
         
         return ProjectCollaboratorDto.fromEntity(collaborator);
     }
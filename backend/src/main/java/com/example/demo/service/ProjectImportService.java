@@ -0,0 +1,354 @@
+package com.example.demo.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.demo.dto.ImportResultDto;
+import com.example.demo.dto.ProjectImportDto;
+import com.example.demo.entity.BoardList;
+import com.example.demo.entity.Dependency;
+import com.example.demo.entity.Project;
+import com.example.demo.entity.ProjectActivity;
+import com.example.demo.entity.Task;
+import com.example.demo.entity.User;
+import com.example.demo.event.BoardChangeEvent;
+import com.example.demo.repository.BoardListRepository;
+import com.example.demo.repository.ProjectRepository;
+import com.example.demo.repository.TaskRepository;
+import com.example.demo.util.FractionalIndex;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Imports lists, tasks and dependencies into a project in one transaction.
+ *
+ * Ids come from the pooled sequences, so entities are persisted without a round trip each and
+ * Hibernate sends them as JDBC batches. The persistence context is flushed and cleared every
+ * batch to keep memory flat for large plans. The whole import is logged as a single activity.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProjectImportService {
+
+    static final List<String> CSV_COLUMNS = List.of("list", "ref", "name", "description", "startDate", "dueDate", "dependsOn");
+
+    private final EntityManager entityManager;
+    private final ProjectRepository projectRepo;
+    private final BoardListRepository listRepo;
+    private final TaskRepository taskRepo;
+    private final ProjectActivityService activityService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:100}")
+    private int batchSize;
+
+    @Value("${app.import.max-tasks:50000}")
+    private int maxTasks;
+
+    @Transactional
+    public ImportResultDto importPlan(Long projectId, ProjectImportDto plan, User user) {
+        Project project = projectRepo.findByIdAndUserAccess(projectId, user)
+                .orElseThrow(() -> new RuntimeException("Project not found or access denied"));
+        validate(plan);
+
+        Map<String, BoardList> listsByName = new HashMap<>();
+        String lastListKey = null;
+        for (BoardList list : listRepo.findByProjectIdOrderByOrderKeyAscIdAsc(projectId)) {
+            listsByName.putIfAbsent(list.getName(), list);
+            lastListKey = list.getOrderKey();
+        }
+
+        int listsCreated = 0;
+        Map<String, String> lastTaskKeys = new HashMap<>();
+        for (ProjectImportDto.ListEntry entry : plan.getLists()) {
+            BoardList list = listsByName.get(entry.getName());
+            if (list == null) {
+                list = new BoardList();
+                list.setName(entry.getName());
+                list.setProject(project);
+                lastListKey = FractionalIndex.between(lastListKey, null);
+                list.setOrderKey(lastListKey);
+                entityManager.persist(list);
+                listsByName.put(entry.getName(), list);
+                listsCreated++;
+            } else if (!lastTaskKeys.containsKey(list.getName())) {
+                lastTaskKeys.put(list.getName(), taskRepo.findLastOrderKeyByListId(list.getId()));
+            }
+        }
+        entityManager.flush();
+
+        Map<String, Long> listIds = new HashMap<>();
+        listsByName.forEach((name, list) -> listIds.put(name, list.getId()));
+        Long projectRef = project.getId();
+        entityManager.clear();
+
+        // Tasks: ids are known as soon as they are persisted, so dependencies need no lookups later
+        Map<String, Long> taskIds = new HashMap<>();
+        int pending = 0;
+        int tasksCreated = 0;
+        for (ProjectImportDto.ListEntry entry : plan.getLists()) {
+            BoardList list = entityManager.getReference(BoardList.class, listIds.get(entry.getName()));
+            String lastKey = lastTaskKeys.get(entry.getName());
+            for (ProjectImportDto.TaskEntry taskEntry : entry.getTasks()) {
+                Task task = new Task();
+                task.setName(taskEntry.getName());
+                task.setDescription(taskEntry.getDescription());
+                task.setStartDate(taskEntry.getStartDate());
+                task.setDueDate(taskEntry.getDueDate());
+                task.setList(list);
+                task.setProject(entityManager.getReference(Project.class, projectRef));
+                lastKey = FractionalIndex.between(lastKey, null);
+                task.setOrderKey(lastKey);
+                entityManager.persist(task);
+                if (taskEntry.getRef() != null) {
+                    taskIds.put(taskEntry.getRef(), task.getId());
+                }
+                tasksCreated++;
+                if (++pending == batchSize) {
+                    flushAndClear();
+                    pending = 0;
+                    list = entityManager.getReference(BoardList.class, listIds.get(entry.getName()));
+                }
+            }
+            lastTaskKeys.put(entry.getName(), lastKey);
+        }
+        flushAndClear();
+
+        int dependenciesCreated = 0;
+        pending = 0;
+        for (ProjectImportDto.ListEntry entry : plan.getLists()) {
+            for (ProjectImportDto.TaskEntry taskEntry : entry.getTasks()) {
+                for (String ref : dependsOn(taskEntry)) {
+                    Dependency dependency = new Dependency();
+                    dependency.setTask(entityManager.getReference(Task.class, taskIds.get(taskEntry.getRef())));
+                    dependency.setDependsOn(entityManager.getReference(Task.class, taskIds.get(ref)));
+                    entityManager.persist(dependency);
+                    dependenciesCreated++;
+                    if (++pending == batchSize) {
+                        flushAndClear();
+                        pending = 0;
+                    }
+                }
+            }
+        }
+        flushAndClear();
+
+        activityService.logActivity(projectId, user.getUsername(), ProjectActivity.ActivityType.TASK_CREATED,
+                "PROJECT", projectId, null, "IMPORTED",
+                "Imported " + tasksCreated + " tasks and " + dependenciesCreated + " dependencies");
+        eventPublisher.publishEvent(new BoardChangeEvent(projectId,
+                BoardChangeEvent.Type.BOARD_IMPORTED, projectId, user.getUsername(), null));
+        log.info("Imported {} lists, {} tasks and {} dependencies into project {}",
+                listsCreated, tasksCreated, dependenciesCreated, projectId);
+        return new ImportResultDto(listsCreated, tasksCreated, dependenciesCreated);
+    }
+
+    /**
+     * Reads a CSV plan with the header list,ref,name,description,startDate,dueDate,dependsOn.
+     * Only list and name are required; dependsOn holds refs separated by ';' and dates are ISO (yyyy-MM-dd).
+     * Tasks keep their row order and lists the order of their first row.
+     */
+    public ProjectImportDto parseCsv(Reader reader) {
+        List<List<String>> rows = readCsv(reader);
+        if (rows.isEmpty()) {
+            throw new IllegalArgumentException("CSV is empty");
+        }
+        List<String> header = rows.get(0).stream().map(String::trim).toList();
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            if (!CSV_COLUMNS.contains(header.get(i))) {
+                throw new IllegalArgumentException("Unknown CSV column: " + header.get(i));
+            }
+            columns.put(header.get(i), i);
+        }
+        if (!columns.containsKey("list") || !columns.containsKey("name")) {
+            throw new IllegalArgumentException("CSV needs at least the columns list and name");
+        }
+
+        Map<String, ProjectImportDto.ListEntry> lists = new LinkedHashMap<>();
+        for (int line = 1; line < rows.size(); line++) {
+            List<String> row = rows.get(line);
+            if (row.size() == 1 && row.get(0).isBlank()) {
+                continue;
+            }
+            String listName = cell(row, columns, "list");
+            if (listName == null) {
+                throw new IllegalArgumentException("Missing list on line " + (line + 1));
+            }
+            ProjectImportDto.TaskEntry task = new ProjectImportDto.TaskEntry();
+            task.setRef(cell(row, columns, "ref"));
+            task.setName(cell(row, columns, "name"));
+            task.setDescription(cell(row, columns, "description"));
+            task.setStartDate(date(cell(row, columns, "startDate"), line));
+            task.setDueDate(date(cell(row, columns, "dueDate"), line));
+            String dependsOn = cell(row, columns, "dependsOn");
+            if (dependsOn != null) {
+                task.setDependsOn(Arrays.stream(dependsOn.split(";")).map(String::trim).filter(s -> !s.isEmpty()).toList());
+            }
+            lists.computeIfAbsent(listName, name -> {
+                ProjectImportDto.ListEntry entry = new ProjectImportDto.ListEntry();
+                entry.setName(name);
+                return entry;
+            }).getTasks().add(task);
+        }
+        return new ProjectImportDto(new ArrayList<>(lists.values()));
+    }
+
+    /**
+     * Rejects plans with missing names, unknown or duplicate refs, and dependency cycles,
+     * before anything is written.
+     */
+    private void validate(ProjectImportDto plan) {
+        Map<String, List<String>> edges = new HashMap<>();
+        int tasks = 0;
+        for (ProjectImportDto.ListEntry list : plan.getLists()) {
+            if (list.getName() == null || list.getName().isBlank()) {
+                throw new IllegalArgumentException("Every list needs a name");
+            }
+            for (ProjectImportDto.TaskEntry task : list.getTasks()) {
+                if (task.getName() == null || task.getName().isBlank()) {
+                    throw new IllegalArgumentException("Every task needs a name");
+                }
+                if (task.getRef() != null && edges.put(task.getRef(), dependsOn(task)) != null) {
+                    throw new IllegalArgumentException("Duplicate task ref: " + task.getRef());
+                }
+                if (task.getRef() == null && !dependsOn(task).isEmpty()) {
+                    throw new IllegalArgumentException("Task '" + task.getName() + "' has dependencies but no ref");
+                }
+                tasks++;
+            }
+        }
+        if (tasks > maxTasks) {
+            throw new IllegalArgumentException("Import is limited to " + maxTasks + " tasks");
+        }
+
+        // Kahn's algorithm: every task must be removable once its prerequisites are
+        Map<String, Integer> blockers = new HashMap<>();
+        Map<String, List<String>> dependents = new HashMap<>();
+        edges.forEach((ref, prerequisites) -> {
+            blockers.put(ref, prerequisites.size());
+            for (String prerequisite : prerequisites) {
+                if (!edges.containsKey(prerequisite)) {
+                    throw new IllegalArgumentException("Task " + ref + " depends on unknown ref " + prerequisite);
+                }
+                dependents.computeIfAbsent(prerequisite, k -> new ArrayList<>()).add(ref);
+            }
+        });
+        Deque<String> ready = new ArrayDeque<>();
+        blockers.forEach((ref, count) -> {
+            if (count == 0) {
+                ready.add(ref);
+            }
+        });
+        int resolved = 0;
+        while (!ready.isEmpty()) {
+            String ref = ready.poll();
+            resolved++;
+            for (String dependent : dependents.getOrDefault(ref, List.of())) {
+                if (blockers.merge(dependent, -1, Integer::sum) == 0) {
+                    ready.add(dependent);
+                }
+            }
+        }
+        if (resolved < edges.size()) {
+            throw new IllegalArgumentException("Dependencies in the import contain a cycle");
+        }
+    }
+
+    private void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private static List<String> dependsOn(ProjectImportDto.TaskEntry task) {
+        return task.getDependsOn() == null ? List.of() : task.getDependsOn().stream().distinct().toList();
+    }
+
+    private static String cell(List<String> row, Map<String, Integer> columns, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= row.size()) {
+            return null;
+        }
+        String value = row.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static LocalDate date(String value, int line) {
+        try {
+            return value == null ? null : LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid date '" + value + "' on line " + (line + 1));
+        }
+    }
+
+    /**
+     * Minimal RFC 4180 reader: quoted fields may contain commas, line breaks and doubled quotes.
+     */
+    private static List<List<String>> readCsv(Reader source) {
+        Reader reader = source.markSupported() ? source : new BufferedReader(source);
+        List<List<String>> rows = new ArrayList<>();
+        List<String> row = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        try {
+            int c;
+            while ((c = reader.read()) != -1) {
+                if (quoted) {
+                    if (c == '"') {
+                        reader.mark(1);
+                        int next = reader.read();
+                        if (next == '"') {
+                            field.append('"');
+                        } else {
+                            quoted = false;
+                            if (next != -1) {
+                                reader.reset();
+                            }
+                        }
+                    } else {
+                        field.append((char) c);
+                    }
+                } else if (c == '"' && field.length() == 0) {
+                    quoted = true;
+                } else if (c == ',') {
+                    row.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '\n') {
+                    row.add(field.toString());
+                    field.setLength(0);
+                    rows.add(row);
+                    row = new ArrayList<>();
+                } else if (c != '\r') {
+                    field.append((char) c);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (field.length() > 0 || !row.isEmpty()) {
+            row.add(field.toString());
+            rows.add(row);
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.demo.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
+
+/**
+ * In-memory per-project indexes, built on first use and rebuilt once they are older than
+ * {@code rebuildAfter} to pick up changes made through other nodes. Only the {@code maxProjects}
+ * most recently used projects are kept.
+ *
+ * Builds run outside the lock, so a change committed while a build is reading may or may not be
+ * in its result. Changes passed to {@link #apply} during a build are therefore recorded and
+ * replayed onto the new index before it is published; changes must be idempotent for this. An
+ * {@link #invalidate} during a build keeps that build's result out of the cache.
+ */
+class ProjectIndexCache<T> {
+
+    private final long rebuildAfterNanos;
+    private final LongFunction<T> builder;
+    private final Map<Long, Entry<T>> entries;
+    // Builds in progress per project; guarded by entries' lock like the map itself
+    private final Map<Long, List<Build<T>>> builds = new HashMap<>();
+
+    ProjectIndexCache(int maxProjects, Duration rebuildAfter, LongFunction<T> builder) {
+        this.rebuildAfterNanos = rebuildAfter.toNanos();
+        this.builder = builder;
+        // Access-ordered, so the least recently used project is evicted first
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry<T>> eldest) {
+                return size() > maxProjects;
+            }
+        };
+    }
+
+    /**
+     * The project's index, building it if it is missing or stale.
+     */
+    T get(long projectId) {
+        long now = System.nanoTime();
+        Build<T> build = new Build<>();
+        synchronized (entries) {
+            Entry<T> entry = entries.get(projectId);
+            if (entry != null && now - entry.builtAt < rebuildAfterNanos) {
+                return entry.index;
+            }
+            builds.computeIfAbsent(projectId, id -> new ArrayList<>()).add(build);
+        }
+        T index;
+        try {
+            index = builder.apply(projectId);
+        } catch (RuntimeException | Error e) {
+            synchronized (entries) {
+                finish(projectId, build);
+            }
+            throw e;
+        }
+        synchronized (entries) {
+            finish(projectId, build);
+            build.missed.forEach(change -> change.accept(index));
+            if (!build.invalidated) {
+                // Two concurrent builds each catch up on their own missed changes; the later one is kept
+                entries.put(projectId, new Entry<>(index, now));
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Applies a committed change to the project's index if it is loaded, and to any build of it in progress.
+     */
+    void apply(long projectId, Consumer<T> change) {
+        synchronized (entries) {
+            Entry<T> entry = entries.get(projectId);
+            if (entry != null) {
+                change.accept(entry.index);
+            }
+            List<Build<T>> running = builds.get(projectId);
+            if (running != null) {
+                running.forEach(build -> build.missed.add(change));
+            }
+        }
+    }
+
+    void invalidate(long projectId) {
+        synchronized (entries) {
+            entries.remove(projectId);
+            List<Build<T>> running = builds.get(projectId);
+            if (running != null) {
+                running.forEach(build -> build.invalidated = true);
+            }
+        }
+    }
+
+    private void finish(long projectId, Build<T> build) {
+        List<Build<T>> running = builds.get(projectId);
+        running.remove(build);
+        if (running.isEmpty()) {
+            builds.remove(projectId);
+        }
+    }
+
+    private record Entry<T>(T index, long builtAt) {
+    }
+
+    private static final class Build<T> {
+        private final List<Consumer<T>> missed = new ArrayList<>();
+        private boolean invalidated;
+    }
+}
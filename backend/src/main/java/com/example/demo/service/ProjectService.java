@@ -18,6 +18,7 @@ import lombok.RequiredArgsConstructor;
 public class ProjectService {
 
     private final ProjectRepository projectRepo;
+    private final DashboardService dashboardService;
 
     /**
      * Get all projects (for admin/debug).
@@ -72,7 +73,9 @@ public class ProjectService {
         project.setName(dto.getName());
         project.setDescription(dto.getDescription());
         project.setOwner(owner); // from JWT principal
-        return ProjectMapper.toDto(projectRepo.save(project));
+        ProjectDto created = ProjectMapper.toDto(projectRepo.save(project));
+        dashboardService.evictUser(owner.getId());
+        return created;
     }
 
     /**
@@ -110,7 +113,9 @@ public class ProjectService {
                 .orElseThrow(() -> new RuntimeException("Project not found"));
         project.setName(dto.getName());
         project.setDescription(dto.getDescription());
-        return ProjectMapper.toDto(projectRepo.save(project));
+        ProjectDto updated = ProjectMapper.toDto(projectRepo.save(project));
+        dashboardService.evictProject(id);
+        return updated;
     }
 
     /**
@@ -121,7 +126,9 @@ public class ProjectService {
                 .orElseThrow(() -> new RuntimeException("Project not found or access denied"));
         project.setName(dto.getName());
         project.setDescription(dto.getDescription());
-        return ProjectMapper.toDto(projectRepo.save(project));
+        ProjectDto updated = ProjectMapper.toDto(projectRepo.save(project));
+        dashboardService.evictProject(id);
+        return updated;
     }
 
     /**
@@ -129,6 +136,7 @@ public class ProjectService {
      */
     public void delete(Long id) {
         projectRepo.deleteById(id);
+        dashboardService.evictProject(id);
     }
 
     /**
@@ -138,5 +146,6 @@ public class ProjectService {
         Project project = projectRepo.findByIdAndOwner(id, owner)
                 .orElseThrow(() -> new RuntimeException("Project not found or access denied"));
         projectRepo.delete(project);
+        dashboardService.evictProject(id);
     }
 }
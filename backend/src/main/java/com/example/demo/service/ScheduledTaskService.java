@@ -1,23 +1,93 @@
 package com.example.demo.service;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 /**
  * Handles scheduled tasks for the application.
+ * Every node fires these triggers; JobLeaseService lets only one of them do the work.
  */
 @Service
 public class ScheduledTaskService {
     
+    @Autowired
+    private JobLeaseService jobLeaseService;
+    
     @Autowired
     private ProjectCollaborationService collaborationService;
     
+    @Autowired
+    private ActivityPartitionService activityPartitionService;
+    
+    @Autowired
+    private ActivityArchiveService activityArchiveService;
+    
+    @Autowired
+    private OrderKeyService orderKeyService;
+    
+    @Autowired
+    private EmailOutboxService emailOutboxService;
+    
+    @Autowired
+    private DigestService digestService;
+    
+    @Value("${app.email.outbox.sent-retention-days:14}")
+    private int sentEmailRetentionDays;
+    
+    @Value("${app.ordering.rebalance-interval-ms:900000}")
+    private long rebalanceIntervalMs;
+    
     /**
-     * Clean up expired invitations every hour to keep the database clean.
+     * Mark expired invitations every hour. A cron trigger so all nodes fire at the same moment
+     * and the lease settles which one runs.
      */
-    @Scheduled(fixedRate = 3600000) // 1 hour in milliseconds
+    @Scheduled(cron = "${app.invitations.expiry-cron:0 0 * * * *}")
     public void cleanupExpiredInvitations() {
-        collaborationService.cleanupExpiredInvitations();
+        jobLeaseService.runExclusive("expire-invitations", Duration.ofMinutes(5),
+                collaborationService::cleanupExpiredInvitations);
+    }
+    
+    /**
+     * Keep activity partitions ahead of time and move expired months into the archive.
+     */
+    @Scheduled(cron = "${app.activity.maintenance-cron:0 15 3 * * *}")
+    public void maintainActivityPartitions() {
+        jobLeaseService.runExclusive("activity-partitions", Duration.ofMinutes(10), () -> {
+            activityPartitionService.ensurePartitions();
+            int detached = activityPartitionService.detachExpiredPartitions().size();
+            return detached + activityArchiveService.archiveDetachedPartitions();
+        });
+    }
+    
+    /**
+     * Shorten list and task order keys that grew long from repeated inserts at the same spot.
+     * Nodes start their delay at different times, so the lease is held for most of the interval.
+     */
+    @Scheduled(fixedDelayString = "${app.ordering.rebalance-interval-ms:900000}")
+    public void rebalanceOrderKeys() {
+        jobLeaseService.runExclusive("rebalance-order-keys", Duration.ofMillis(rebalanceIntervalMs * 9 / 10),
+                orderKeyService::rebalance);
+    }
+    
+    /**
+     * Remove delivered emails from the outbox once they are no longer useful for troubleshooting.
+     */
+    @Scheduled(cron = "0 45 3 * * *")
+    public void purgeSentEmails() {
+        jobLeaseService.runExclusive("purge-sent-emails", Duration.ofMinutes(10),
+                () -> emailOutboxService.purgeSent(LocalDateTime.now().minusDays(sentEmailRetentionDays)));
+    }
+    
+    /**
+     * Queue the daily activity digests; delivery happens through the email outbox.
+     */
+    @Scheduled(cron = "${app.digest.cron:0 0 5 * * *}")
+    public void sendDailyDigests() {
+        jobLeaseService.runExclusive("daily-digest", Duration.ofMinutes(30), digestService::generateDigests);
     }
 }
@@ -0,0 +1,137 @@
+package com.example.demo.service;
+
+import java.sql.Date;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.demo.dto.ReorderDto;
+import com.example.demo.dto.TaskDto;
+import com.example.demo.dto.TaskIntervalDto;
+import com.example.demo.entity.User;
+import com.example.demo.event.BoardChangeEvent;
+import com.example.demo.repository.ProjectRepository;
+import com.example.demo.util.IntervalTree;
+
+import io.micrometer.core.annotation.Timed;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Date-range queries over a project's tasks for the Gantt and calendar views, served from an
+ * interval tree per project.
+ *
+ * A task spans startDate to dueDate; one with only one of them spans that single day, and one
+ * with neither is left out. Trees are built and kept current like the search indexes, under
+ * app.schedule.max-projects and app.schedule.rebuild-after-seconds.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TaskScheduleService {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ProjectRepository projectRepo;
+
+    @Value("${app.schedule.max-projects:200}")
+    private int maxProjects;
+
+    @Value("${app.schedule.rebuild-after-seconds:300}")
+    private long rebuildAfterSeconds;
+
+    private ProjectIndexCache<IntervalTree<TaskIntervalDto>> trees;
+
+    @PostConstruct
+    void createCache() {
+        trees = new ProjectIndexCache<>(maxProjects, Duration.ofSeconds(rebuildAfterSeconds), this::build);
+    }
+
+    /**
+     * Tasks whose dates overlap [from, to], both days included, ordered by start.
+     */
+    @Timed(value = "planner.task.overlapping", histogram = true)
+    public List<TaskIntervalDto> findOverlapping(Long projectId, LocalDate from, LocalDate to, User user) {
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("'to' must not be before 'from'");
+        }
+        projectRepo.findByIdAndUserAccess(projectId, user)
+                .orElseThrow(() -> new RuntimeException("Project not found or access denied"));
+        // Copies, since the tree's values change in place when tasks move between lists
+        return trees.get(projectId).overlapping(from.toEpochDay(), to.toEpochDay()).stream()
+                .map(task -> new TaskIntervalDto(task.getId(), task.getName(), task.getListId(),
+                        task.getStartDate(), task.getDueDate()))
+                .toList();
+    }
+
+    /**
+     * Applies committed task changes to the project's tree if it is loaded or being built.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBoardChange(BoardChangeEvent event) {
+        long projectId = event.getProjectId();
+        switch (event.getType()) {
+            case TASK_CREATED, TASK_UPDATED -> {
+                if (event.getPayload() instanceof TaskDto task) {
+                    trees.apply(projectId, tree -> put(tree, new TaskIntervalDto(task.getId(), task.getName(),
+                            task.getListId(), task.getStartDate(), task.getDueDate())));
+                }
+            }
+            case TASK_DELETED -> trees.apply(projectId, tree -> tree.remove(event.getEntityId()));
+            case TASKS_REORDERED -> {
+                if (event.getPayload() instanceof ReorderDto order) {
+                    Long listId = event.getEntityId();
+                    trees.apply(projectId, tree -> order.getIds().forEach(taskId -> tree.update(taskId, task -> task.setListId(listId))));
+                }
+            }
+            case LIST_DELETED -> {
+                Long listId = event.getEntityId();
+                trees.apply(projectId, tree -> tree.removeIf(task -> listId.equals(task.getListId())));
+            }
+            case BOARD_IMPORTED -> trees.invalidate(projectId);
+            default -> {
+                // List and dependency changes do not move tasks in time
+            }
+        }
+    }
+
+    private IntervalTree<TaskIntervalDto> build(long projectId) {
+        long start = System.nanoTime();
+        IntervalTree<TaskIntervalDto> tree = new IntervalTree<>();
+        jdbcTemplate.query(
+                "SELECT t.id, t.list_id, t.name, t.start_date, t.due_date FROM task t "
+                        + "JOIN board_list l ON l.id = t.list_id WHERE l.project_id = ? "
+                        + "AND (t.start_date IS NOT NULL OR t.due_date IS NOT NULL)",
+                rs -> {
+                    put(tree, new TaskIntervalDto(rs.getLong("id"), rs.getString("name"), rs.getLong("list_id"),
+                            toLocalDate(rs.getDate("start_date")), toLocalDate(rs.getDate("due_date"))));
+                },
+                projectId);
+        log.debug("Indexed {} dated tasks of project {} in {} ms", tree.size(), projectId,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return tree;
+    }
+
+    private static void put(IntervalTree<TaskIntervalDto> tree, TaskIntervalDto task) {
+        LocalDate start = task.getStartDate() != null ? task.getStartDate() : task.getDueDate();
+        LocalDate end = task.getDueDate() != null ? task.getDueDate() : task.getStartDate();
+        if (start == null) {
+            tree.remove(task.getId());
+            return;
+        }
+        // A due date before the start date is kept as the reversed range rather than dropped
+        long first = Math.min(start.toEpochDay(), end.toEpochDay());
+        long last = Math.max(start.toEpochDay(), end.toEpochDay());
+        tree.put(task.getId(), first, last, task);
+    }
+
+    private static LocalDate toLocalDate(Date date) {
+        return date == null ? null : date.toLocalDate();
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.demo.service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.demo.dto.ReorderDto;
+import com.example.demo.dto.TaskDto;
+import com.example.demo.dto.TaskSearchResultDto;
+import com.example.demo.entity.User;
+import com.example.demo.event.BoardChangeEvent;
+import com.example.demo.repository.ProjectRepository;
+import com.example.demo.util.TrigramIndex;
+
+import io.micrometer.core.annotation.Timed;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Task search by name and description, served from a trigram index per project.
+ *
+ * A project's index is built from one scan of its tasks on the first search and then kept current
+ * from the board change events of this node. Changes made through other nodes are picked up when
+ * the index is rebuilt after app.search.rebuild-after-seconds. Only the most recently searched
+ * projects are kept in memory.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TaskSearchService {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ProjectRepository projectRepo;
+
+    @Value("${app.search.max-projects:200}")
+    private int maxProjects;
+
+    @Value("${app.search.rebuild-after-seconds:300}")
+    private long rebuildAfterSeconds;
+
+    @Value("${app.search.max-results:50}")
+    private int maxResults;
+
+    private ProjectIndexCache<TrigramIndex> indexes;
+
+    @PostConstruct
+    void createCache() {
+        indexes = new ProjectIndexCache<>(maxProjects, Duration.ofSeconds(rebuildAfterSeconds), this::build);
+    }
+
+    @Timed(value = "planner.task.search", histogram = true)
+    public List<TaskSearchResultDto> search(Long projectId, String query, int limit, User user) {
+        projectRepo.findByIdAndUserAccess(projectId, user)
+                .orElseThrow(() -> new RuntimeException("Project not found or access denied"));
+        if (query == null || query.isBlank()) {
+            return List.of();
+        }
+        return indexes.get(projectId).search(query, Math.min(Math.max(limit, 1), maxResults)).stream()
+                .map(hit -> new TaskSearchResultDto(hit.taskId(), hit.name(), hit.listId(), hit.score()))
+                .toList();
+    }
+
+    /**
+     * Applies committed task changes to the project's index if it is loaded or being built; otherwise
+     * the next search builds it from the database anyway.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBoardChange(BoardChangeEvent event) {
+        long projectId = event.getProjectId();
+        switch (event.getType()) {
+            case TASK_CREATED, TASK_UPDATED -> {
+                if (event.getPayload() instanceof TaskDto task) {
+                    indexes.apply(projectId, index -> index.put(task.getId(), task.getListId(), task.getName(), task.getDescription()));
+                }
+            }
+            case TASK_DELETED -> indexes.apply(projectId, index -> index.remove(event.getEntityId()));
+            case TASKS_REORDERED -> {
+                // Cross-list drags change the list of the dragged task
+                if (event.getPayload() instanceof ReorderDto order) {
+                    indexes.apply(projectId, index -> order.getIds().forEach(taskId -> index.moveToList(taskId, event.getEntityId())));
+                }
+            }
+            case LIST_DELETED -> indexes.apply(projectId, index -> index.removeList(event.getEntityId()));
+            case BOARD_IMPORTED -> indexes.invalidate(projectId);
+            default -> {
+                // List and dependency changes do not touch task text
+            }
+        }
+    }
+
+    private TrigramIndex build(long projectId) {
+        long start = System.nanoTime();
+        TrigramIndex index = new TrigramIndex();
+        // Tasks are tied to the project through their list
+        jdbcTemplate.query(
+                "SELECT t.id, t.list_id, t.name, t.description FROM task t "
+                        + "JOIN board_list l ON l.id = t.list_id WHERE l.project_id = ?",
+                rs -> {
+                    index.put(rs.getLong("id"), rs.getLong("list_id"), rs.getString("name"), rs.getString("description"));
+                },
+                projectId);
+        log.debug("Indexed {} tasks of project {} in {} ms", index.size(), projectId,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return index;
+    }
+}
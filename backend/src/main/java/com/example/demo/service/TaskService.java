@@ -1,20 +1,34 @@
 package com.example.demo.service;
 
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.example.demo.dto.MoveDto;
+import com.example.demo.dto.ReorderDto;
 import com.example.demo.dto.TaskDto;
 import com.example.demo.entity.BoardList;
 import com.example.demo.entity.Task;
 import com.example.demo.entity.User;
+import com.example.demo.event.BoardChangeEvent;
+import com.example.demo.exception.VersionConflictException;
 import com.example.demo.mapper.ProjectMapper;
 import com.example.demo.repository.BoardListRepository;
 import com.example.demo.repository.DependencyRepository;
 import com.example.demo.repository.ProjectRepository;
 import com.example.demo.repository.TaskRepository;
+import com.example.demo.util.FractionalIndex;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 
 /**
@@ -30,6 +44,8 @@ public class TaskService {
     private final ProjectRepository projectRepo;
     private final DependencyRepository dependencyRepo; // inject repo
     private final ProjectActivityService activityService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JdbcTemplate jdbcTemplate;
 
     public List<TaskDto> getAllByList(Long listId, User user) {
         // First get the list to find its project
@@ -40,21 +56,18 @@ public class TaskService {
         projectRepo.findByIdAndUserAccess(list.getProject().getId(), user)
                 .orElseThrow(() -> new RuntimeException("Project not found or access denied"));
 
-        return taskRepo.findByListId(listId).stream()
-                .map(task -> {
-                    List<Long> deps = dependencyRepo.findByTaskId(task.getId())
-                            .stream()
-                            .map(d -> d.getDependsOn().getId())
-                            .toList();
-                    return ProjectMapper.toDto(task, deps);
-                })
+        List<Task> tasks = taskRepo.findByListIdOrderByOrderKeyAscIdAsc(listId);
+        Map<Long, List<Long>> deps = ProjectMapper.dependencyIds(tasks);
+        return tasks.stream()
+                .map(task -> ProjectMapper.toDto(task, deps.getOrDefault(task.getId(), List.of())))
                 .toList();
     }
 
     /**
      * Creates a new task and logs the creation activity.
-     * Automatically sets position if not provided and validates project access.
+     * Appends the task to the end of its list and validates project access.
      */
+    @Timed(value = "planner.task.mutation", extraTags = {"operation", "create"}, histogram = true)
     public TaskDto create(TaskDto dto, User user) {
         if (dto.getListId() == null) {
             throw new IllegalArgumentException("Task must belong to a list");
@@ -73,13 +86,10 @@ public class TaskService {
         task.setStartDate(dto.getStartDate());
         task.setDueDate(dto.getDueDate());
 
-        // Handle position default
         if (dto.getPosition() != null) {
             task.setPosition(dto.getPosition());
-        } else {
-            Integer maxPosition = taskRepo.findMaxPositionByListId(dto.getListId());
-            task.setPosition(maxPosition == null ? 0 : maxPosition + 1);
         }
+        task.setOrderKey(FractionalIndex.between(taskRepo.findLastOrderKeyByListId(list.getId()), null));
 
         task.setList(list);
 
@@ -89,13 +99,19 @@ public class TaskService {
                                       saved.getId(), saved.getName());
 
         // fetch empty deps (new task)
-        return ProjectMapper.toDto(saved, Collections.emptyList());
+        TaskDto result = ProjectMapper.toDto(saved, Collections.emptyList());
+        eventPublisher.publishEvent(new BoardChangeEvent(list.getProject().getId(),
+                BoardChangeEvent.Type.TASK_CREATED, saved.getId(), user.getUsername(), result));
+        return result;
     }
 
     /**
      * Updates an existing task and logs the activity with old/new values.
      * Handles task movement between lists and tracks all field changes.
+     * When the DTO carries a version, the update only applies to that version; otherwise a
+     * VersionConflictException with the current task is thrown.
      */
+    @Timed(value = "planner.task.mutation", extraTags = {"operation", "update"}, histogram = true)
     public TaskDto update(Long id, TaskDto dto, User user) {
         Task task = taskRepo.findById(id)
                 .orElseThrow(() -> new RuntimeException("Task not found"));
@@ -104,6 +120,10 @@ public class TaskService {
         projectRepo.findByIdAndUserAccess(task.getList().getProject().getId(), user)
                 .orElseThrow(() -> new RuntimeException("Project not found or access denied"));
 
+        if (dto.getVersion() != null && dto.getVersion() != task.getVersion()) {
+            throw new VersionConflictException("Task was modified by someone else", currentState(task));
+        }
+
         String oldValues = String.format("{\"name\":\"%s\",\"description\":\"%s\",\"startDate\":\"%s\",\"dueDate\":\"%s\",\"position\":%d,\"listId\":%d}", 
                                         task.getName(), task.getDescription(), task.getStartDate(), task.getDueDate(), task.getPosition(), task.getList().getId());
 
@@ -118,11 +138,22 @@ public class TaskService {
         if (dto.getListId() != null) {
             BoardList list = listRepo.findById(dto.getListId())
                     .orElseThrow(() -> new RuntimeException("List not found"));
+            if (!list.getId().equals(task.getList().getId())) {
+                task.setOrderKey(FractionalIndex.between(taskRepo.findLastOrderKeyByListId(list.getId()), null));
+            }
             task.setList(list);
             movedToList = true;
         }
 
-        Task saved = taskRepo.save(task);
+        Task saved;
+        try {
+            saved = taskRepo.save(task);
+        } catch (ObjectOptimisticLockingFailureException e) {
+            // Lost the race between our read and the conditional UPDATE
+            Task current = taskRepo.findById(id)
+                    .orElseThrow(() -> new RuntimeException("Task not found"));
+            throw new VersionConflictException("Task was modified by someone else", currentState(current));
+        }
 
         String newValues = String.format("{\"name\":\"%s\",\"description\":\"%s\",\"startDate\":\"%s\",\"dueDate\":\"%s\",\"position\":%d,\"listId\":%d}", 
                                         saved.getName(), saved.getDescription(), saved.getStartDate(), saved.getDueDate(), saved.getPosition(), saved.getList().getId());
@@ -139,13 +170,214 @@ public class TaskService {
                 .map(d -> d.getDependsOn().getId())
                 .toList();
 
-        return ProjectMapper.toDto(saved, deps);
+        TaskDto result = ProjectMapper.toDto(saved, deps);
+        eventPublisher.publishEvent(new BoardChangeEvent(saved.getList().getProject().getId(),
+                BoardChangeEvent.Type.TASK_UPDATED, saved.getId(), user.getUsername(), result));
+        return result;
+    }
+
+    /**
+     * Applies the task order of a list after a drag in one batched UPDATE. When the DTO names a
+     * different source list, tasks moving from it are reassigned and the source list is renumbered
+     * in the same statement. Every listed task gets a fresh order key, so the ids must cover both
+     * lists exactly; a partial set would collide with the keys of the tasks left out. Fails without
+     * changes if any id is not in one of the two lists, and with a VersionConflictException if the
+     * lists gained or lost tasks or any task changed since the client read it.
+     */
+    @Transactional
+    @Timed(value = "planner.task.mutation", extraTags = {"operation", "reorder"}, histogram = true)
+    public void reorder(Long listId, ReorderDto dto, User user) {
+        BoardList list = listRepo.findById(listId)
+                .orElseThrow(() -> new RuntimeException("List not found"));
+        Long projectId = list.getProject().getId();
+        projectRepo.findByIdAndUserAccess(projectId, user)
+                .orElseThrow(() -> new RuntimeException("Project not found or access denied"));
+
+        BoardList source = list;
+        if (dto.getSourceListId() != null && !dto.getSourceListId().equals(listId)) {
+            source = listRepo.findById(dto.getSourceListId())
+                    .orElseThrow(() -> new RuntimeException("List not found"));
+            if (!source.getProject().getId().equals(projectId)) {
+                throw new IllegalArgumentException("Lists belong to different projects");
+            }
+        }
+        boolean move = source != list;
+
+        List<Long> sourceIds = move && dto.getSourceIds() != null ? dto.getSourceIds() : List.of();
+        List<Long> sourceVersions = move && dto.getSourceVersions() != null ? dto.getSourceVersions() : List.of();
+        if (dto.getVersions() == null || dto.getVersions().size() != dto.getIds().size()
+                || sourceVersions.size() != sourceIds.size()) {
+            throw new IllegalArgumentException("Every reordered task needs its version");
+        }
+        Long sourceId = source.getId();
+        List<Map<String, Object>> current = currentTaskOrder(listId, sourceId);
+        checkCoversLists(dto.getIds(), sourceIds, current);
+
+        int size = dto.getIds().size() + sourceIds.size();
+        Long[] ids = new Long[size];
+        Long[] listIds = new Long[size];
+        Integer[] positions = new Integer[size];
+        String[] keys = new String[size];
+        Long[] versions = new Long[size];
+        String[] targetKeys = FractionalIndex.initialKeys(dto.getIds().size());
+        for (int i = 0; i < dto.getIds().size(); i++) {
+            ids[i] = dto.getIds().get(i);
+            listIds[i] = listId;
+            positions[i] = i;
+            keys[i] = targetKeys[i];
+            versions[i] = dto.getVersions().get(i);
+        }
+        String[] sourceKeys = FractionalIndex.initialKeys(sourceIds.size());
+        for (int i = 0; i < sourceIds.size(); i++) {
+            int at = dto.getIds().size() + i;
+            ids[at] = sourceIds.get(i);
+            listIds[at] = source.getId();
+            positions[at] = i;
+            keys[at] = sourceKeys[i];
+            versions[at] = sourceVersions.get(i);
+        }
+
+        // Tasks arriving from the source list, for the activity log
+        List<Map.Entry<Long, String>> moved = move
+                ? jdbcTemplate.query(con -> {
+                    var ps = con.prepareStatement("SELECT id, name FROM task WHERE list_id = ? AND id = ANY(?)");
+                    ps.setLong(1, dto.getSourceListId());
+                    ps.setArray(2, con.createArrayOf("bigint", dto.getIds().toArray()));
+                    return ps;
+                }, (rs, rowNum) -> Map.entry(rs.getLong(1), rs.getString(2)))
+                : List.of();
+
+        int updated = jdbcTemplate.update(con -> {
+            var ps = con.prepareStatement(
+                    "UPDATE task t SET list_id = v.list_id, position = v.position, order_key = v.order_key, "
+                            + "version = t.version + 1 "
+                            + "FROM unnest(?, ?, ?, ?, ?) AS v(id, list_id, position, order_key, version) "
+                            + "WHERE t.id = v.id AND t.list_id IN (?, ?) AND t.version = v.version");
+            ps.setArray(1, con.createArrayOf("bigint", ids));
+            ps.setArray(2, con.createArrayOf("bigint", listIds));
+            ps.setArray(3, con.createArrayOf("integer", positions));
+            ps.setArray(4, con.createArrayOf("varchar", keys));
+            ps.setArray(5, con.createArrayOf("bigint", versions));
+            ps.setLong(6, listId);
+            ps.setLong(7, sourceId);
+            return ps;
+        });
+        if (updated != size) {
+            // Stale version or a concurrent change; the exception rolls back the rows that did match
+            throw new VersionConflictException("Tasks were modified by someone else", current);
+        }
+
+        if (moved.size() == 1) {
+            activityService.logTaskMoved(projectId, user.getUsername(), moved.get(0).getKey(), moved.get(0).getValue(),
+                    source.getName(), list.getName());
+        } else {
+            activityService.logTasksReordered(projectId, user.getUsername(), listId, list.getName(), size);
+        }
+        eventPublisher.publishEvent(new BoardChangeEvent(projectId,
+                BoardChangeEvent.Type.TASKS_REORDERED, listId, user.getUsername(), dto));
+    }
+
+    /**
+     * Rejects a reorder whose ids are not exactly the tasks currently in its lists.
+     */
+    private static void checkCoversLists(List<Long> ids, List<Long> sourceIds, List<Map<String, Object>> current) {
+        Set<Long> requested = new HashSet<>(ids);
+        requested.addAll(sourceIds);
+        if (requested.size() != ids.size() + sourceIds.size()) {
+            throw new IllegalArgumentException("Reorder lists a task more than once");
+        }
+        Set<Long> existing = current.stream()
+                .map(row -> ((Number) row.get("id")).longValue())
+                .collect(Collectors.toSet());
+        if (!existing.containsAll(requested)) {
+            throw new IllegalArgumentException("Tasks do not belong to the given lists");
+        }
+        if (existing.size() != requested.size()) {
+            throw new VersionConflictException("Tasks were added to or removed from the list", current);
+        }
+    }
+
+    /**
+     * Current ids and versions of the tasks in the given lists, in board order.
+     */
+    private List<Map<String, Object>> currentTaskOrder(Long listId, Long sourceId) {
+        return jdbcTemplate.queryForList(
+                "SELECT id, list_id AS \"listId\", version FROM task WHERE list_id IN (?, ?) "
+                        + "ORDER BY list_id, order_key, id", listId, sourceId);
+    }
+
+    /**
+     * Moves a task directly after previousId (or to the top) in the target list by giving it a
+     * key between its new neighbours. Only the moved task is written.
+     */
+    @Transactional
+    @Timed(value = "planner.task.mutation", extraTags = {"operation", "move"}, histogram = true)
+    public TaskDto move(Long id, MoveDto dto, User user) {
+        Task task = taskRepo.findById(id)
+                .orElseThrow(() -> new RuntimeException("Task not found"));
+        BoardList from = task.getList();
+        Long projectId = from.getProject().getId();
+        projectRepo.findByIdAndUserAccess(projectId, user)
+                .orElseThrow(() -> new RuntimeException("Project not found or access denied"));
+
+        BoardList target = from;
+        if (dto.getListId() != null && !dto.getListId().equals(from.getId())) {
+            target = listRepo.findById(dto.getListId())
+                    .orElseThrow(() -> new RuntimeException("List not found"));
+            if (!target.getProject().getId().equals(projectId)) {
+                throw new IllegalArgumentException("Lists belong to different projects");
+            }
+        }
+
+        String before = null;
+        String after;
+        if (dto.getPreviousId() != null) {
+            Task previous = taskRepo.findById(dto.getPreviousId())
+                    .orElseThrow(() -> new RuntimeException("Task not found"));
+            if (previous.getId().equals(id) || !previous.getList().getId().equals(target.getId())) {
+                throw new IllegalArgumentException("Invalid previous task");
+            }
+            before = previous.getOrderKey();
+            after = taskRepo.findNextOrderKey(target.getId(), before, id);
+        } else {
+            after = taskRepo.findFirstOrderKeyByListId(target.getId(), id);
+        }
+
+        String oldValues = String.format("{\"orderKey\":\"%s\",\"listId\":%d}", task.getOrderKey(), from.getId());
+        task.setOrderKey(FractionalIndex.between(before, after));
+        task.setList(target);
+        Task saved = taskRepo.save(task);
+        String newValues = String.format("{\"orderKey\":\"%s\",\"listId\":%d}", saved.getOrderKey(), target.getId());
+
+        if (target != from) {
+            activityService.logTaskMoved(projectId, user.getUsername(),
+                                        saved.getId(), saved.getName(), from.getName(), target.getName());
+        } else {
+            activityService.logTaskUpdated(projectId, user.getUsername(),
+                                          saved.getId(), saved.getName(), oldValues, newValues);
+        }
+
+        TaskDto result = currentState(saved);
+        eventPublisher.publishEvent(new BoardChangeEvent(projectId,
+                BoardChangeEvent.Type.TASK_UPDATED, saved.getId(), user.getUsername(), result));
+        return result;
+    }
+
+    private TaskDto currentState(Task task) {
+        List<Long> deps = dependencyRepo.findByTaskId(task.getId())
+                .stream()
+                .map(d -> d.getDependsOn().getId())
+                .toList();
+        return ProjectMapper.toDto(task, deps);
     }
 
     /**
      * Deletes a task and logs the deletion activity.
      * Validates project access before performing the deletion.
+     * The task's dependency edges in both directions go first, so the delete never trips a foreign key.
      */
+    @Transactional
+    @Timed(value = "planner.task.mutation", extraTags = {"operation", "delete"}, histogram = true)
     public void delete(Long id, User user) {
         Task task = taskRepo.findById(id)
                 .orElseThrow(() -> new RuntimeException("Task not found"));
@@ -157,6 +389,10 @@ public class TaskService {
         activityService.logTaskDeleted(task.getList().getProject().getId(), user.getUsername(), 
                                       task.getId(), task.getName());
 
-        taskRepo.deleteById(id);
+        dependencyRepo.deleteAllTouchingTask(id);
+        taskRepo.deleteInBulkById(id);
+
+        eventPublisher.publishEvent(new BoardChangeEvent(task.getList().getProject().getId(),
+                BoardChangeEvent.Type.TASK_DELETED, id, user.getUsername(), null));
     }
 }
@@ -0,0 +1,182 @@
+package com.example.demo.service;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import com.example.demo.dto.UpcomingTaskDto;
+import com.example.demo.dto.UpcomingTasksPageDto;
+import com.example.demo.entity.User;
+import com.example.demo.util.KWayMerge;
+
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * The upcoming-work timeline: tasks due across every project a user can access, in due-date
+ * order, one page at a time.
+ *
+ * Each board list is read as its own stream in (due_date, id) order through idx_task_list_due,
+ * and the streams are merged with {@link KWayMerge}. One query fetches the first few rows of
+ * every stream, and a stream is only read further when the merge gets through that batch. The
+ * cost of a page therefore depends on the page size and the number of lists, not on the number
+ * of tasks. The cursor is the (due date, id) of the last task returned.
+ */
+@Service
+@RequiredArgsConstructor
+public class UpcomingTaskService {
+
+    private static final Comparator<UpcomingTaskDto> DUE_ORDER = Comparator.comparing(UpcomingTaskDto::getDueDate)
+            .thenComparing(UpcomingTaskDto::getId);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${app.upcoming.max-limit:100}")
+    private int maxLimit;
+
+    @Value("${app.upcoming.batch-size:10}")
+    private int batchSize;
+
+    /**
+     * Tasks due on or after {@code from}, or after {@code cursor} when given.
+     */
+    @Timed(value = "planner.task.upcoming", histogram = true)
+    public UpcomingTasksPageDto getUpcoming(User user, LocalDate from, String cursor, int limit) {
+        int pageSize = Math.min(Math.max(limit, 1), maxLimit);
+        // The initial position sorts just before every task due on from
+        Position after = cursor != null ? Position.decode(cursor) : new Position(from, 0L);
+        int batch = Math.min(batchSize, pageSize + 1);
+
+        // One extra task tells whether there is a next page
+        List<UpcomingTaskDto> items = KWayMerge.first(openStreams(user, after, batch), DUE_ORDER, pageSize + 1);
+        String nextCursor = null;
+        if (items.size() > pageSize) {
+            items = items.subList(0, pageSize);
+            UpcomingTaskDto last = items.get(pageSize - 1);
+            nextCursor = new Position(last.getDueDate(), last.getId()).encode();
+        }
+        return new UpcomingTasksPageDto(new ArrayList<>(items), nextCursor);
+    }
+
+    /**
+     * A stream per list of the user's projects, each holding its first batch.
+     */
+    private List<ListStream> openStreams(User user, Position after, int batch) {
+        Map<Long, ListStream> streams = new LinkedHashMap<>();
+        jdbcTemplate.query(
+                "SELECT l.id AS list_id, l.name AS list_name, p.id AS project_id, p.name AS project_name, "
+                        + "t.id, t.name, t.due_date "
+                        + "FROM project p JOIN board_list l ON l.project_id = p.id "
+                        + "CROSS JOIN LATERAL (SELECT t.id, t.name, t.due_date FROM task t "
+                        + "WHERE t.list_id = l.id AND (t.due_date, t.id) > (?, ?) "
+                        + "ORDER BY t.due_date, t.id LIMIT ?) t "
+                        + "WHERE p.owner_id = ? OR p.id IN (SELECT project_id FROM project_collaborator WHERE user_id = ?) "
+                        + "ORDER BY l.id, t.due_date, t.id",
+                rs -> {
+                    long listId = rs.getLong("list_id");
+                    ListStream stream = streams.get(listId);
+                    if (stream == null) {
+                        stream = new ListStream(listId, rs.getString("list_name"), rs.getLong("project_id"),
+                                rs.getString("project_name"), batch);
+                        streams.put(listId, stream);
+                    }
+                    stream.add(rs.getLong("id"), rs.getString("name"), rs.getDate("due_date").toLocalDate());
+                },
+                Date.valueOf(after.dueDate()), after.taskId(), batch, user.getId(), user.getId());
+        streams.values().forEach(ListStream::endBatch);
+        return new ArrayList<>(streams.values());
+    }
+
+    /**
+     * One list's tasks in due-date order, read from the database a batch at a time.
+     */
+    private final class ListStream implements Iterator<UpcomingTaskDto> {
+        private final long listId;
+        private final String listName;
+        private final long projectId;
+        private final String projectName;
+        private final int batch;
+        private final Deque<UpcomingTaskDto> buffered = new ArrayDeque<>();
+        private Position last;
+        private int batchRows;
+        private boolean exhausted;
+
+        private ListStream(long listId, String listName, long projectId, String projectName, int batch) {
+            this.listId = listId;
+            this.listName = listName;
+            this.projectId = projectId;
+            this.projectName = projectName;
+            this.batch = batch;
+        }
+
+        private void add(long id, String name, LocalDate dueDate) {
+            buffered.add(new UpcomingTaskDto(id, name, dueDate, listId, listName, projectId, projectName));
+            last = new Position(dueDate, id);
+            batchRows++;
+        }
+
+        // A short batch means the list has nothing further
+        private void endBatch() {
+            exhausted = batchRows < batch;
+            batchRows = 0;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (buffered.isEmpty() && !exhausted) {
+                jdbcTemplate.query(
+                        "SELECT t.id, t.name, t.due_date FROM task t "
+                                + "WHERE t.list_id = ? AND (t.due_date, t.id) > (?, ?) "
+                                + "ORDER BY t.due_date, t.id LIMIT ?",
+                        rs -> {
+                            add(rs.getLong("id"), rs.getString("name"), rs.getDate("due_date").toLocalDate());
+                        },
+                        listId, Date.valueOf(last.dueDate()), last.taskId(), batch);
+                endBatch();
+            }
+            return !buffered.isEmpty();
+        }
+
+        @Override
+        public UpcomingTaskDto next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return buffered.poll();
+        }
+    }
+
+    /**
+     * A place in (due date, task id) order; the cursor is its URL-safe encoding.
+     */
+    private record Position(LocalDate dueDate, long taskId) {
+
+        private String encode() {
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString((dueDate + ":" + taskId).getBytes(StandardCharsets.UTF_8));
+        }
+
+        private static Position decode(String cursor) {
+            try {
+                String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(":");
+                return new Position(LocalDate.parse(parts[0]), Long.parseLong(parts[1]));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+        }
+    }
+}
@@ -1,41 +1,52 @@
 package com.example.demo.strategy;
 
 import com.example.demo.repository.DependencyRepository;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
+import java.util.HashSet;
+import java.util.Set;
 
 /**
- * DFS-based implementation of cycle detection.
+ * Reachability-based implementation of cycle detection.
+ * The prerequisites reachable from a task come back from one recursive query, which expands each
+ * task at most once however many paths lead to it; the number of tasks reached per check is
+ * recorded as planner.cycle_check.nodes_visited.
  */
 @Component("dfsCycleDetection") // named bean, useful if you add more strategies
-@RequiredArgsConstructor
 public class DepthFirstCycleDetection implements CycleDetectionStrategy {
 
     private final DependencyRepository dependencyRepo;
+    private final DistributionSummary nodesVisited;
+
+    public DepthFirstCycleDetection(DependencyRepository dependencyRepo, MeterRegistry meterRegistry) {
+        this.dependencyRepo = dependencyRepo;
+        this.nodesVisited = DistributionSummary.builder("planner.cycle_check.nodes_visited")
+                .description("Tasks expanded by one dependency cycle check")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
 
     @Override
     public boolean createsCycle(Long taskId, Long dependsOnId) {
         return hasPath(dependsOnId, taskId);
     }
 
+    /**
+     * Is there a path startId → targetId along "depends on" edges? Everything reachable from
+     * startId is loaded in one query, so the cost in statements does not grow with the depth.
+     */
     private boolean hasPath(Long startId, Long targetId) {
-        List<Long> directDeps = dependencyRepo.findByTaskId(startId)
-                .stream()
-                .map(d -> d.getDependsOn().getId())
-                .toList();
-
-        if (directDeps.contains(targetId)) {
-            return true;
+        Set<Long> visited = new HashSet<>();
+        visited.add(startId);
+        boolean found = false;
+        for (Object[] edge : dependencyRepo.findEdgesReachableFrom(startId)) {
+            Long next = ((Number) edge[1]).longValue();
+            found |= next.equals(targetId);
+            visited.add(next);
         }
-
-        for (Long dep : directDeps) {
-            if (hasPath(dep, targetId)) {
-                return true;
-            }
-        }
-
-        return false;
+        nodesVisited.record(visited.size());
+        return found;
     }
 }
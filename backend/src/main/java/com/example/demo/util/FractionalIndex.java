@@ -0,0 +1,198 @@
+package com.example.demo.util;
+
+/**
+ * Lexicographic ordering keys for lists and tasks.
+ *
+ * A key is a variable-length base-62 integer followed by an optional fraction, written with the
+ * digits 0-9A-Za-z, which sort in the same order under byte-wise ("C" collation) comparison.
+ * The first character encodes the sign and length of the integer part ('a' = one digit,
+ * 'b' = two, ...; 'Z', 'Y', ... for negatives), so appending or prepending steps the integer and
+ * keys only grow logarithmically. Inserting between two neighbours uses the fraction. Either way
+ * only the inserted item's key is written. Fractions never end in '0', which keeps every key
+ * distinct from its own extensions.
+ */
+public final class FractionalIndex {
+
+    private static final String DIGITS = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz";
+    private static final int BASE = DIGITS.length();
+    private static final String INTEGER_ZERO = "a0";
+    private static final String SMALLEST_INTEGER = "A" + "0".repeat(26);
+
+    private FractionalIndex() {
+    }
+
+    /**
+     * Returns a key that sorts strictly after {@code before} and strictly before {@code after}.
+     *
+     * @param before lower neighbour, or null for the start of the list
+     * @param after  upper neighbour, or null for the end of the list
+     */
+    public static String between(String before, String after) {
+        if (before != null) {
+            validate(before);
+        }
+        if (after != null) {
+            validate(after);
+        }
+        if (before != null && after != null && before.compareTo(after) >= 0) {
+            throw new IllegalArgumentException("Order key " + before + " is not before " + after);
+        }
+
+        if (before == null) {
+            if (after == null) {
+                return INTEGER_ZERO;
+            }
+            String integer = integerPart(after);
+            String fraction = after.substring(integer.length());
+            if (integer.equals(SMALLEST_INTEGER)) {
+                return integer + midpoint("", fraction);
+            }
+            if (!fraction.isEmpty()) {
+                return integer;
+            }
+            return decrement(integer);
+        }
+
+        String integer = integerPart(before);
+        String fraction = before.substring(integer.length());
+        if (after == null) {
+            String next = increment(integer);
+            return next == null ? integer + midpoint(fraction, null) : next;
+        }
+
+        String afterInteger = integerPart(after);
+        if (integer.equals(afterInteger)) {
+            return integer + midpoint(fraction, after.substring(afterInteger.length()));
+        }
+        String next = increment(integer);
+        if (next != null && next.compareTo(after) < 0) {
+            return next;
+        }
+        return integer + midpoint(fraction, null);
+    }
+
+    /**
+     * Returns {@code count} ascending keys of consecutive integers, which stay a few characters
+     * long even for large lists. Used to rebalance a list whose keys have grown long.
+     */
+    public static String[] initialKeys(int count) {
+        String[] keys = new String[count];
+        String key = INTEGER_ZERO;
+        for (int i = 0; i < count; i++) {
+            keys[i] = key;
+            key = increment(key);
+        }
+        return keys;
+    }
+
+    private static String midpoint(String a, String b) {
+        if (b != null) {
+            // Skip the prefix shared by both fractions, treating a missing digit of a as '0'
+            int n = 0;
+            while (n < b.length() && (n < a.length() ? a.charAt(n) : '0') == b.charAt(n)) {
+                n++;
+            }
+            if (n > 0) {
+                return b.substring(0, n) + midpoint(a.length() > n ? a.substring(n) : "", b.substring(n));
+            }
+        }
+        int digitA = a.isEmpty() ? 0 : DIGITS.indexOf(a.charAt(0));
+        int digitB = b != null ? DIGITS.indexOf(b.charAt(0)) : BASE;
+        if (digitB - digitA > 1) {
+            return String.valueOf(DIGITS.charAt((digitA + digitB) / 2));
+        }
+        if (b != null && b.length() > 1) {
+            return b.substring(0, 1);
+        }
+        return DIGITS.charAt(digitA) + midpoint(a.isEmpty() ? "" : a.substring(1), null);
+    }
+
+    private static int integerLength(char head) {
+        if (head >= 'a' && head <= 'z') {
+            return head - 'a' + 2;
+        }
+        if (head >= 'A' && head <= 'Z') {
+            return 'Z' - head + 2;
+        }
+        throw new IllegalArgumentException("Invalid order key head: " + head);
+    }
+
+    private static String integerPart(String key) {
+        int length = integerLength(key.charAt(0));
+        if (length > key.length()) {
+            throw new IllegalArgumentException("Invalid order key: " + key);
+        }
+        return key.substring(0, length);
+    }
+
+    /**
+     * Next integer, or null once the largest integer ("z" followed by 26 'z' digits) is reached.
+     */
+    private static String increment(String integer) {
+        char head = integer.charAt(0);
+        StringBuilder digits = new StringBuilder(integer.substring(1));
+        for (int i = digits.length() - 1; i >= 0; i--) {
+            int digit = DIGITS.indexOf(digits.charAt(i)) + 1;
+            if (digit < BASE) {
+                digits.setCharAt(i, DIGITS.charAt(digit));
+                return head + digits.toString();
+            }
+            digits.setCharAt(i, '0');
+        }
+        // Carried past the first digit: switch to the next integer length
+        if (head == 'Z') {
+            return INTEGER_ZERO;
+        }
+        if (head == 'z') {
+            return null;
+        }
+        char nextHead = (char) (head + 1);
+        if (nextHead > 'a') {
+            digits.append('0');
+        } else {
+            digits.setLength(digits.length() - 1);
+        }
+        return nextHead + digits.toString();
+    }
+
+    private static String decrement(String integer) {
+        char head = integer.charAt(0);
+        StringBuilder digits = new StringBuilder(integer.substring(1));
+        for (int i = digits.length() - 1; i >= 0; i--) {
+            int digit = DIGITS.indexOf(digits.charAt(i)) - 1;
+            if (digit >= 0) {
+                digits.setCharAt(i, DIGITS.charAt(digit));
+                return head + digits.toString();
+            }
+            digits.setCharAt(i, DIGITS.charAt(BASE - 1));
+        }
+        if (head == 'a') {
+            return "Z" + DIGITS.charAt(BASE - 1);
+        }
+        if (head == 'A') {
+            throw new IllegalArgumentException("Order key space exhausted");
+        }
+        char previousHead = (char) (head - 1);
+        if (previousHead < 'Z') {
+            digits.append(DIGITS.charAt(BASE - 1));
+        } else {
+            digits.setLength(digits.length() - 1);
+        }
+        return previousHead + digits.toString();
+    }
+
+    private static void validate(String key) {
+        if (key.isEmpty() || key.equals(SMALLEST_INTEGER)) {
+            throw new IllegalArgumentException("Invalid order key: " + key);
+        }
+        for (int i = 0; i < key.length(); i++) {
+            if (DIGITS.indexOf(key.charAt(i)) < 0) {
+                throw new IllegalArgumentException("Invalid order key: " + key);
+            }
+        }
+        String fraction = key.substring(integerPart(key).length());
+        if (fraction.endsWith("0")) {
+            throw new IllegalArgumentException("Invalid order key: " + key);
+        }
+    }
+}
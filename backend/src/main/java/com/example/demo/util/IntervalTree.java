@@ -0,0 +1,251 @@
+package com.example.demo.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Interval tree over closed ranges [start, end] with one value per id.
+ *
+ * An AVL tree ordered by (start, id) where every node also keeps the largest end in its subtree.
+ * An overlap query skips each subtree whose largest end is before the window and stops going
+ * right once starts pass the window. The cost is O(log n) plus the matches, and matches come
+ * back ordered by start. Safe for concurrent use.
+ */
+public class IntervalTree<V> {
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Node<V>> byId = new HashMap<>();
+    private Node<V> root;
+
+    /**
+     * Adds or replaces the interval of {@code id}.
+     */
+    public void put(long id, long start, long end, V value) {
+        if (end < start) {
+            throw new IllegalArgumentException("Interval end " + end + " is before its start " + start);
+        }
+        Node<V> node = new Node<>(id, start, end, value);
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+            root = insert(root, node);
+            byId.put(id, node);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes every interval whose value matches; a full scan.
+     */
+    public void removeIf(Predicate<V> filter) {
+        lock.writeLock().lock();
+        try {
+            List<Long> ids = byId.values().stream().filter(node -> filter.test(node.value)).map(node -> node.id).toList();
+            ids.forEach(this::removeInternal);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Changes the value of {@code id} in place, if present; the interval stays the same.
+     */
+    public void update(long id, Consumer<V> change) {
+        lock.writeLock().lock();
+        try {
+            Node<V> node = byId.get(id);
+            if (node != null) {
+                change.accept(node.value);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Values whose interval shares at least one point with [from, to], ordered by start.
+     */
+    public List<V> overlapping(long from, long to) {
+        List<V> result = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            collect(root, from, to, result);
+        } finally {
+            lock.readLock().unlock();
+        }
+        return result;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return byId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    int height() {
+        return height(root);
+    }
+
+    private void removeInternal(long id) {
+        Node<V> node = byId.remove(id);
+        if (node != null) {
+            root = delete(root, node.start, node.id);
+        }
+    }
+
+    private static <V> void collect(Node<V> node, long from, long to, List<V> result) {
+        if (node == null || node.maxEnd < from) {
+            return;
+        }
+        collect(node.left, from, to, result);
+        if (node.start > to) {
+            // This node and everything to its right start after the window
+            return;
+        }
+        if (node.end >= from) {
+            result.add(node.value);
+        }
+        collect(node.right, from, to, result);
+    }
+
+    private static <V> Node<V> insert(Node<V> node, Node<V> added) {
+        if (node == null) {
+            added.left = null;
+            added.right = null;
+            return refresh(added);
+        }
+        if (compare(added.start, added.id, node) < 0) {
+            node.left = insert(node.left, added);
+        } else {
+            node.right = insert(node.right, added);
+        }
+        return rebalance(node);
+    }
+
+    private static <V> Node<V> delete(Node<V> node, long start, long id) {
+        if (node == null) {
+            return null;
+        }
+        int cmp = compare(start, id, node);
+        if (cmp < 0) {
+            node.left = delete(node.left, start, id);
+        } else if (cmp > 0) {
+            node.right = delete(node.right, start, id);
+        } else {
+            if (node.left == null) {
+                return node.right;
+            }
+            if (node.right == null) {
+                return node.left;
+            }
+            // Nodes are moved rather than copied, since byId points at them
+            Node<V> successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            successor.right = removeMin(node.right);
+            successor.left = node.left;
+            node = successor;
+        }
+        return rebalance(node);
+    }
+
+    private static <V> Node<V> removeMin(Node<V> node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        node.left = removeMin(node.left);
+        return rebalance(node);
+    }
+
+    private static <V> Node<V> rebalance(Node<V> node) {
+        refresh(node);
+        int balance = height(node.left) - height(node.right);
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private static <V> Node<V> rotateRight(Node<V> node) {
+        Node<V> pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = refresh(node);
+        return refresh(pivot);
+    }
+
+    private static <V> Node<V> rotateLeft(Node<V> node) {
+        Node<V> pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = refresh(node);
+        return refresh(pivot);
+    }
+
+    private static <V> Node<V> refresh(Node<V> node) {
+        node.height = 1 + Math.max(height(node.left), height(node.right));
+        long maxEnd = node.end;
+        if (node.left != null) {
+            maxEnd = Math.max(maxEnd, node.left.maxEnd);
+        }
+        if (node.right != null) {
+            maxEnd = Math.max(maxEnd, node.right.maxEnd);
+        }
+        node.maxEnd = maxEnd;
+        return node;
+    }
+
+    private static int height(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static int compare(long start, long id, Node<?> node) {
+        int byStart = Long.compare(start, node.start);
+        return byStart != 0 ? byStart : Long.compare(id, node.id);
+    }
+
+    private static final class Node<V> {
+        private final long id;
+        private final long start;
+        private final long end;
+        private final V value;
+        private long maxEnd;
+        private int height;
+        private Node<V> left;
+        private Node<V> right;
+
+        private Node(long id, long start, long end, V value) {
+            this.id = id;
+            this.start = start;
+            this.end = end;
+            this.value = value;
+        }
+    }
+}
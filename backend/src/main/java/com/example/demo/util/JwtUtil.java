@@ -24,6 +24,13 @@ public class JwtUtil {
     @Value("${jwt.expiration}")
     private Long expiration;
     
+    @Value("${app.board-events.ticket-ttl-seconds:60}")
+    private long streamTicketTtlSeconds;
+    
+    private static final String PURPOSE_CLAIM = "purpose";
+    private static final String PROJECT_CLAIM = "projectId";
+    private static final String BOARD_EVENTS_PURPOSE = "board-events";
+    
     private SecretKey getSigningKey() {
         return Keys.hmacShaKeyFor(secret.getBytes());
     }
@@ -58,18 +65,52 @@ public class JwtUtil {
         return createToken(claims, userDetails.getUsername());
     }
     
+    /**
+     * Short-lived ticket that only opens the board event stream of one project. EventSource cannot
+     * send headers, so this goes in the URL instead of the session token.
+     */
+    public String generateStreamTicket(String username, Long projectId) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(PURPOSE_CLAIM, BOARD_EVENTS_PURPOSE);
+        claims.put(PROJECT_CLAIM, projectId);
+        return createToken(claims, username, streamTicketTtlSeconds * 1000);
+    }
+    
+    /**
+     * Username of a valid, unexpired stream ticket for the project, or null.
+     */
+    public String extractStreamTicketUsername(String ticket, Long projectId) {
+        try {
+            Claims claims = extractAllClaims(ticket);
+            Number ticketProject = claims.get(PROJECT_CLAIM, Number.class);
+            if (!BOARD_EVENTS_PURPOSE.equals(claims.get(PURPOSE_CLAIM, String.class))
+                    || ticketProject == null || ticketProject.longValue() != projectId) {
+                return null;
+            }
+            return claims.getSubject();
+        } catch (Exception e) {
+            return null;
+        }
+    }
+    
     private String createToken(Map<String, Object> claims, String subject) {
+        return createToken(claims, subject, expiration * 1000);
+    }
+    
+    private String createToken(Map<String, Object> claims, String subject, long ttlMs) {
         return Jwts.builder()
                 .claims(claims)
                 .subject(subject)
                 .issuedAt(new Date(System.currentTimeMillis()))
-                .expiration(new Date(System.currentTimeMillis() + expiration * 1000))
+                .expiration(new Date(System.currentTimeMillis() + ttlMs))
                 .signWith(getSigningKey())
                 .compact();
     }
     
     public Boolean validateToken(String token, UserDetails userDetails) {
         final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
+        // Stream tickets are not session tokens
+        final boolean scoped = extractClaim(token, claims -> claims.get(PURPOSE_CLAIM)) != null;
+        return (username.equals(userDetails.getUsername()) && !scoped && !isTokenExpired(token));
     }
 }
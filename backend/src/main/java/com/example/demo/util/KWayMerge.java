@@ -0,0 +1,44 @@
+package com.example.demo.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Merges sources that are each already sorted into one sorted sequence.
+ *
+ * A heap holds the current head of every source, so taking n items costs O(n log k) for k
+ * sources and reads each source only as far as the items it contributes plus one.
+ */
+public final class KWayMerge {
+
+    private KWayMerge() {
+    }
+
+    /**
+     * The first {@code n} items over all sources in {@code order}; sources must be sorted by it.
+     */
+    public static <T> List<T> first(List<? extends Iterator<? extends T>> sources, Comparator<? super T> order, int n) {
+        PriorityQueue<Head<T>> heads = new PriorityQueue<>(Math.max(1, sources.size()),
+                (a, b) -> order.compare(a.item, b.item));
+        for (Iterator<? extends T> source : sources) {
+            if (source.hasNext()) {
+                heads.add(new Head<>(source.next(), source));
+            }
+        }
+        List<T> result = new ArrayList<>(Math.min(n, 64));
+        while (result.size() < n && !heads.isEmpty()) {
+            Head<T> head = heads.poll();
+            result.add(head.item);
+            if (head.source.hasNext()) {
+                heads.add(new Head<>(head.source.next(), head.source));
+            }
+        }
+        return result;
+    }
+
+    private record Head<T>(T item, Iterator<? extends T> source) {
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.demo.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Plain-text template with {{name}} placeholders, parsed once into literal and placeholder
+ * segments so rendering is a single pass of appends. Unknown or null values render as empty text.
+ */
+public final class TextTemplate {
+
+    private final String[] literals;
+    private final String[] names;
+
+    private TextTemplate(String[] literals, String[] names) {
+        this.literals = literals;
+        this.names = names;
+    }
+
+    public static TextTemplate compile(String source) {
+        List<String> literals = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        int from = 0;
+        while (true) {
+            int open = source.indexOf("{{", from);
+            if (open < 0) {
+                break;
+            }
+            int close = source.indexOf("}}", open + 2);
+            if (close < 0) {
+                throw new IllegalArgumentException("Unclosed placeholder at " + open);
+            }
+            String name = source.substring(open + 2, close).trim();
+            if (name.isEmpty()) {
+                throw new IllegalArgumentException("Empty placeholder at " + open);
+            }
+            literals.add(source.substring(from, open));
+            names.add(name);
+            from = close + 2;
+        }
+        literals.add(source.substring(from));
+        return new TextTemplate(literals.toArray(new String[0]), names.toArray(new String[0]));
+    }
+
+    public String render(Map<String, ?> values) {
+        StringBuilder out = new StringBuilder();
+        renderTo(out, values);
+        return out.toString();
+    }
+
+    public void renderTo(StringBuilder out, Map<String, ?> values) {
+        for (int i = 0; i < names.length; i++) {
+            out.append(literals[i]);
+            Object value = values.get(names[i]);
+            if (value != null) {
+                out.append(value);
+            }
+        }
+        out.append(literals[names.length]);
+    }
+}
@@ -0,0 +1,349 @@
+package com.example.demo.util;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory trigram index over the names and descriptions of one project's tasks.
+ *
+ * Every word is indexed as the trigrams of {@code "  word "}, so a query term of three or more
+ * characters finds tasks containing it anywhere, and a shorter term matches word prefixes through
+ * the padded leading trigrams. Candidates from the intersected posting lists are checked against
+ * the text and ranked: name matches above description matches, prefixes above other substrings.
+ * Case and accents are ignored.
+ *
+ * Posting lists hold internal document numbers that only grow, so they stay sorted and intersect
+ * with a linear merge. Changing a task retires its number and appends a new one; the index is
+ * compacted once more than half of the numbers are retired. Safe for concurrent use.
+ */
+public class TrigramIndex {
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+
+    private static final Comparator<Hit> RANKING = Comparator.comparingInt(Hit::score).reversed()
+            .thenComparingInt(hit -> hit.name().length())
+            .thenComparingLong(Hit::taskId);
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, IntList> postings = new HashMap<>();
+    private final List<Doc> docs = new ArrayList<>();
+    private final Map<Long, Integer> docByTask = new HashMap<>();
+    private int retired;
+
+    /**
+     * One search result; higher scores rank first.
+     */
+    public record Hit(long taskId, Long listId, String name, int score) {
+    }
+
+    /**
+     * Adds a task or replaces its indexed text.
+     */
+    public void put(long taskId, Long listId, String name, String description) {
+        Doc doc = new Doc(taskId, listId, name == null ? "" : name, normalize(name), normalize(description));
+        lock.writeLock().lock();
+        try {
+            retire(taskId);
+            append(doc);
+            compactIfSparse();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long taskId) {
+        lock.writeLock().lock();
+        try {
+            retire(taskId);
+            compactIfSparse();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes every task of a deleted list.
+     */
+    public void removeList(long listId) {
+        lock.writeLock().lock();
+        try {
+            for (Doc doc : docs) {
+                if (doc != null && doc.listId != null && doc.listId == listId) {
+                    retire(doc.taskId);
+                }
+            }
+            compactIfSparse();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Records that a task now sits in another list; its text is unchanged.
+     */
+    public void moveToList(long taskId, long listId) {
+        lock.writeLock().lock();
+        try {
+            Integer number = docByTask.get(taskId);
+            if (number != null) {
+                docs.get(number).listId = listId;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docByTask.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Finds the tasks matching every term of {@code query}, best first.
+     */
+    public List<Hit> search(String query, int limit) {
+        List<String> terms = words(normalize(query));
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        Set<String> grams = new LinkedHashSet<>();
+        for (String term : terms) {
+            queryGrams(term, grams);
+        }
+
+        lock.readLock().lock();
+        try {
+            int[] candidates = candidates(grams);
+            // Worst hit on top, so it is the one dropped when the queue is over the limit
+            PriorityQueue<Hit> best = new PriorityQueue<>(RANKING.reversed());
+            for (int number : candidates) {
+                Doc doc = docs.get(number);
+                if (doc == null) {
+                    continue;
+                }
+                int score = score(doc, terms);
+                if (score == 0) {
+                    continue;
+                }
+                if (best.size() == limit) {
+                    // Same order as RANKING, checked before allocating a hit that would be dropped right away
+                    Hit worst = best.peek();
+                    int byLength = Integer.compare(doc.name.length(), worst.name().length());
+                    if (score < worst.score() || score == worst.score()
+                            && (byLength > 0 || byLength == 0 && doc.taskId > worst.taskId())) {
+                        continue;
+                    }
+                    best.poll();
+                }
+                best.add(new Hit(doc.taskId, doc.listId, doc.name, score));
+            }
+            List<Hit> hits = new ArrayList<>(best);
+            hits.sort(RANKING);
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void append(Doc doc) {
+        int number = docs.size();
+        docs.add(doc);
+        docByTask.put(doc.taskId, number);
+        Set<String> grams = new LinkedHashSet<>();
+        for (String word : words(doc.normalizedName + " " + doc.description)) {
+            wordGrams(word, grams);
+        }
+        for (String gram : grams) {
+            postings.computeIfAbsent(gram, key -> new IntList()).add(number);
+        }
+    }
+
+    private void retire(long taskId) {
+        Integer number = docByTask.remove(taskId);
+        if (number != null) {
+            docs.set(number, null);
+            retired++;
+        }
+    }
+
+    private void compactIfSparse() {
+        if (retired < 64 || retired * 2 < docs.size()) {
+            return;
+        }
+        List<Doc> live = docs.stream().filter(doc -> doc != null).toList();
+        docs.clear();
+        docByTask.clear();
+        postings.clear();
+        retired = 0;
+        live.forEach(this::append);
+    }
+
+    /**
+     * Intersection of the posting lists of all grams, rarest first.
+     */
+    private int[] candidates(Set<String> grams) {
+        List<IntList> lists = new ArrayList<>(grams.size());
+        for (String gram : grams) {
+            IntList list = postings.get(gram);
+            if (list == null) {
+                return new int[0];
+            }
+            lists.add(list);
+        }
+        lists.sort(Comparator.comparingInt(list -> list.size));
+        int[] result = Arrays.copyOf(lists.get(0).items, lists.get(0).size);
+        int size = result.length;
+        for (int i = 1; i < lists.size() && size > 0; i++) {
+            IntList other = lists.get(i);
+            int kept = 0;
+            for (int a = 0, b = 0; a < size && b < other.size; ) {
+                if (result[a] < other.items[b]) {
+                    a++;
+                } else if (result[a] > other.items[b]) {
+                    b++;
+                } else {
+                    result[kept++] = result[a];
+                    a++;
+                    b++;
+                }
+            }
+            size = kept;
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    /**
+     * Sum of the best match of each term, or 0 when a term does not match.
+     * Name: starts with the term 8, word prefix 6, substring 4. Description: word prefix 2, substring 1.
+     * Terms shorter than three characters only count as word prefixes.
+     */
+    private static int score(Doc doc, List<String> terms) {
+        int total = 0;
+        for (String term : terms) {
+            boolean prefixOnly = term.length() < 3;
+            int score = 0;
+            int inName = match(doc.normalizedName, term);
+            if (inName == 2) {
+                score = doc.normalizedName.startsWith(term) ? 8 : 6;
+            } else if (inName == 1 && !prefixOnly) {
+                score = 4;
+            } else {
+                int inDescription = match(doc.description, term);
+                if (inDescription == 2) {
+                    score = 2;
+                } else if (inDescription == 1 && !prefixOnly) {
+                    score = 1;
+                }
+            }
+            if (score == 0) {
+                return 0;
+            }
+            total += score;
+        }
+        return total;
+    }
+
+    /**
+     * 2 if {@code term} starts a word of {@code text}, 1 if it only occurs inside words, 0 if absent.
+     */
+    private static int match(String text, String term) {
+        int found = 0;
+        for (int at = text.indexOf(term); at >= 0; at = text.indexOf(term, at + 1)) {
+            if (at == 0 || !Character.isLetterOrDigit(text.charAt(at - 1))) {
+                return 2;
+            }
+            found = 1;
+        }
+        return found;
+    }
+
+    private static void wordGrams(String word, Set<String> grams) {
+        String padded = "  " + word + " ";
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            grams.add(padded.substring(i, i + 3));
+        }
+    }
+
+    private static void queryGrams(String term, Set<String> grams) {
+        if (term.length() >= 3) {
+            for (int i = 0; i + 3 <= term.length(); i++) {
+                grams.add(term.substring(i, i + 3));
+            }
+        } else {
+            // Leading grams of a padded word: "  a" and " ab"
+            String padded = "  " + term;
+            for (int i = 0; i + 3 <= padded.length(); i++) {
+                grams.add(padded.substring(i, i + 3));
+            }
+        }
+    }
+
+    private static List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean inWord = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (inWord && start < 0) {
+                start = i;
+            } else if (!inWord && start >= 0) {
+                words.add(text.substring(start, i));
+                start = -1;
+            }
+        }
+        return words;
+    }
+
+    static String normalize(String text) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+        return MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Doc {
+        private final long taskId;
+        private Long listId;
+        private final String name;
+        private final String normalizedName;
+        private final String description;
+
+        private Doc(long taskId, Long listId, String name, String normalizedName, String description) {
+            this.taskId = taskId;
+            this.listId = listId;
+            this.name = name;
+            this.normalizedName = normalizedName;
+            this.description = description;
+        }
+    }
+
+    /**
+     * Growable int array; posting lists are appended in increasing order.
+     */
+    private static final class IntList {
+        private int[] items = new int[4];
+        private int size;
+
+        private void add(int value) {
+            if (size == items.length) {
+                items = Arrays.copyOf(items, size * 2);
+            }
+            items[size++] = value;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.demo;
+
+import com.example.demo.entity.BoardList;
+import com.example.demo.entity.Dependency;
+import com.example.demo.entity.Project;
+import com.example.demo.entity.Task;
+import com.example.demo.entity.User;
+import com.example.demo.metrics.MaxQueries;
+import com.example.demo.util.FractionalIndex;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * SQL budgets of the endpoints that used to issue one query per list or task, so a per-row
+ * query coming back fails the build. Runs through Hibernate against the configured database,
+ * like DemoApplicationTests; each test rolls back.
+ *
+ * The board has 5 lists of 8 tasks, each task depending on the previous one in its list, so a
+ * query per list or per task blows the budget by several statements.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+@WithMockUser(username = QueryBudgetTests.OWNER)
+class QueryBudgetTests {
+
+    static final String OWNER = "query-budget-owner";
+
+    private static final int LISTS = 5;
+    private static final int TASKS_PER_LIST = 8;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Project project;
+    private List<BoardList> lists;
+    private List<Task> tasks;
+
+    @BeforeEach
+    void seedBoard() {
+        User owner = new User();
+        owner.setUsername(OWNER);
+        owner.setEmail(OWNER + "@example.com");
+        owner.setPasswordHash("unused");
+        entityManager.persist(owner);
+
+        project = new Project();
+        project.setName("Query budget");
+        project.setOwner(owner);
+        entityManager.persist(project);
+
+        lists = new ArrayList<>();
+        tasks = new ArrayList<>();
+        String[] listKeys = FractionalIndex.initialKeys(LISTS);
+        String[] taskKeys = FractionalIndex.initialKeys(TASKS_PER_LIST);
+        for (int l = 0; l < LISTS; l++) {
+            BoardList list = new BoardList();
+            list.setName("List " + l);
+            list.setPosition(l);
+            list.setOrderKey(listKeys[l]);
+            list.setProject(project);
+            entityManager.persist(list);
+            lists.add(list);
+
+            Task previous = null;
+            for (int t = 0; t < TASKS_PER_LIST; t++) {
+                Task task = new Task();
+                task.setName("Task " + l + "." + t);
+                task.setPosition(t);
+                task.setOrderKey(taskKeys[t]);
+                task.setList(list);
+                entityManager.persist(task);
+                tasks.add(task);
+                if (previous != null) {
+                    Dependency dependency = new Dependency();
+                    dependency.setTask(task);
+                    dependency.setDependsOn(previous);
+                    entityManager.persist(dependency);
+                }
+                previous = task;
+            }
+        }
+        // Start each request from an empty persistence context so lazy loads really hit the database
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @MaxQueries(8)
+    void testProjectBoard() throws Exception {
+        mockMvc.perform(get("/api/projects/{id}", project.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.lists.length()").value(LISTS))
+                .andExpect(jsonPath("$.lists[0].tasks[1].dependencyIds[0]").value(tasks.get(0).getId()));
+    }
+
+    @Test
+    @MaxQueries(6)
+    void testListTasks() throws Exception {
+        mockMvc.perform(get("/api/tasks/list/{listId}", lists.get(0).getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(TASKS_PER_LIST))
+                .andExpect(jsonPath("$[3].dependencyIds[0]").value(tasks.get(2).getId()));
+    }
+
+    @Test
+    @MaxQueries(10)
+    void testAddDependency() throws Exception {
+        // Last task of list 1 on the last task of list 0, whose prerequisites form a chain of
+        // TASKS_PER_LIST - 1 more tasks, so a cycle check that queries per task blows the budget
+        Task task = tasks.get(2 * TASKS_PER_LIST - 1);
+        mockMvc.perform(post("/api/tasks/{taskId}/dependencies", task.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"dependsOnId\": " + tasks.get(TASKS_PER_LIST - 1).getId() + "}"))
+                .andExpect(status().isOk());
+    }
+}
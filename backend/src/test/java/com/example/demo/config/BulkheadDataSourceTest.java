@@ -0,0 +1,68 @@
+package com.example.demo.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class BulkheadDataSourceTest {
+
+    private DataSource pool;
+    private BulkheadDataSource bulkhead;
+
+    @BeforeEach
+    void setup() throws SQLException {
+        pool = mock(DataSource.class);
+        when(pool.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+        bulkhead = new BulkheadDataSource(pool, 2, 50);
+    }
+
+    @Test
+    void rejectsWhenAllSlotsAreTaken() throws SQLException {
+        bulkhead.getConnection();
+        bulkhead.getConnection();
+
+        assertThrows(SQLTransientConnectionException.class, bulkhead::getConnection);
+        assertEquals(0, bulkhead.availablePermits());
+        verify(pool, times(2)).getConnection();
+    }
+
+    @Test
+    void closingReturnsTheSlotOnce() throws SQLException {
+        Connection first = bulkhead.getConnection();
+        bulkhead.getConnection();
+
+        first.close();
+        first.close();
+
+        assertEquals(1, bulkhead.availablePermits());
+        assertNotNull(bulkhead.getConnection());
+        assertThrows(SQLTransientConnectionException.class, bulkhead::getConnection);
+    }
+
+    @Test
+    void poolFailureReleasesTheSlot() throws SQLException {
+        when(pool.getConnection()).thenThrow(new SQLException("pool timeout"));
+
+        assertThrows(SQLException.class, bulkhead::getConnection);
+        assertEquals(2, bulkhead.availablePermits());
+    }
+
+    @Test
+    void otherCallsReachTheConnection() throws SQLException {
+        Connection target = mock(Connection.class);
+        when(pool.getConnection()).thenReturn(target);
+
+        Connection connection = bulkhead.getConnection();
+        connection.setAutoCommit(false);
+
+        verify(target).setAutoCommit(false);
+        assertSame(target, connection.unwrap(Connection.class));
+    }
+}
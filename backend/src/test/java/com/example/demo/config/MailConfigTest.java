@@ -0,0 +1,30 @@
+package com.example.demo.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.mail.MailSenderAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.mail.javamail.JavaMailSender;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MailConfigTest {
+
+    private final ApplicationContextRunner runner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(MailSenderAutoConfiguration.class))
+            .withUserConfiguration(MailConfig.class)
+            .withPropertyValues("spring.mail.host=localhost");
+
+    @Test
+    void createsMailSenderOnFirstUse() {
+        runner.run(context -> {
+            String[] names = context.getBeanNamesForType(JavaMailSender.class);
+            assertEquals(1, names.length);
+            assertTrue(context.getBeanFactory().getBeanDefinition(names[0]).isLazyInit());
+            assertFalse(context.getBeanFactory().containsSingleton(names[0]));
+
+            context.getBean(JavaMailSender.class);
+            assertTrue(context.getBeanFactory().containsSingleton(names[0]));
+        });
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.demo.controller;
+
+import com.example.demo.dto.MoveDto;
+import com.example.demo.entity.Task;
+import com.example.demo.entity.User;
+import com.example.demo.exception.GlobalExceptionHandler;
+import com.example.demo.repository.UserRepository;
+import com.example.demo.service.TaskService;
+import com.example.demo.service.UpcomingTaskService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Error mapping of task endpoints through GlobalExceptionHandler.
+ * The services are mocked so no database is required.
+ */
+class TaskControllerTest {
+
+    private TaskService taskService;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setup() {
+        taskService = mock(TaskService.class);
+        UserRepository userRepo = mock(UserRepository.class);
+        User user = new User();
+        user.setUsername("alice");
+        when(userRepo.findByUsername("alice")).thenReturn(Optional.of(user));
+
+        mockMvc = MockMvcBuilders
+                .standaloneSetup(new TaskController(taskService, mock(UpcomingTaskService.class), userRepo))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @Test
+    void testStaleMoveIsConflict() throws Exception {
+        // A move that loaded the task before another edit committed fails its version check at commit
+        when(taskService.move(eq(7L), any(MoveDto.class), any(User.class)))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Task.class, 7L));
+
+        mockMvc.perform(patch("/api/tasks/{id}/move", 7L)
+                        .principal(new UsernamePasswordAuthenticationToken("alice", null))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"listId\": 3, \"previousId\": null}"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.message").exists());
+    }
+}
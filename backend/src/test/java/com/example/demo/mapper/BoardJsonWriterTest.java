@@ -0,0 +1,93 @@
+package com.example.demo.mapper;
+
+import com.example.demo.dto.BoardListDto;
+import com.example.demo.dto.TaskDto;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The streamed board must be byte-for-byte what Jackson writes for the equivalent DTOs.
+ */
+class BoardJsonWriterTest {
+
+    // Spring Boot's defaults: ISO date strings instead of timestamp arrays
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build();
+
+    @Test
+    void matchesDtoSerialization() throws Exception {
+        LocalDateTime created = LocalDateTime.of(2025, 3, 1, 9, 30, 15, 120_000_000);
+        TaskDto first = new TaskDto(11L, "Design \"schema\"", null, LocalDate.of(2025, 3, 2), null,
+                created, 0, 1L, 3L, List.of());
+        TaskDto second = new TaskDto(12L, "Build", "Uses the schema", null, LocalDate.of(2025, 3, 9),
+                created, 1, 1L, 0L, List.of(11L, 7L));
+        List<BoardListDto> board = List.of(
+                new BoardListDto(1L, "To do", 0, created, 2L, List.of(first, second)),
+                new BoardListDto(2L, "Done", 1, created, 0L, List.of()));
+
+        String streamed = stream(writer -> {
+            writer.list(1L, "To do", 0, created, 2L);
+            writer.task(11L, "Design \"schema\"", null, LocalDate.of(2025, 3, 2), null, created, 0, 3L, new Long[0]);
+            writer.task(12L, "Build", "Uses the schema", null, LocalDate.of(2025, 3, 9), created, 1, 0L,
+                    new Long[] { 11L, 7L });
+            writer.list(2L, "Done", 1, created, 0L);
+            writer.finish();
+        });
+
+        assertEquals(objectMapper.writeValueAsString(board), streamed);
+    }
+
+    @Test
+    void cborCarriesTheSameTree() throws Exception {
+        LocalDateTime created = LocalDateTime.of(2025, 3, 1, 9, 30);
+        ObjectMapper cbor = Jackson2ObjectMapperBuilder.json().factory(new CBORFactory())
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (JsonGenerator generator = cbor.getFactory().createGenerator(out)) {
+            BoardJsonWriter writer = new BoardJsonWriter(generator);
+            writer.list(1L, "To do", 0, created, 0L);
+            writer.task(11L, "Design", null, null, LocalDate.of(2025, 3, 9), created, 0, 0L, new Long[] { 4L });
+            writer.finish();
+        }
+        BoardListDto list = new BoardListDto(1L, "To do", 0, created, 0L, List.of(
+                new TaskDto(11L, "Design", null, null, LocalDate.of(2025, 3, 9), created, 0, 1L, 0L, List.of(4L))));
+
+        assertEquals(objectMapper.writeValueAsString(List.of(list)),
+                objectMapper.writeValueAsString(cbor.readTree(out.toByteArray())));
+    }
+
+    @Test
+    void emptyBoardIsEmptyArray() throws Exception {
+        assertEquals("[]", stream(BoardJsonWriter::finish));
+    }
+
+    @Test
+    void taskOutsideListIsRejected() {
+        assertThrows(IllegalStateException.class, () -> stream(writer ->
+                writer.task(1L, "Orphan", null, null, null, null, 0, 0L, null)));
+    }
+
+    private String stream(WriterCalls calls) throws Exception {
+        StringWriter out = new StringWriter();
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            calls.apply(new BoardJsonWriter(generator));
+        }
+        return out.toString();
+    }
+
+    private interface WriterCalls {
+        void apply(BoardJsonWriter writer) throws Exception;
+    }
+}
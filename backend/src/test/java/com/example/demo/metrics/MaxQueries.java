@@ -0,0 +1,21 @@
+package com.example.demo.metrics;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Fails the test if its body issues more Hibernate SQL statements than {@link #value()}.
+ * Setup in @BeforeEach is not counted. Meant for MockMvc or service-level tests, which run on the
+ * test thread; call one endpoint per test so the budget belongs to that endpoint.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(QueryCountExtension.class)
+public @interface MaxQueries {
+
+    long value();
+}
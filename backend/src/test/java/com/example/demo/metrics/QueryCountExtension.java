@@ -0,0 +1,38 @@
+package com.example.demo.metrics;
+
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.opentest4j.AssertionFailedError;
+
+import java.util.Optional;
+
+/**
+ * JUnit extension behind {@link MaxQueries}: counts the statements QueryCounter sees while the
+ * test method runs and compares them with the budget on the method or, failing that, the class.
+ */
+public class QueryCountExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(QueryCountExtension.class);
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        context.getStore(NAMESPACE).put(context.getUniqueId(), QueryCounter.mark());
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        Long mark = context.getStore(NAMESPACE).remove(context.getUniqueId(), Long.class);
+        Optional<MaxQueries> budget = AnnotationSupport.findAnnotation(context.getTestMethod(), MaxQueries.class)
+                .or(() -> AnnotationSupport.findAnnotation(context.getTestClass(), MaxQueries.class));
+        if (mark == null || budget.isEmpty()) {
+            return;
+        }
+        long queries = QueryCounter.since(mark);
+        if (queries > budget.get().value()) {
+            throw new AssertionFailedError(context.getDisplayName() + " issued " + queries
+                    + " SQL statements, more than its budget of " + budget.get().value());
+        }
+    }
+}
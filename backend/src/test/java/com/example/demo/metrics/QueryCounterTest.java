@@ -0,0 +1,47 @@
+package com.example.demo.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for QueryCounter and the MaxQueries budget.
+ */
+class QueryCounterTest {
+
+    private final QueryCounter inspector = new QueryCounter();
+
+    @Test
+    void testCountsSinceMark() {
+        long outer = QueryCounter.mark();
+        inspector.inspect("select 1");
+        long inner = QueryCounter.mark();
+        inspector.inspect("select 2");
+        inspector.inspect("select 3");
+
+        assertEquals(2, QueryCounter.since(inner));
+        assertEquals(3, QueryCounter.since(outer));
+    }
+
+    @Test
+    void testCountsAreThreadLocal() throws Exception {
+        long mark = QueryCounter.mark();
+        CompletableFuture.runAsync(() -> inspector.inspect("select 1")).get();
+
+        assertEquals(0, QueryCounter.since(mark));
+    }
+
+    @Test
+    void testReturnsStatementUnchanged() {
+        assertEquals("select * from task", inspector.inspect("select * from task"));
+    }
+
+    @Test
+    @MaxQueries(2)
+    void testWithinBudget() {
+        inspector.inspect("select 1");
+        inspector.inspect("select 2");
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.demo.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Rendering of the per-recipient digests, and the chunking of a run with the JDBC calls mocked;
+ * the queries that fill the digests need PostgreSQL.
+ */
+class DigestServiceTest {
+
+    private static final LocalDateTime SINCE = LocalDateTime.of(2025, 3, 1, 5, 0);
+
+    private DigestService digestService;
+
+    @BeforeEach
+    void setup() {
+        digestService = new DigestService(null, null);
+        ReflectionTestUtils.setField(digestService, "frontendUrl", "http://planner.test");
+    }
+
+    @Test
+    void testOneEmailPerRecipientAcrossProjects() {
+        DigestService.Recipient alice = new DigestService.Recipient("alice", "alice@example.com");
+        alice.section(1L, "Apollo", SINCE).items.add("- Mar 1 09:00 bob: Created task Launch\n");
+        DigestService.Recipient fromSecondProject = new DigestService.Recipient("alice", "alice@example.com");
+        fromSecondProject.section(2L, "Gemini", SINCE).items.add("- Mar 1 10:00 carol: Moved task Dock\n");
+        alice.addAll(fromSecondProject);
+
+        List<String[]> emails = digestService.render(List.of(alice));
+
+        assertEquals(1, emails.size());
+        assertEquals("alice@example.com", emails.get(0)[0]);
+        assertEquals("Daily digest: 2 projects", emails.get(0)[1]);
+        String body = emails.get(0)[2];
+        assertTrue(body.startsWith("Hello alice,"));
+        assertTrue(body.contains("\"Apollo\" since 2025-03-01 05:00:"));
+        assertTrue(body.contains("bob: Created task Launch"));
+        assertTrue(body.contains("http://planner.test/projects/1"));
+        assertTrue(body.contains("\"Gemini\" since 2025-03-01 05:00:"));
+        assertTrue(body.contains("carol: Moved task Dock"));
+        assertTrue(body.contains("http://planner.test/projects/2"));
+        assertTrue(body.indexOf("Apollo") < body.indexOf("Gemini"));
+    }
+
+    @Test
+    void testSkipsQuietProjectsAndRecipients() {
+        DigestService.Recipient alice = new DigestService.Recipient("alice", "alice@example.com");
+        alice.section(1L, "Apollo", SINCE).items.add("- Mar 1 09:00 bob: Created task Launch\n");
+        alice.section(2L, "Gemini", SINCE);
+        DigestService.Recipient bob = new DigestService.Recipient("bob", "bob@example.com");
+        bob.section(1L, "Apollo", SINCE);
+
+        List<String[]> emails = digestService.render(List.of(alice, bob));
+
+        assertEquals(1, emails.size());
+        assertEquals("Daily digest: Apollo", emails.get(0)[1]);
+        assertFalse(emails.get(0)[2].contains("Gemini"));
+    }
+
+    @Test
+    void testMentionsOverflow() {
+        DigestService.Recipient alice = new DigestService.Recipient("alice", "alice@example.com");
+        DigestService.Section section = alice.section(1L, "Apollo", SINCE);
+        section.items.add("- Mar 1 09:00 bob: Created task Launch\n");
+        section.overflow = 7;
+
+        String body = digestService.render(List.of(alice)).get(0)[2];
+
+        assertTrue(body.contains("...and 7 more"));
+    }
+
+    @Test
+    void testCommitsEachChunkWithItsCheckpoints() {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        TransactionStatus status = mock(TransactionStatus.class);
+        List<String> transactions = new ArrayList<>();
+        when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
+            transactions.add("begin");
+            Object result = invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(status);
+            transactions.add("commit");
+            return result;
+        });
+        // Projects 1 to 5 are due; each query returns the next chunk after the given project id
+        doAnswer(invocation -> {
+            long after = invocation.getArgument(3);
+            int limit = invocation.getArgument(4);
+            RowCallbackHandler handler = invocation.getArgument(1);
+            for (long id = after + 1; id <= Math.min(after + limit, 5); id++) {
+                ResultSet rs = mock(ResultSet.class);
+                when(rs.getLong("project_id")).thenReturn(id);
+                when(rs.getTimestamp("digested_until")).thenReturn(Timestamp.valueOf(SINCE));
+                handler.processRow(rs);
+            }
+            return null;
+        }).when(jdbcTemplate).query(contains("FROM digest_checkpoint"), any(RowCallbackHandler.class),
+                any(), anyLong(), anyInt());
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), any())).thenReturn(List.of());
+        when(jdbcTemplate.batchUpdate(contains("UPDATE digest_checkpoint"), anyList())).thenAnswer(invocation -> {
+            transactions.add("checkpoints " + invocation.<List<?>>getArgument(1).size());
+            return new int[0];
+        });
+
+        DigestService service = new DigestService(jdbcTemplate, transactionTemplate);
+        ReflectionTestUtils.setField(service, "chunkSize", 2);
+        ReflectionTestUtils.setField(service, "batchSize", 500);
+
+        assertEquals(0, service.generateDigests());
+        assertEquals(List.of(
+                "begin", "checkpoints 2", "commit",
+                "begin", "checkpoints 2", "commit",
+                "begin", "checkpoints 1", "commit",
+                "begin", "commit"), transactions);
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.demo.service;
+
+import com.example.demo.entity.EmailOutbox;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.GreenMailUtil;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Delivery tests against an in-process GreenMail SMTP server.
+ * The outbox bookkeeping is mocked so no database is required.
+ */
+class EmailDeliveryServiceTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private EmailOutboxService outboxService;
+    private ThreadPoolTaskExecutor executor;
+    private JavaMailSenderImpl mailSender;
+    private EmailDeliveryService deliveryService;
+
+    @BeforeEach
+    void setup() {
+        outboxService = mock(EmailOutboxService.class);
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.initialize();
+
+        mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(ServerSetupTest.SMTP.getPort());
+
+        deliveryService = new EmailDeliveryService(outboxService, mailSender, executor);
+        ReflectionTestUtils.setField(deliveryService, "fromEmail", "planner@localhost");
+        ReflectionTestUtils.setField(deliveryService, "batchSize", 20);
+        ReflectionTestUtils.setField(deliveryService, "maxAttempts", 3);
+        ReflectionTestUtils.setField(deliveryService, "initialBackoffMs", 1000L);
+        ReflectionTestUtils.setField(deliveryService, "maxBackoffMs", 60000L);
+        ReflectionTestUtils.setField(deliveryService, "leaseMs", 60000L);
+    }
+
+    @AfterEach
+    void teardown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void testDeliversClaimedEmails() throws Exception {
+        when(outboxService.claimDue(anyInt(), any(), anyInt())).thenReturn(List.of(
+                email(1L, "alice@example.com", 1),
+                email(2L, "bob@example.com", 1)));
+
+        deliveryService.deliverDue();
+
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertEquals(2, received.length);
+        assertEquals("Verify Your Email Address", received[0].getSubject());
+        assertTrue(GreenMailUtil.getBody(received[0]).contains("Hello"));
+        verify(outboxService).markSent(1L);
+        verify(outboxService).markSent(2L);
+    }
+
+    @Test
+    void testSchedulesRetryWhenServerIsDown() {
+        mailSender.setPort(ServerSetupTest.SMTP.getPort() + 1);
+        when(outboxService.claimDue(anyInt(), any(), anyInt())).thenReturn(List.of(email(1L, "alice@example.com", 2)));
+
+        LocalDateTime before = LocalDateTime.now();
+        deliveryService.deliverDue();
+
+        // Second attempt failed: 2 s nominal backoff with +-20% jitter
+        verify(outboxService).markForRetry(eq(1L), anyString(), argThat(next ->
+                !next.isBefore(before.plus(Duration.ofMillis(1600))) && next.isBefore(LocalDateTime.now().plus(Duration.ofMillis(2400)))));
+        verify(outboxService, never()).markSent(any());
+    }
+
+    @Test
+    void testDeadLettersAfterMaxAttempts() {
+        mailSender.setPort(ServerSetupTest.SMTP.getPort() + 1);
+        when(outboxService.claimDue(anyInt(), any(), anyInt())).thenReturn(List.of(email(1L, "alice@example.com", 3)));
+
+        deliveryService.deliverDue();
+
+        verify(outboxService).markDead(eq(1L), anyString());
+        verify(outboxService, never()).markForRetry(any(), any(), any());
+    }
+
+    @Test
+    void testSchedulesRetryWhenBookkeepingFails() {
+        when(outboxService.claimDue(anyInt(), any(), anyInt())).thenReturn(List.of(email(1L, "alice@example.com", 1)));
+        doThrow(new IllegalStateException("connection reset")).when(outboxService).markSent(1L);
+
+        deliveryService.deliverDue();
+
+        verify(outboxService).markForRetry(eq(1L), eq("connection reset"), any());
+    }
+
+    @Test
+    void testBackoffDoublesUpToMax() {
+        Duration initial = Duration.ofSeconds(30);
+        Duration max = Duration.ofMinutes(10);
+        assertEquals(Duration.ofSeconds(30), EmailDeliveryService.backoff(1, initial, max));
+        assertEquals(Duration.ofSeconds(60), EmailDeliveryService.backoff(2, initial, max));
+        assertEquals(Duration.ofSeconds(240), EmailDeliveryService.backoff(4, initial, max));
+        assertEquals(max, EmailDeliveryService.backoff(20, initial, max));
+    }
+
+    private static EmailOutbox email(Long id, String recipient, int attempts) {
+        EmailOutbox email = new EmailOutbox(recipient, "Verify Your Email Address", "Hello " + recipient);
+        email.setId(id);
+        email.setAttempts(attempts);
+        return email;
+    }
+}
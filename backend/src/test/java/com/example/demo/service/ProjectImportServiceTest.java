@@ -0,0 +1,86 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.ProjectImportDto;
+import com.example.demo.entity.Project;
+import com.example.demo.entity.User;
+import com.example.demo.repository.BoardListRepository;
+import com.example.demo.repository.ProjectRepository;
+import com.example.demo.repository.TaskRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.StringReader;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for CSV parsing and plan validation in ProjectImportService.
+ * Validation runs before anything is persisted, so mocks are enough.
+ */
+class ProjectImportServiceTest {
+
+    private ProjectRepository projectRepo;
+    private EntityManager entityManager;
+    private ProjectImportService importService;
+
+    @BeforeEach
+    void setup() {
+        projectRepo = mock(ProjectRepository.class);
+        entityManager = mock(EntityManager.class);
+        importService = new ProjectImportService(entityManager, projectRepo, mock(BoardListRepository.class),
+                mock(TaskRepository.class), mock(ProjectActivityService.class), mock(ApplicationEventPublisher.class));
+        ReflectionTestUtils.setField(importService, "batchSize", 100);
+        ReflectionTestUtils.setField(importService, "maxTasks", 1000);
+        when(projectRepo.findByIdAndUserAccess(any(), any())).thenReturn(Optional.of(new Project()));
+    }
+
+    @Test
+    void testParseCsv() {
+        String csv = "list,ref,name,description,startDate,dueDate,dependsOn\r\n"
+                + "Backlog,a,Design,\"Sketch, then \"\"review\"\"\",2025-01-06,,\n"
+                + "Doing,b,Build,\"two\nlines\",,2025-02-01,a\n"
+                + "Backlog,c,Test,,,,a; b\n";
+
+        ProjectImportDto plan = importService.parseCsv(new StringReader(csv));
+
+        assertEquals(List.of("Backlog", "Doing"), plan.getLists().stream().map(ProjectImportDto.ListEntry::getName).toList());
+        ProjectImportDto.TaskEntry design = plan.getLists().get(0).getTasks().get(0);
+        assertEquals("Sketch, then \"review\"", design.getDescription());
+        assertEquals(LocalDate.of(2025, 1, 6), design.getStartDate());
+        assertEquals("two\nlines", plan.getLists().get(1).getTasks().get(0).getDescription());
+        assertEquals(List.of("a", "b"), plan.getLists().get(0).getTasks().get(1).getDependsOn());
+    }
+
+    @Test
+    void testRejectsUnknownColumn() {
+        assertThrows(IllegalArgumentException.class,
+                () -> importService.parseCsv(new StringReader("list,name,owner\nA,B,C\n")));
+    }
+
+    @Test
+    void testRejectsCycleBeforeWriting() {
+        String csv = "list,ref,name,dependsOn\n"
+                + "A,a,First,c\n"
+                + "A,b,Second,a\n"
+                + "A,c,Third,b\n";
+        ProjectImportDto plan = importService.parseCsv(new StringReader(csv));
+
+        assertThrows(IllegalArgumentException.class, () -> importService.importPlan(1L, plan, new User()));
+        verifyNoInteractions(entityManager);
+    }
+
+    @Test
+    void testRejectsUnknownRef() {
+        ProjectImportDto plan = importService.parseCsv(new StringReader("list,ref,name,dependsOn\nA,a,First,x\n"));
+
+        assertThrows(IllegalArgumentException.class, () -> importService.importPlan(1L, plan, new User()));
+    }
+}
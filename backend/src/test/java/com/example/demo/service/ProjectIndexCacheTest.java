@@ -0,0 +1,88 @@
+package com.example.demo.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProjectIndexCacheTest {
+
+    @Test
+    void testReplaysChangesMadeDuringBuild() throws Exception {
+        CountDownLatch reading = new CountDownLatch(1);
+        CountDownLatch changed = new CountDownLatch(1);
+        ProjectIndexCache<List<String>> cache = new ProjectIndexCache<>(10, Duration.ofMinutes(5), projectId -> {
+            // The build has read its snapshot when the change commits
+            List<String> index = new ArrayList<>(List.of("before"));
+            reading.countDown();
+            await(changed);
+            return index;
+        });
+
+        CompletableFuture<List<String>> build = CompletableFuture.supplyAsync(() -> cache.get(1));
+        assertTrue(reading.await(5, TimeUnit.SECONDS));
+        cache.apply(1, index -> index.add("during"));
+        changed.countDown();
+
+        assertEquals(List.of("before", "during"), build.get(5, TimeUnit.SECONDS));
+        assertSame(build.get(), cache.get(1));
+
+        cache.apply(1, index -> index.add("after"));
+        assertEquals(List.of("before", "during", "after"), cache.get(1));
+    }
+
+    @Test
+    void testInvalidateDuringBuildDiscardsResult() throws Exception {
+        AtomicInteger builds = new AtomicInteger();
+        CountDownLatch reading = new CountDownLatch(1);
+        CountDownLatch invalidated = new CountDownLatch(1);
+        ProjectIndexCache<Integer> cache = new ProjectIndexCache<>(10, Duration.ofMinutes(5), projectId -> {
+            int build = builds.incrementAndGet();
+            if (build == 1) {
+                reading.countDown();
+                await(invalidated);
+            }
+            return build;
+        });
+
+        CompletableFuture<Integer> first = CompletableFuture.supplyAsync(() -> cache.get(1));
+        assertTrue(reading.await(5, TimeUnit.SECONDS));
+        cache.invalidate(1);
+        invalidated.countDown();
+
+        assertEquals(1, first.get(5, TimeUnit.SECONDS));
+        assertEquals(2, cache.get(1));
+        assertEquals(2, cache.get(1));
+    }
+
+    @Test
+    void testChangesToUnloadedProjectsAreDropped() {
+        AtomicInteger builds = new AtomicInteger();
+        ProjectIndexCache<List<String>> cache = new ProjectIndexCache<>(1, Duration.ofMinutes(5), projectId -> {
+            builds.incrementAndGet();
+            return new ArrayList<>();
+        });
+
+        cache.apply(1, index -> index.add("unseen"));
+        assertEquals(List.of(), cache.get(1));
+        cache.get(2);
+        // Project 1 was evicted, so it is built again
+        cache.get(1);
+        assertEquals(3, builds.get());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.demo.strategy;
+
+import com.example.demo.repository.DependencyRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for DepthFirstCycleDetection.
+ * Uses a mocked DependencyRepository so no DB is required.
+ */
+class DepthFirstCycleDetectionTest {
+
+    private DependencyRepository dependencyRepo;
+    private SimpleMeterRegistry meterRegistry;
+    private DepthFirstCycleDetection detection;
+
+    @BeforeEach
+    void setup() {
+        dependencyRepo = mock(DependencyRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        detection = new DepthFirstCycleDetection(dependencyRepo, meterRegistry);
+    }
+
+    @Test
+    void testNoCycle() {
+        when(dependencyRepo.findEdgesReachableFrom(2L)).thenReturn(List.of());
+
+        assertFalse(detection.createsCycle(1L, 2L));
+    }
+
+    @Test
+    void testIndirectCycle() {
+        // 2 -> 3 -> 1, so adding 1 -> 2 closes a loop
+        when(dependencyRepo.findEdgesReachableFrom(2L)).thenReturn(edges(2L, 3L, 3L, 1L));
+
+        assertTrue(detection.createsCycle(1L, 2L));
+    }
+
+    @Test
+    void testSharedPrerequisitesCountedOnce() {
+        // Diamond: 2 -> {3, 4}, 3 -> 5, 4 -> 5, 5 -> 6
+        when(dependencyRepo.findEdgesReachableFrom(2L))
+                .thenReturn(edges(2L, 3L, 2L, 4L, 3L, 5L, 4L, 5L, 5L, 6L));
+
+        assertFalse(detection.createsCycle(1L, 2L));
+
+        // One query however deep the graph is
+        verify(dependencyRepo, times(1)).findEdgesReachableFrom(2L);
+        verifyNoMoreInteractions(dependencyRepo);
+        var visited = meterRegistry.get("planner.cycle_check.nodes_visited").summary();
+        assertEquals(1, visited.count());
+        assertEquals(5.0, visited.max());
+    }
+
+    // Pairs of (task, dependsOn) ids, as the recursive query returns them
+    private List<Object[]> edges(Long... ids) {
+        List<Object[]> edges = new ArrayList<>();
+        for (int i = 0; i < ids.length; i += 2) {
+            edges.add(new Object[] { ids[i], ids[i + 1] });
+        }
+        return edges;
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.demo.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for FractionalIndex.
+ */
+class FractionalIndexTest {
+
+    @Test
+    void testFirstKey() {
+        assertEquals("a0", FractionalIndex.between(null, null));
+    }
+
+    @Test
+    void testAppendAndPrepend() {
+        String first = FractionalIndex.between(null, null);
+        String last = FractionalIndex.between(first, null);
+        String top = FractionalIndex.between(null, first);
+
+        assertTrue(top.compareTo(first) < 0);
+        assertTrue(first.compareTo(last) < 0);
+    }
+
+    @Test
+    void testBetweenAdjacentKeys() {
+        String key = FractionalIndex.between("a0", "a1");
+        assertTrue("a0".compareTo(key) < 0);
+        assertTrue(key.compareTo("a1") < 0);
+
+        String deeper = FractionalIndex.between("a0", key);
+        assertTrue("a0".compareTo(deeper) < 0);
+        assertTrue(deeper.compareTo(key) < 0);
+    }
+
+    @Test
+    void testRepeatedInsertsKeepOrder() {
+        // Insert at random positions and check the list stays strictly ordered
+        List<String> keys = new ArrayList<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 2000; i++) {
+            int at = random.nextInt(keys.size() + 1);
+            String before = at == 0 ? null : keys.get(at - 1);
+            String after = at == keys.size() ? null : keys.get(at);
+            keys.add(at, FractionalIndex.between(before, after));
+        }
+        for (int i = 1; i < keys.size(); i++) {
+            assertTrue(keys.get(i - 1).compareTo(keys.get(i)) < 0, keys.get(i - 1) + " < " + keys.get(i));
+        }
+    }
+
+    @Test
+    void testAppendsStayShort() {
+        String key = null;
+        for (int i = 0; i < 20000; i++) {
+            String next = FractionalIndex.between(key, null);
+            if (key != null) {
+                assertTrue(key.compareTo(next) < 0);
+            }
+            key = next;
+        }
+        assertTrue(key.length() <= 4, key);
+
+        String top = null;
+        for (int i = 0; i < 1000; i++) {
+            String next = FractionalIndex.between(null, top);
+            if (top != null) {
+                assertTrue(next.compareTo(top) < 0);
+            }
+            top = next;
+        }
+        assertTrue(top.length() <= 3, top);
+    }
+
+    @Test
+    void testInitialKeys() {
+        String[] keys = FractionalIndex.initialKeys(20000);
+        assertEquals(20000, keys.length);
+        for (int i = 1; i < keys.length; i++) {
+            assertTrue(keys[i - 1].compareTo(keys[i]) < 0);
+            assertTrue(keys[i].length() <= 4);
+        }
+    }
+
+    @Test
+    void testRejectsUnorderedNeighbours() {
+        assertThrows(IllegalArgumentException.class, () -> FractionalIndex.between("a1", "a0"));
+        assertThrows(IllegalArgumentException.class, () -> FractionalIndex.between("a0", "a0"));
+        assertThrows(IllegalArgumentException.class, () -> FractionalIndex.between("a0V0", null));
+    }
+}
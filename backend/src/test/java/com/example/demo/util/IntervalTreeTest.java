@@ -0,0 +1,77 @@
+package com.example.demo.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntervalTreeTest {
+
+    @Test
+    void findsOverlapsOrderedByStart() {
+        IntervalTree<String> tree = new IntervalTree<>();
+        tree.put(1, 10, 20, "a");
+        tree.put(2, 0, 5, "b");
+        tree.put(3, 18, 18, "c");
+        tree.put(4, 21, 30, "d");
+
+        assertEquals(List.of("b"), tree.overlapping(5, 9));
+        assertEquals(List.of("a", "c"), tree.overlapping(15, 18));
+        assertEquals(List.of("a", "d"), tree.overlapping(20, 21));
+        assertEquals(List.of(), tree.overlapping(31, 40));
+    }
+
+    @Test
+    void replacesAndRemoves() {
+        IntervalTree<String> tree = new IntervalTree<>();
+        tree.put(1, 10, 20, "a");
+        tree.put(1, 40, 50, "a2");
+        tree.put(2, 15, 16, "b");
+        tree.removeIf("b"::equals);
+
+        assertEquals(List.of(), tree.overlapping(10, 20));
+        assertEquals(List.of("a2"), tree.overlapping(45, 45));
+        assertEquals(1, tree.size());
+        assertThrows(IllegalArgumentException.class, () -> tree.put(3, 5, 4, "bad"));
+    }
+
+    @Test
+    void matchesBruteForceUnderRandomChanges() {
+        Random random = new Random(3);
+        IntervalTree<Long> tree = new IntervalTree<>();
+        Map<Long, long[]> expected = new HashMap<>();
+        for (int step = 0; step < 20_000; step++) {
+            long id = random.nextInt(2_000);
+            if (random.nextInt(4) == 0) {
+                tree.remove(id);
+                expected.remove(id);
+            } else {
+                long start = random.nextInt(1_000);
+                long end = start + random.nextInt(60);
+                tree.put(id, start, end, id);
+                expected.put(id, new long[] { start, end });
+            }
+            if (step % 500 == 0) {
+                long from = random.nextInt(1_000);
+                long to = from + random.nextInt(30);
+                List<Long> brute = new ArrayList<>();
+                expected.forEach((key, range) -> {
+                    if (range[0] <= to && range[1] >= from) {
+                        brute.add(key);
+                    }
+                });
+                brute.sort(Comparator.<Long>comparingLong(key -> expected.get(key)[0]).thenComparingLong(key -> key));
+                assertEquals(brute, tree.overlapping(from, to));
+            }
+        }
+        assertEquals(expected.size(), tree.size());
+        // AVL height bound: 1.44 log2(n + 2)
+        assertTrue(tree.height() <= 1.45 * (Math.log(expected.size() + 2) / Math.log(2)));
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.demo.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KWayMergeTest {
+
+    @Test
+    void mergesSortedSourcesAndStopsAtN() {
+        List<Iterator<Integer>> sources = List.of(
+                List.of(1, 4, 9).iterator(),
+                List.<Integer>of().iterator(),
+                List.of(2, 3, 10, 11).iterator(),
+                List.of(5).iterator());
+
+        assertEquals(List.of(1, 2, 3, 4, 5, 9), KWayMerge.first(sources, Comparator.naturalOrder(), 6));
+    }
+
+    @Test
+    void readsOnlyWhatItReturnsPlusOneHeadPerSource() {
+        int[] read = new int[1];
+        List<Iterator<Integer>> sources = new ArrayList<>();
+        for (int s = 0; s < 4; s++) {
+            int offset = s;
+            Iterator<Integer> numbers = Stream.iterate(offset, n -> n + 4).iterator();
+            sources.add(new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return true;
+                }
+
+                @Override
+                public Integer next() {
+                    read[0]++;
+                    return numbers.next();
+                }
+            });
+        }
+
+        assertEquals(List.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9), KWayMerge.first(sources, Comparator.naturalOrder(), 10));
+        assertEquals(10 + 4, read[0]);
+    }
+
+    @Test
+    void matchesSortingEverything() {
+        Random random = new Random(5);
+        List<Iterator<Integer>> sources = new ArrayList<>();
+        List<Integer> all = new ArrayList<>();
+        for (int s = 0; s < 30; s++) {
+            List<Integer> source = new ArrayList<>();
+            for (int i = random.nextInt(20); i > 0; i--) {
+                source.add(random.nextInt(1_000));
+            }
+            source.sort(null);
+            all.addAll(source);
+            sources.add(source.iterator());
+        }
+        all.sort(null);
+
+        assertEquals(all.subList(0, 50), KWayMerge.first(sources, Comparator.naturalOrder(), 50));
+    }
+}
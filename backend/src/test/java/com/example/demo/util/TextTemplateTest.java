@@ -0,0 +1,40 @@
+package com.example.demo.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for TextTemplate.
+ */
+class TextTemplateTest {
+
+    @Test
+    void testRendersPlaceholders() {
+        TextTemplate template = TextTemplate.compile("Hello {{name}}, you have {{ count }} updates.");
+        assertEquals("Hello ann, you have 3 updates.", template.render(Map.of("name", "ann", "count", 3)));
+    }
+
+    @Test
+    void testMissingValuesRenderEmpty() {
+        TextTemplate template = TextTemplate.compile("{{a}}-{{b}}");
+        Map<String, Object> values = new HashMap<>();
+        values.put("a", "x");
+        values.put("b", null);
+        assertEquals("x-", template.render(values));
+    }
+
+    @Test
+    void testLiteralOnly() {
+        assertEquals("no placeholders", TextTemplate.compile("no placeholders").render(Map.of()));
+    }
+
+    @Test
+    void testRejectsMalformedPlaceholders() {
+        assertThrows(IllegalArgumentException.class, () -> TextTemplate.compile("Hello {{name"));
+        assertThrows(IllegalArgumentException.class, () -> TextTemplate.compile("Hello {{ }}"));
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.demo.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TrigramIndexTest {
+
+    private TrigramIndex index;
+
+    @BeforeEach
+    void setup() {
+        index = new TrigramIndex();
+        index.put(1, 10L, "Design database schema", "Tables for tasks and lists");
+        index.put(2, 10L, "Write API docs", "Describe the schema endpoints");
+        index.put(3, 11L, "Redesign landing page", null);
+        index.put(4, 11L, "Café opening", "Order the espresso machine");
+    }
+
+    private List<Long> ids(String query) {
+        return index.search(query, 10).stream().map(TrigramIndex.Hit::taskId).toList();
+    }
+
+    @Test
+    void ranksNamePrefixAboveSubstringAndDescription() {
+        // "Design" starts task 1, sits inside "Redesign"; "designing" is nowhere
+        assertEquals(List.of(1L, 3L), ids("design"));
+        // Name match beats description match
+        assertEquals(List.of(1L, 2L), ids("schema"));
+    }
+
+    @Test
+    void shortTermsOnlyMatchWordPrefixes() {
+        assertEquals(List.of(2L), ids("ap"));
+        // "es" occurs inside "Redesign" and "espresso" but only starts the latter
+        assertEquals(List.of(4L), ids("es"));
+    }
+
+    @Test
+    void everyTermMustMatch() {
+        assertEquals(List.of(1L), ids("schema tables"));
+        assertEquals(List.of(), ids("schema coffee"));
+    }
+
+    @Test
+    void ignoresCaseAndAccents() {
+        assertEquals(List.of(4L), ids("CAFE"));
+        assertEquals(List.of(4L), ids("café"));
+    }
+
+    @Test
+    void updatesReplaceAndRemoveTasks() {
+        index.put(1, 10L, "Plan sprint", null);
+        index.remove(2);
+
+        assertEquals(List.of(3L), ids("design"));
+        assertEquals(List.of(), ids("schema"));
+        assertEquals(List.of(1L), ids("sprint"));
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    void tracksListChanges() {
+        index.moveToList(3, 12L);
+        assertEquals(12L, index.search("landing", 1).get(0).listId());
+
+        index.removeList(11L);
+        assertEquals(List.of(3L), ids("redesign"));
+        index.removeList(12L);
+        assertEquals(List.of(), ids("redesign"));
+    }
+
+    @Test
+    void staysCorrectAcrossCompaction() {
+        for (int round = 0; round < 200; round++) {
+            index.put(100 + round % 5, 20L, "Churn item " + round, null);
+        }
+        assertEquals(9, index.size());
+        assertEquals(List.of(104L), ids("199"));
+        assertEquals(List.of(1L, 3L), ids("design"));
+    }
+
+    @Test
+    void limitKeepsTheBestHits() {
+        assertEquals(1, index.search("design", 1).size());
+        assertEquals(1L, index.search("design", 1).get(0).taskId());
+        assertTrue(index.search("   ", 5).isEmpty());
+    }
+}
@@ -0,0 +1,34 @@
+#!/usr/bin/env bash
+# Measures time to first request (JVM launch until /actuator/health answers 200) for the plain jar and
+# for the fast-start build. Build first with: mvn -f backend -Pfast-start package -DskipTests
+# Usage: backend/startup-time.sh [runs per mode, default 5]
+set -euo pipefail
+
+cd "$(dirname "$0")"
+RUNS=${1:-5}
+URL=${URL:-http://localhost:8081/actuator/health}
+PLAIN_JAR=$(ls target/demo-*-exec.jar)
+FAST_DIR=target/fast-start
+
+measure() {
+    local label=$1; shift
+    local total=0
+    for run in $(seq "$RUNS"); do
+        local start=$(date +%s%N)
+        "$@" > "target/startup-$label.log" 2>&1 &
+        local pid=$!
+        until curl -sf -o /dev/null "$URL"; do
+            kill -0 $pid 2>/dev/null || { echo "$label: backend exited, see target/startup-$label.log"; exit 1; }
+            sleep 0.05
+        done
+        local ms=$(( ($(date +%s%N) - start) / 1000000 ))
+        total=$((total + ms))
+        echo "$label run $run: $ms ms"
+        kill $pid && wait $pid 2>/dev/null || true
+    done
+    echo "$label average: $((total / RUNS)) ms"
+}
+
+measure baseline java -jar "$PLAIN_JAR"
+measure fast-start java -XX:SharedArchiveFile="$FAST_DIR/application.jsa" -Dspring.aot.enabled=true \
+    -Dspring.profiles.active=fast-start -jar "$FAST_DIR/$(basename "$PLAIN_JAR")"
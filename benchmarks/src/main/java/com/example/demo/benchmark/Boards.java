@@ -0,0 +1,70 @@
+package com.example.demo.benchmark;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import com.example.demo.entity.BoardList;
+import com.example.demo.entity.Project;
+import com.example.demo.entity.Task;
+
+/**
+ * Builds in-memory boards with task ids 1..n, spread evenly over the lists.
+ */
+public final class Boards {
+
+    private Boards() {
+    }
+
+    public static Project project(int lists, int tasks) {
+        Project project = new Project();
+        project.setId(1L);
+        project.setName("Benchmark project");
+        project.setDescription("Generated board");
+        project.setCreatedAt(LocalDateTime.of(2025, 1, 1, 9, 0));
+        List<BoardList> boardLists = new ArrayList<>();
+        long nextTaskId = 1;
+        for (int l = 0; l < lists; l++) {
+            int count = tasks / lists + (l < tasks % lists ? 1 : 0);
+            BoardList list = list(l + 1L, nextTaskId, count);
+            list.setProject(project);
+            boardLists.add(list);
+            nextTaskId += count;
+        }
+        project.setLists(boardLists);
+        return project;
+    }
+
+    public static BoardList list(long listId, long firstTaskId, int tasks) {
+        BoardList list = new BoardList();
+        list.setId(listId);
+        list.setName("List " + listId);
+        list.setPosition((int) listId);
+        list.setCreatedAt(LocalDateTime.of(2025, 1, 1, 9, 0));
+        List<Task> listTasks = new ArrayList<>(tasks);
+        for (int i = 0; i < tasks; i++) {
+            long id = firstTaskId + i;
+            Task task = new Task();
+            task.setId(id);
+            task.setName("Task " + id);
+            task.setDescription("Description of task " + id + " with a sentence or two of detail.");
+            task.setStartDate(LocalDate.of(2025, 1, 1).plusDays(id % 90));
+            task.setDueDate(LocalDate.of(2025, 1, 15).plusDays(id % 90));
+            task.setCreatedAt(LocalDateTime.of(2025, 1, 1, 9, 0).plusMinutes(id));
+            task.setPosition(i);
+            task.setList(list);
+            listTasks.add(task);
+        }
+        list.setTasks(listTasks);
+        return list;
+    }
+
+    /**
+     * Random DAG prerequisites for tasks 1..n, at most three per task as on typical boards.
+     */
+    public static Map<Long, List<Long>> dependencies(int tasks) {
+        return GraphShape.RANDOM_DAG.generate(Math.max(tasks, 1), 7);
+    }
+}
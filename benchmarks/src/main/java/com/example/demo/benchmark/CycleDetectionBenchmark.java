@@ -0,0 +1,76 @@
+package com.example.demo.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.demo.repository.DependencyRepository;
+import com.example.demo.strategy.CycleDetectionStrategy;
+import com.example.demo.strategy.DepthFirstCycleDetection;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Cost of one cycle check per strategy and graph shape.
+ *
+ * {@code acyclicEdge} asks about an edge from a new task onto task 1, which visits everything
+ * reachable from task 1 without finding a cycle (the worst case for accepted edges).
+ * {@code cyclicEdge} asks about making the last task depend on task 1, which closes a cycle.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CycleDetectionBenchmark {
+
+    /** Every CycleDetectionStrategy implementation, by bean name. */
+    public enum Strategy {
+        dfsCycleDetection(repository -> new DepthFirstCycleDetection(repository, new SimpleMeterRegistry()));
+
+        private final Function<DependencyRepository, CycleDetectionStrategy> factory;
+
+        Strategy(Function<DependencyRepository, CycleDetectionStrategy> factory) {
+            this.factory = factory;
+        }
+    }
+
+    @Param
+    public Strategy strategy;
+
+    @Param
+    public GraphShape shape;
+
+    @Param({"100", "1000", "10000", "100000"})
+    public int nodes;
+
+    private CycleDetectionStrategy detection;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        detection = strategy.factory.apply(InMemoryDependencies.repository(shape.generate(nodes, 42)));
+    }
+
+    @Benchmark
+    public boolean acyclicEdge() {
+        return detection.createsCycle(0L, 1L);
+    }
+
+    @Benchmark
+    public boolean cyclicEdge() {
+        return detection.createsCycle((long) nodes, 1L);
+    }
+}
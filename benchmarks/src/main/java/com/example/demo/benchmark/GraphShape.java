@@ -0,0 +1,68 @@
+package com.example.demo.benchmark;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Dependency graph shapes seen on real boards. Tasks are numbered 1..n and every edge points
+ * from a task to a higher-numbered prerequisite, so each graph is acyclic and task 1 reaches
+ * every other task.
+ */
+public enum GraphShape {
+
+    /** 1 → 2 → ... → n: a long critical path, the deepest traversal. */
+    CHAIN {
+        @Override
+        void build(int nodes, Random random, Map<Long, List<Long>> edges) {
+            for (long task = 1; task < nodes; task++) {
+                edges.get(task).add(task + 1);
+            }
+        }
+    },
+
+    /** 1 → {2..n-1} → n: one milestone fanning out to every task, which all feed one final task. */
+    FAN_OUT_FAN_IN {
+        @Override
+        void build(int nodes, Random random, Map<Long, List<Long>> edges) {
+            for (long task = 2; task < nodes; task++) {
+                edges.get(1L).add(task);
+                edges.get(task).add((long) nodes);
+            }
+        }
+    },
+
+    /** Every task depends on its successor plus up to three random later tasks. */
+    RANDOM_DAG {
+        @Override
+        void build(int nodes, Random random, Map<Long, List<Long>> edges) {
+            for (long task = 1; task < nodes; task++) {
+                List<Long> prerequisites = edges.get(task);
+                prerequisites.add(task + 1);
+                int extra = random.nextInt(4);
+                for (int i = 0; i < extra; i++) {
+                    long target = task + 1 + random.nextInt((int) (nodes - task));
+                    if (!prerequisites.contains(target)) {
+                        prerequisites.add(target);
+                    }
+                }
+            }
+        }
+    };
+
+    abstract void build(int nodes, Random random, Map<Long, List<Long>> edges);
+
+    /**
+     * Returns the prerequisites of every task, keyed by task id.
+     */
+    public Map<Long, List<Long>> generate(int nodes, long seed) {
+        Map<Long, List<Long>> edges = new HashMap<>(nodes * 2);
+        for (long task = 1; task <= nodes; task++) {
+            edges.put(task, new ArrayList<>());
+        }
+        build(nodes, new Random(seed), edges);
+        return edges;
+    }
+}
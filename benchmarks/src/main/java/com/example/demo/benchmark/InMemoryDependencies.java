@@ -0,0 +1,83 @@
+package com.example.demo.benchmark;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.example.demo.entity.Dependency;
+import com.example.demo.entity.Task;
+import com.example.demo.repository.DependencyRepository;
+
+/**
+ * A DependencyRepository backed by prebuilt entities, so benchmarks measure the algorithm and the
+ * mapping rather than the database. Only {@code findByTaskId}, {@code findByTaskIdIn} and
+ * {@code findEdgesReachableFrom} are supported; the last walks the graph here in place of the
+ * recursive query.
+ */
+public final class InMemoryDependencies {
+
+    private InMemoryDependencies() {
+    }
+
+    public static DependencyRepository repository(Map<Long, List<Long>> prerequisites) {
+        Map<Long, Task> tasks = new HashMap<>();
+        Map<Long, List<Dependency>> byTask = new HashMap<>();
+        prerequisites.forEach((taskId, dependsOnIds) -> byTask.put(taskId, dependsOnIds.stream()
+                .map(dependsOnId -> {
+                    Dependency dependency = new Dependency();
+                    dependency.setTask(tasks.computeIfAbsent(taskId, InMemoryDependencies::task));
+                    dependency.setDependsOn(tasks.computeIfAbsent(dependsOnId, InMemoryDependencies::task));
+                    return dependency;
+                })
+                .toList()));
+
+        return (DependencyRepository) Proxy.newProxyInstance(
+                DependencyRepository.class.getClassLoader(),
+                new Class<?>[] { DependencyRepository.class },
+                (proxy, method, args) -> {
+                    if (method.getName().equals("findByTaskId")) {
+                        return byTask.getOrDefault((Long) args[0], List.of());
+                    }
+                    if (method.getName().equals("findByTaskIdIn")) {
+                        return ((Collection<?>) args[0]).stream()
+                                .flatMap(taskId -> byTask.getOrDefault((Long) taskId, List.of()).stream())
+                                .toList();
+                    }
+                    if (method.getName().equals("findEdgesReachableFrom")) {
+                        return reachableEdges(prerequisites, (Long) args[0]);
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private static List<Object[]> reachableEdges(Map<Long, List<Long>> prerequisites, Long taskId) {
+        List<Object[]> edges = new ArrayList<>();
+        Set<Long> expanded = new HashSet<>();
+        Deque<Long> stack = new ArrayDeque<>();
+        stack.push(taskId);
+        expanded.add(taskId);
+        while (!stack.isEmpty()) {
+            Long current = stack.pop();
+            for (Long next : prerequisites.getOrDefault(current, List.of())) {
+                edges.add(new Object[] { current, next });
+                if (expanded.add(next)) {
+                    stack.push(next);
+                }
+            }
+        }
+        return edges;
+    }
+
+    private static Task task(Long id) {
+        Task task = new Task();
+        task.setId(id);
+        return task;
+    }
+}
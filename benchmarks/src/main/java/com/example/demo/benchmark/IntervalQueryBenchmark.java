@@ -0,0 +1,78 @@
+package com.example.demo.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.demo.util.IntervalTree;
+
+/**
+ * One Gantt viewport (a week or a quarter) over tasks spread across three years, answered by
+ * the interval tree and by the scan over every task that it replaces.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IntervalQueryBenchmark {
+
+    private static final int DAYS = 3 * 365;
+
+    @Param({"1000", "10000", "100000"})
+    public int tasks;
+
+    @Param({"7", "90"})
+    public int windowDays;
+
+    private IntervalTree<Long> tree;
+    private long[] starts;
+    private long[] ends;
+    private long from;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(42);
+        tree = new IntervalTree<>();
+        starts = new long[tasks];
+        ends = new long[tasks];
+        for (int i = 0; i < tasks; i++) {
+            starts[i] = random.nextInt(DAYS);
+            ends[i] = starts[i] + random.nextInt(21);
+            tree.put(i, starts[i], ends[i], (long) i);
+        }
+        from = DAYS / 2;
+    }
+
+    @Benchmark
+    public List<Long> tree() {
+        return tree.overlapping(from, from + windowDays - 1);
+    }
+
+    @Benchmark
+    public List<Long> scan() {
+        long to = from + windowDays - 1;
+        List<Long> result = new ArrayList<>();
+        for (int i = 0; i < starts.length; i++) {
+            if (starts[i] <= to && ends[i] >= from) {
+                result.add((long) i);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.demo.benchmark;
+
+import java.io.OutputStream;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.demo.dto.BoardListDto;
+import com.example.demo.entity.BoardList;
+import com.example.demo.entity.Task;
+import com.example.demo.mapper.BoardJsonWriter;
+import com.example.demo.mapper.ProjectMapper;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+
+/**
+ * Serialization of BoardListDto with the same Jackson setup Spring Boot uses
+ * (Java time module, ISO dates instead of timestamps), in JSON and in the binary CBOR and
+ * Smile formats the API negotiates. The setup prints the payload size of each format.
+ *
+ * {@code mapAndSerialize} is the old board response path (entities to DTOs, then Jackson) and
+ * {@code stream} the BoardJsonWriter path that renders rows directly; run with {@code -prof gc} to
+ * compare bytes allocated per board.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    public int tasks;
+
+    @Param({"json", "cbor", "smile"})
+    public String format;
+
+    private ObjectMapper objectMapper;
+    private BoardList entity;
+    private Map<Long, Long[]> dependencyIds;
+    private BoardListDto list;
+    private byte[] json;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        objectMapper = switch (format) {
+            case "cbor" -> CBORMapper.builder().findAndAddModules()
+                    .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build();
+            case "smile" -> SmileMapper.builder().findAndAddModules()
+                    .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build();
+            default -> JsonMapper.builder().findAndAddModules()
+                    .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build();
+        };
+        ProjectMapper.setDependencyRepo(InMemoryDependencies.repository(Boards.dependencies(tasks)));
+        entity = Boards.list(1L, 1L, tasks);
+        dependencyIds = new HashMap<>();
+        Boards.dependencies(tasks).forEach((task, prerequisites) -> dependencyIds.put(task, prerequisites.toArray(Long[]::new)));
+        list = ProjectMapper.toDto(entity);
+        json = objectMapper.writeValueAsBytes(list);
+        System.out.printf("%n%s payload for %d tasks: %d bytes%n", format, tasks, json.length);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws Exception {
+        return objectMapper.writeValueAsBytes(list);
+    }
+
+    @Benchmark
+    public void mapAndSerialize() throws Exception {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), List.of(ProjectMapper.toDto(entity)));
+    }
+
+    @Benchmark
+    public void stream() throws Exception {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(OutputStream.nullOutputStream())) {
+            BoardJsonWriter writer = new BoardJsonWriter(generator);
+            writer.list(entity.getId(), entity.getName(), entity.getPosition(), entity.getCreatedAt(), entity.getVersion());
+            // Stands in for reading the rows of the board query
+            for (Task task : entity.getTasks()) {
+                writer.task(task.getId(), task.getName(), task.getDescription(), task.getStartDate(), task.getDueDate(),
+                        task.getCreatedAt(), task.getPosition(), task.getVersion(), dependencyIds.get(task.getId()));
+            }
+            writer.finish();
+        }
+    }
+
+    @Benchmark
+    public BoardListDto deserialize() throws Exception {
+        return objectMapper.readValue(json, BoardListDto.class);
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.demo.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.demo.dto.BoardListDto;
+import com.example.demo.dto.ProjectDto;
+import com.example.demo.entity.BoardList;
+import com.example.demo.entity.Project;
+import com.example.demo.mapper.ProjectMapper;
+
+/**
+ * Entity-to-DTO mapping of a whole board and of a single list, including the per-task dependency
+ * lookups (served from memory here, so the numbers exclude database round trips).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MappingBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    public int tasks;
+
+    private Project project;
+    private BoardList list;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        ProjectMapper.setDependencyRepo(InMemoryDependencies.repository(Boards.dependencies(tasks)));
+        project = Boards.project(8, tasks);
+        list = Boards.list(1L, 1L, tasks);
+    }
+
+    @Benchmark
+    public ProjectDto projectToDto() {
+        return ProjectMapper.toDto(project);
+    }
+
+    @Benchmark
+    public BoardListDto listToDto() {
+        return ProjectMapper.toDto(list);
+    }
+}
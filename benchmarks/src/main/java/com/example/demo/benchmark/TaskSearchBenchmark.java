@@ -0,0 +1,77 @@
+package com.example.demo.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.demo.util.TrigramIndex;
+
+/**
+ * Task search over a project of generated task names and descriptions: a short prefix, a
+ * substring inside words, a two-term query and a term that matches nothing. {@code build}
+ * measures the first search of a project, which indexes every task.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskSearchBenchmark {
+
+    private static final String[] VERBS = { "Design", "Implement", "Review", "Test", "Deploy", "Document", "Refactor", "Migrate" };
+    private static final String[] NOUNS = { "login page", "payment flow", "search index", "database schema", "invoice export",
+            "notification service", "onboarding wizard", "dependency graph", "calendar sync", "audit log" };
+    private static final String[] DETAILS = { "for the mobile app", "before the release", "with the platform team",
+            "after the security review", "behind a feature flag", "for enterprise customers" };
+
+    @Param({"1000", "10000"})
+    public int tasks;
+
+    @Param({"sc", "index", "graph review", "zzzz"})
+    public String query;
+
+    private TrigramIndex index;
+    private List<String[]> rows;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(42);
+        rows = new ArrayList<>(tasks);
+        for (int i = 0; i < tasks; i++) {
+            String name = VERBS[random.nextInt(VERBS.length)] + " " + NOUNS[random.nextInt(NOUNS.length)] + " #" + i;
+            String description = "Part of " + NOUNS[random.nextInt(NOUNS.length)] + " work, "
+                    + DETAILS[random.nextInt(DETAILS.length)] + ".";
+            rows.add(new String[] { name, description });
+        }
+        index = build();
+    }
+
+    @Benchmark
+    public List<TrigramIndex.Hit> search() {
+        return index.search(query, 20);
+    }
+
+    @Benchmark
+    public TrigramIndex build() {
+        TrigramIndex built = new TrigramIndex();
+        for (int i = 0; i < rows.size(); i++) {
+            built.put(i, (long) (i % 8), rows.get(i)[0], rows.get(i)[1]);
+        }
+        return built;
+    }
+}
@@ -0,0 +1,134 @@
+/**
+ * Minimal CBOR (RFC 8949) decoder for API responses.
+ *
+ * Covers what Jackson's CBOR output contains: integers, floats, strings, byte strings,
+ * arrays and maps of definite or indefinite length, booleans and null. Tags are skipped
+ * and their content returned as is.
+ */
+export const decodeCbor = (buffer: ArrayBuffer): unknown => {
+  const view = new DataView(buffer);
+  const bytes = new Uint8Array(buffer);
+  const text = new TextDecoder();
+  let offset = 0;
+
+  const BREAK = Symbol("break");
+
+  const next = (): number => {
+    if (offset >= bytes.length) throw new Error("Truncated CBOR data");
+    return bytes[offset++];
+  };
+
+  const readLength = (info: number): number => {
+    if (info < 24) return info;
+    switch (info) {
+      case 24:
+        return next();
+      case 25:
+        offset += 2;
+        return view.getUint16(offset - 2);
+      case 26:
+        offset += 4;
+        return view.getUint32(offset - 4);
+      case 27: {
+        offset += 8;
+        return Number(view.getBigUint64(offset - 8));
+      }
+      default:
+        throw new Error(`Unsupported CBOR length encoding ${info}`);
+    }
+  };
+
+  const readHalf = (): number => {
+    const half = view.getUint16(offset);
+    offset += 2;
+    const exponent = (half >> 10) & 0x1f;
+    const fraction = half & 0x3ff;
+    const sign = half & 0x8000 ? -1 : 1;
+    if (exponent === 0) return sign * 2 ** -14 * (fraction / 1024);
+    if (exponent === 0x1f) return fraction ? NaN : sign * Infinity;
+    return sign * 2 ** (exponent - 15) * (1 + fraction / 1024);
+  };
+
+  const readChunks = (major: number, info: number): Uint8Array | string => {
+    if (info !== 31) {
+      const length = readLength(info);
+      const chunk = bytes.subarray(offset, offset + length);
+      offset += length;
+      return major === 3 ? text.decode(chunk) : chunk.slice();
+    }
+    // Indefinite length: a series of definite chunks up to the break byte
+    const parts: (Uint8Array | string)[] = [];
+    for (let head = next(); head !== 0xff; head = next()) {
+      parts.push(readChunks(head >> 5, head & 0x1f));
+    }
+    if (major === 3) return parts.join("");
+    const total = parts.reduce((sum, part) => sum + part.length, 0);
+    const joined = new Uint8Array(total);
+    let at = 0;
+    for (const part of parts as Uint8Array[]) {
+      joined.set(part, at);
+      at += part.length;
+    }
+    return joined;
+  };
+
+  const readItem = (): unknown => {
+    const head = next();
+    const major = head >> 5;
+    const info = head & 0x1f;
+    switch (major) {
+      case 0:
+        return readLength(info);
+      case 1:
+        return -1 - readLength(info);
+      case 2:
+      case 3:
+        return readChunks(major, info);
+      case 4: {
+        const items: unknown[] = [];
+        if (info === 31) {
+          for (let item = readItem(); item !== BREAK; item = readItem()) items.push(item);
+        } else {
+          for (let i = readLength(info); i > 0; i--) items.push(readItem());
+        }
+        return items;
+      }
+      case 5: {
+        const map: Record<string, unknown> = {};
+        if (info === 31) {
+          for (let key = readItem(); key !== BREAK; key = readItem()) map[String(key)] = readItem();
+        } else {
+          for (let i = readLength(info); i > 0; i--) map[String(readItem())] = readItem();
+        }
+        return map;
+      }
+      case 6:
+        readLength(info);
+        return readItem();
+      default:
+        switch (info) {
+          case 20:
+            return false;
+          case 21:
+            return true;
+          case 22:
+          case 23:
+            return null;
+          case 25:
+            return readHalf();
+          case 26:
+            offset += 4;
+            return view.getFloat32(offset - 4);
+          case 27:
+            offset += 8;
+            return view.getFloat64(offset - 8);
+          case 31:
+            return BREAK;
+          default:
+            throw new Error(`Unsupported CBOR simple value ${info}`);
+        }
+    }
+  };
+
+  return readItem();
+};
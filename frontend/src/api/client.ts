@@ -1,15 +1,59 @@
-import axios from "axios";
+import axios, { type AxiosResponse } from "axios";
+import { decodeCbor } from "./cbor";
 
 const api = axios.create({
   baseURL: "http://localhost:8081/api",
 });
 
+// Board, bootstrap, dependency and activity reads are requested as CBOR, which is smaller and cheaper to
+// produce than JSON; the server falls back to JSON when it cannot serve it.
+// Set VITE_BINARY_API=false to go back to JSON everywhere.
+const BINARY_API = import.meta.env.VITE_BINARY_API !== "false";
+const BINARY_ENDPOINTS = [
+  /^\/lists\/project\/\d+$/,
+  /^\/tasks\/\d+\/dependencies(\/dependents)?$/,
+  /^\/projects\/\d+\/activities(\/.*)?$/,
+  /^\/projects\/\d+\/bootstrap$/,
+];
+
 api.interceptors.request.use((config) => {
   const token = localStorage.getItem("token");
   if (token) {
     config.headers.Authorization = `Bearer ${token}`;
   }
+  const url = config.url?.split("?")[0] ?? "";
+  if (BINARY_API && config.method === "get" && BINARY_ENDPOINTS.some((pattern) => pattern.test(url))) {
+    config.headers.Accept = "application/cbor, application/json;q=0.9";
+    config.responseType = "arraybuffer";
+  }
   return config;
 });
 
+// Turns arraybuffer bodies back into objects so callers see the same data as with JSON
+const decodeBody = (response: AxiosResponse) => {
+  if (!(response.data instanceof ArrayBuffer)) return;
+  const contentType = String(response.headers["content-type"] ?? "");
+  if (contentType.includes("application/cbor")) {
+    response.data = decodeCbor(response.data);
+  } else if (response.data.byteLength > 0) {
+    const body = new TextDecoder().decode(response.data);
+    try {
+      response.data = JSON.parse(body);
+    } catch {
+      response.data = body;
+    }
+  }
+};
+
+api.interceptors.response.use(
+  (response) => {
+    decodeBody(response);
+    return response;
+  },
+  (error) => {
+    if (error.response) decodeBody(error.response);
+    return Promise.reject(error);
+  }
+);
+
 export default api;
@@ -16,6 +16,7 @@ export interface Task {
   dueDate?: string | null;
   position?: number;
   listId?: number;
+  version?: number; // optimistic lock, echoed back on update
   dependencyIds?: number[]; // optional, always normalized to []
 }
 
@@ -23,6 +24,7 @@ export interface BoardList {
   id: number;
   name: string;
   position?: number;
+  version?: number; // optimistic lock, echoed back on update
   createdAt: string;
   tasks: Task[]; // always normalized to []
 }
@@ -46,16 +48,19 @@ export const getProject = async (projectId: number): Promise<Project> => {
 };
 
 /* ---------------------- Lists ---------------------- */
-export const getLists = async (projectId: number): Promise<BoardList[]> => {
-  const res = await api.get<BoardList[]>(`/lists/project/${projectId}`);
-  // Normalize lists and tasks
-  return res.data.map((list) => ({
+// Normalize lists and tasks
+const normalizeLists = (lists: BoardList[]): BoardList[] =>
+  lists.map((list) => ({
     ...list,
     tasks: (list.tasks || []).map((t) => ({
       ...t,
       dependencyIds: t.dependencyIds || [],
     })),
   }));
+
+export const getLists = async (projectId: number): Promise<BoardList[]> => {
+  const res = await api.get<BoardList[]>(`/lists/project/${projectId}`);
+  return normalizeLists(res.data);
 };
 
 export const createList = async (projectId: number, name: string) => {
@@ -76,9 +81,15 @@ export const createList = async (projectId: number, name: string) => {
 export const updateList = async (
   id: number,
   name: string,
-  position: number
+  position: number,
+  version?: number
 ) => {
-  const res = await api.put<BoardList>(`/lists/${id}`, { id, name, position });
+  const res = await api.put<BoardList>(`/lists/${id}`, {
+    id,
+    name,
+    position,
+    version,
+  });
   // Normalize tasks
   return {
     ...res.data,
@@ -89,10 +100,58 @@ export const updateList = async (
   };
 };
 
+/** An entity in a reorder request with the version the client last saw. */
+export interface Versioned {
+  id: number;
+  version?: number;
+}
+
+/**
+ * Persists the order of all lists of a project in one request.
+ * Fails with 409 if any list changed since it was read.
+ */
+export const reorderLists = async (projectId: number, lists: Versioned[]) => {
+  await api.patch(`/lists/project/${projectId}/order`, {
+    ids: lists.map((l) => l.id),
+    versions: lists.map((l) => l.version ?? 0),
+  });
+};
+
+/** Moves a list right after `previousId`, or to the front when it is null. */
+export const moveList = async (id: number, previousId: number | null) => {
+  const res = await api.patch<BoardList>(`/lists/${id}/move`, { previousId });
+  return res.data;
+};
+
 export const deleteList = async (id: number) => {
   await api.delete(`/lists/${id}`);
 };
 
+/* ---------------------- Import ---------------------- */
+export interface ImportResult {
+  listsCreated: number;
+  tasksCreated: number;
+  dependenciesCreated: number;
+}
+
+/**
+ * Bulk-imports a plan. Accepts either a CSV string with the header
+ * list,ref,name,description,startDate,dueDate,dependsOn or a JSON plan
+ * of lists with tasks that reference each other by `ref`.
+ */
+export const importPlan = async (
+  projectId: number,
+  plan: string | { lists: unknown[] }
+): Promise<ImportResult> => {
+  const res = await api.post<ImportResult>(`/projects/${projectId}/import`, plan, {
+    headers: {
+      "Content-Type":
+        typeof plan === "string" ? "text/csv" : "application/json",
+    },
+  });
+  return res.data;
+};
+
 /* ---------------------- Tasks ---------------------- */
 export const createTask = async (
   listId: number,
@@ -108,9 +167,86 @@ export const createTask = async (
   return { ...res.data, dependencyIds: res.data.dependencyIds || [] };
 };
 
-export const updateTask = async (id: number, task: Partial<Task>) => {
-  const res = await api.put<Task>(`/tasks/${id}`, task);
-  // Normalize dependencyIds
+const MERGE_FIELDS = [
+  "name",
+  "description",
+  "startDate",
+  "dueDate",
+  "position",
+  "listId",
+] as const;
+
+/**
+ * Updates a task. When `base` (the task as the user last saw it) is given, the
+ * request carries its version; on a 409 the fields the user changed are
+ * reapplied on top of the server's current state and sent once more. If the
+ * same field was changed remotely to a different value, the conflict is
+ * rethrown so the caller can refresh.
+ */
+export const updateTask = async (
+  id: number,
+  task: Partial<Task>,
+  base?: Task
+) => {
+  const send = async (body: Partial<Task>) => {
+    const res = await api.put<Task>(`/tasks/${id}`, body);
+    // Normalize dependencyIds
+    return { ...res.data, dependencyIds: res.data.dependencyIds || [] };
+  };
+
+  if (!base) return send(task);
+
+  try {
+    return await send({ ...task, version: base.version });
+  } catch (err: any) {
+    const current: Task | undefined = err?.response?.data?.current;
+    if (err?.response?.status !== 409 || !current) throw err;
+
+    const merged: Partial<Task> = { ...current, version: current.version };
+    for (const field of MERGE_FIELDS) {
+      if (!(field in task)) continue;
+      const mine = task[field] ?? null;
+      const theirs = current[field] ?? null;
+      if (mine === (base[field] ?? null)) continue; // untouched locally
+      if (theirs !== (base[field] ?? null) && theirs !== mine) throw err;
+      (merged as any)[field] = task[field];
+    }
+    return send(merged);
+  }
+};
+
+/**
+ * Persists the task order of a list in one request. For a move across lists,
+ * pass the source list and its remaining tasks so both are renumbered.
+ * Fails with 409 if any task changed since it was read.
+ */
+export const reorderTasks = async (
+  listId: number,
+  tasks: Versioned[],
+  source?: { listId: number; tasks: Versioned[] }
+) => {
+  await api.patch(`/tasks/list/${listId}/order`, {
+    ids: tasks.map((t) => t.id),
+    versions: tasks.map((t) => t.version ?? 0),
+    sourceListId: source?.listId,
+    sourceIds: source?.tasks.map((t) => t.id) ?? [],
+    sourceVersions: source?.tasks.map((t) => t.version ?? 0) ?? [],
+  });
+};
+
+/**
+ * Moves a task into `listId` right after `previousId`, or to the top of the
+ * list when it is null. Only the moved task is written on the server.
+ */
+export const moveTask = async (
+  id: number,
+  listId: number,
+  previousId: number | null
+) => {
+  const res = await api.patch<Task>(`/tasks/${id}/move`, {
+    listId,
+    previousId,
+  });
   return { ...res.data, dependencyIds: res.data.dependencyIds || [] };
 };
 
@@ -118,6 +254,68 @@ export const deleteTask = async (id: number) => {
   await api.delete(`/tasks/${id}`);
 };
 
+/** Task search hit, best matches first */
+export interface TaskSearchResult {
+  id: number;
+  name: string;
+  listId: number;
+  score: number;
+}
+
+export const searchTasks = async (
+  projectId: number,
+  query: string,
+  limit = 20
+): Promise<TaskSearchResult[]> => {
+  const res = await api.get<TaskSearchResult[]>(`/projects/${projectId}/tasks/search`, {
+    params: { q: query, limit },
+  });
+  return res.data;
+};
+
+export interface TaskInterval {
+  id: number;
+  name: string;
+  listId: number;
+  startDate?: string | null;
+  dueDate?: string | null;
+}
+
+/** Dated tasks overlapping from..to (YYYY-MM-DD, both included), ordered by start */
+export const getOverlappingTasks = async (
+  projectId: number,
+  from: string,
+  to: string
+): Promise<TaskInterval[]> => {
+  const res = await api.get<TaskInterval[]>(`/projects/${projectId}/tasks/overlapping`, {
+    params: { from, to },
+  });
+  return res.data;
+};
+
+export interface UpcomingTask {
+  id: number;
+  name: string;
+  dueDate: string;
+  listId: number;
+  listName: string;
+  projectId: number;
+  projectName: string;
+}
+
+export interface UpcomingTasksPage {
+  items: UpcomingTask[];
+  nextCursor: string | null;
+}
+
+/** Tasks due across all of the user's projects, soonest first; pass nextCursor for more */
+export const getUpcomingTasks = async (cursor?: string | null, limit = 20): Promise<UpcomingTasksPage> => {
+  const res = await api.get<UpcomingTasksPage>("/tasks/upcoming", {
+    params: { cursor: cursor ?? undefined, limit },
+  });
+  return res.data;
+};
+
 /* ---------------------- Task Dependencies ---------------------- */
 // ---- Dependency API calls ----
 // These functions wrap REST calls to the DependencyController.
@@ -147,6 +345,77 @@ export const getDependents = async (taskId: number) => {
   return res.data as DependencyDto[];
 };
 
+/* ---------------------- Live board events ---------------------- */
+export interface BoardEvent {
+  id: number;
+  projectId: number;
+  type: string;
+  entityId?: number;
+  actor: string;
+  payload?: unknown;
+  timestamp: string;
+}
+
+/** Delay before reopening a dropped board event stream. */
+const BOARD_EVENTS_RETRY_MS = 3000;
+
+/**
+ * Subscribe to server-sent board changes of a project.
+ * The stream is opened with a short-lived ticket rather than the session token, so the
+ * browser's own reconnect (which reuses the URL) would fail once the ticket expires.
+ * Instead each error closes the stream and reopens it with a fresh ticket, resuming
+ * from the last seen event id. A "reset" event means the gap could not be replayed
+ * and the board should be refetched.
+ */
+export const subscribeToBoardEvents = (
+  projectId: number,
+  onEvent: (event: BoardEvent) => void,
+  onReset: () => void
+): (() => void) => {
+  let source: EventSource | null = null;
+  let retry: ReturnType<typeof setTimeout> | null = null;
+  let lastEventId: string | null = null;
+  let closed = false;
+
+  const reopenLater = () => {
+    if (!closed) retry = setTimeout(open, BOARD_EVENTS_RETRY_MS);
+  };
+
+  const open = async () => {
+    retry = null;
+    let ticket: string;
+    try {
+      const response = await api.post<{ ticket: string }>(`/projects/${projectId}/events/ticket`);
+      ticket = response.data.ticket;
+    } catch {
+      reopenLater();
+      return;
+    }
+    if (closed) return;
+    const params = new URLSearchParams({ ticket });
+    if (lastEventId) params.set("lastEventId", lastEventId);
+    source = new EventSource(`${api.defaults.baseURL}/projects/${projectId}/events?${params}`);
+    source.addEventListener("board", (e) => {
+      const message = e as MessageEvent;
+      if (message.lastEventId) lastEventId = message.lastEventId;
+      onEvent(JSON.parse(message.data) as BoardEvent);
+    });
+    source.addEventListener("reset", () => onReset());
+    source.onerror = () => {
+      source?.close();
+      source = null;
+      reopenLater();
+    };
+  };
+
+  open();
+  return () => {
+    closed = true;
+    if (retry) clearTimeout(retry);
+    source?.close();
+  };
+};
+
 /* ---------------------- Collaboration ---------------------- */
 export interface ProjectCollaborator {
   id: number;
@@ -349,4 +618,101 @@ export const getActivityStatistics = async (
     `/projects/${projectId}/activities/statistics`
   );
   return res.data;
-};
\ No newline at end of file
+};
+
+export interface ActivityTrendPoint {
+  day: string;
+  count: number;
+}
+
+export interface UserActivityCount {
+  userId: number;
+  username: string;
+  count: number;
+}
+
+export const getDailyActivityTrend = async (
+  projectId: number,
+  from?: string,
+  to?: string
+): Promise<ActivityTrendPoint[]> => {
+  const res = await api.get<ActivityTrendPoint[]>(
+    `/projects/${projectId}/activities/statistics/daily`,
+    { params: { from, to } }
+  );
+  return res.data;
+};
+
+export const getUserActivityCounts = async (
+  projectId: number,
+  from?: string,
+  to?: string
+): Promise<UserActivityCount[]> => {
+  const res = await api.get<UserActivityCount[]>(
+    `/projects/${projectId}/activities/statistics/users`,
+    { params: { from, to } }
+  );
+  return res.data;
+};
+
+/* ---------------------- Dashboard ---------------------- */
+
+export interface DashboardDueTask {
+  id: number;
+  name: string;
+  dueDate: string;
+  projectId: number;
+  projectName: string;
+}
+
+export interface Dashboard {
+  ownedProjects: number;
+  sharedProjects: number;
+  overdueTasks: number;
+  tasksDueThisWeek: number;
+  projects: {
+    id: number;
+    name: string;
+    owned: boolean;
+    tasks: number;
+    overdueTasks: number;
+    tasksDueThisWeek: number;
+  }[];
+  overdue: DashboardDueTask[];
+  dueThisWeek: DashboardDueTask[];
+  recentActivity: {
+    id: number;
+    projectId: number;
+    projectName: string;
+    username: string;
+    action: string;
+    description?: string | null;
+    timestamp: string;
+  }[];
+  generatedAt: string;
+}
+
+/** Counts, due tasks and recent activity across all of the user's projects in one call */
+export const getDashboard = async (): Promise<Dashboard> => {
+  const res = await api.get<Dashboard>("/dashboard");
+  return res.data;
+};
+
+/* ---------------------- Board bootstrap ---------------------- */
+
+export interface BoardBootstrap {
+  project: Project;
+  lists: BoardList[];
+  collaborators: ProjectCollaborator[];
+  invitations: ProjectInvitation[];
+  activities: ProjectActivity[];
+}
+
+// How long the bootstrapped parts count as fresh, so the views do not refetch them right away
+export const BOOTSTRAP_FRESH_MS = 15_000;
+
+/** Everything the board page shows on open, in one round trip */
+export const getBoardBootstrap = async (projectId: number): Promise<BoardBootstrap> => {
+  const res = await api.get<BoardBootstrap>(`/projects/${projectId}/bootstrap`);
+  return { ...res.data, lists: normalizeLists(res.data.lists) };
+};
@@ -1,28 +1,56 @@
 // src/components/GanttView.tsx
-import { useEffect, useRef } from "react";
+import { useEffect, useMemo, useRef, useState } from "react";
+import { useQuery } from "@tanstack/react-query";
 import Gantt from "frappe-gantt";
-import type { Task } from "../api/projects";
+import { getOverlappingTasks, type Task } from "../api/projects";
 
-export default function GanttView({ tasks }: { tasks: Task[] }) {
+const DAY = 24 * 60 * 60 * 1000;
+const WINDOW_DAYS = 84;
+const STEP_DAYS = 28;
+
+const isoDay = (date: Date) => date.toISOString().slice(0, 10);
+
+// Only the tasks overlapping the visible window are fetched and drawn; the board's tasks
+// supply dependencies and the undated tasks, which are drawn on today as before.
+export default function GanttView({ projectId, tasks }: { projectId: number; tasks: Task[] }) {
   const hostRef = useRef<HTMLDivElement>(null);
+  const [windowStart, setWindowStart] = useState(() => new Date(Date.now() - 14 * DAY));
+  const from = isoDay(windowStart);
+  const to = isoDay(new Date(windowStart.getTime() + (WINDOW_DAYS - 1) * DAY));
+
+  // Under the board's key, so the invalidations after task edits refetch the window as well
+  const { data: windowTasks } = useQuery({
+    queryKey: ["lists", projectId, "overlapping", from, to],
+    queryFn: () => getOverlappingTasks(projectId, from, to),
+  });
+
+  const dependencyIds = useMemo(
+    () => new Map((tasks ?? []).map((t) => [t.id, t.dependencyIds ?? []])),
+    [tasks]
+  );
 
   useEffect(() => {
     if (!hostRef.current) return;
 
-    const ganttTasks = (tasks ?? []).map((t) => ({
+    const today = isoDay(new Date());
+    const undated = (tasks ?? []).filter((t) => !t.startDate && !t.dueDate);
+    const shown = [...(windowTasks ?? []), ...undated];
+    const shownIds = new Set(shown.map((t) => t.id));
+
+    const ganttTasks = shown.map((t) => ({
       id: String(t.id),
       name: t.name || `Task #${t.id}`,
-      start: t.startDate
-        ? new Date(t.startDate).toISOString().slice(0, 10)
-        : new Date().toISOString().slice(0, 10),
-      end: t.dueDate
-        ? new Date(t.dueDate).toISOString().slice(0, 10)
-        : new Date().toISOString().slice(0, 10),
+      start: t.startDate ? isoDay(new Date(t.startDate)) : t.dueDate ? isoDay(new Date(t.dueDate)) : today,
+      end: t.dueDate ? isoDay(new Date(t.dueDate)) : t.startDate ? isoDay(new Date(t.startDate)) : today,
       progress: 0,
-      dependencies: (t.dependencyIds ?? []).map(String).join(","),
+      dependencies: (dependencyIds.get(t.id) ?? [])
+        .filter((id) => shownIds.has(id))
+        .map(String)
+        .join(","),
     }));
 
     hostRef.current.innerHTML = "";
+    if (ganttTasks.length === 0) return;
 
     new Gantt(hostRef.current, ganttTasks, {
       view_mode: "Day",
@@ -30,13 +58,28 @@ export default function GanttView({ tasks }: { tasks: Task[] }) {
       popup: ({ task }: any) =>
         `<div class="p-2"><strong>${task.name}</strong><br/>Start: ${task.start}<br/>End: ${task.end}</div>`,
     } as any);
-  }, [tasks]);
+  }, [windowTasks, tasks, dependencyIds]);
+
+  const shift = (days: number) => setWindowStart((start) => new Date(start.getTime() + days * DAY));
 
   return (
-    <div
-      ref={hostRef}
-      className="w-full bg-white border border-gray-200 rounded"
-      style={{ height: "calc(100vh - 120px)", minHeight: "700px" }}
-    />
+    <div>
+      <div className="flex items-center gap-2 mb-2 text-sm">
+        <button className="px-2 py-1 border rounded" onClick={() => shift(-STEP_DAYS)}>
+          ← Earlier
+        </button>
+        <span>
+          {from} – {to}
+        </span>
+        <button className="px-2 py-1 border rounded" onClick={() => shift(STEP_DAYS)}>
+          Later →
+        </button>
+      </div>
+      <div
+        ref={hostRef}
+        className="w-full bg-white border border-gray-200 rounded"
+        style={{ height: "calc(100vh - 160px)", minHeight: "700px" }}
+      />
+    </div>
   );
 }
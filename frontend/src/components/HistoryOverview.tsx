@@ -20,6 +20,7 @@ import {
 } from "lucide-react";
 import { 
   getRecentProjectActivities,
+  BOOTSTRAP_FRESH_MS,
   type ProjectActivity 
 } from "../api/projects";
 
@@ -35,6 +36,7 @@ const HistoryOverview: React.FC<HistoryOverviewProps> = ({ projectId }) => {
     queryKey: ["project-activities", projectId],
     queryFn: () => getRecentProjectActivities(projectId, 20),
     enabled: showPanel,
+    staleTime: BOOTSTRAP_FRESH_MS,
   });
 
   const toggleExpanded = (id: number) => {
@@ -2,10 +2,36 @@ import { MDBContainer, MDBRow, MDBCol, MDBCard, MDBCardBody, MDBCardTitle, MDBCa
 import Navbar from '../components/Navbar';
 import { useAuth } from '../hooks/useAuth';
 import { useNavigate } from 'react-router-dom';
-import { useQuery } from '@tanstack/react-query';
-import { getUserInvitations, type ProjectInvitation } from '../api/projects';
+import { useInfiniteQuery, useQuery } from '@tanstack/react-query';
+import { getDashboard, getUpcomingTasks, getUserInvitations, type Dashboard, type DashboardDueTask, type ProjectInvitation } from '../api/projects';
 import { motion } from 'framer-motion';
-import { Mail, Users, Clock } from 'lucide-react';
+import { Mail, Users, Clock, CalendarClock, Activity } from 'lucide-react';
+
+function DueTaskList({ title, tasks, badge }: { title: string; tasks: DashboardDueTask[]; badge: string }) {
+  const navigate = useNavigate();
+  return (
+    <div>
+      <div className='fw-bold text-dark mb-2'>{title}</div>
+      {tasks.length === 0 && <small className='text-muted'>Nothing here.</small>}
+      <div className='list-group'>
+        {tasks.map((task) => (
+          <div
+            key={task.id}
+            className='list-group-item d-flex justify-content-between align-items-center border-0 bg-light mb-2 rounded'
+            style={{cursor: 'pointer'}}
+            onClick={() => navigate(`/projects/${task.projectId}`)}
+          >
+            <div>
+              <div className='text-dark'>{task.name}</div>
+              <small className='text-muted'>{task.projectName}</small>
+            </div>
+            <span className={`badge ${badge}`}>{task.dueDate}</span>
+          </div>
+        ))}
+      </div>
+    </div>
+  );
+}
 
 export default function DashboardPage() {
   const { user } = useAuth();
@@ -16,8 +42,21 @@ export default function DashboardPage() {
     queryFn: getUserInvitations,
   });
 
+  const { data: dashboard } = useQuery<Dashboard>({
+    queryKey: ["dashboard"],
+    queryFn: getDashboard,
+  });
+
   const pendingInvitations = invitations?.filter(inv => inv.status === 'PENDING') || [];
 
+  const upcoming = useInfiniteQuery({
+    queryKey: ["upcoming-tasks"],
+    queryFn: ({ pageParam }) => getUpcomingTasks(pageParam),
+    initialPageParam: null as string | null,
+    getNextPageParam: (lastPage) => lastPage.nextCursor,
+  });
+  const upcomingTasks = upcoming.data?.pages.flatMap(page => page.items) ?? [];
+
   return (
     <div className='min-h-screen' style={{background: '#f8f9fa'}}>
       <Navbar />
@@ -38,6 +77,65 @@ export default function DashboardPage() {
           </MDBCol>
         </MDBRow>
 
+        {/* Summary across all projects */}
+        {dashboard && (
+          <MDBRow className='mt-4'>
+            {[
+              { label: 'Projects owned', value: dashboard.ownedProjects },
+              { label: 'Shared with you', value: dashboard.sharedProjects },
+              { label: 'Overdue tasks', value: dashboard.overdueTasks },
+              { label: 'Due this week', value: dashboard.tasksDueThisWeek },
+            ].map((stat) => (
+              <MDBCol md={3} key={stat.label} className='mb-3 mb-md-0'>
+                <MDBCard className='shadow-sm border-0 h-100' style={{borderRadius: '8px'}}>
+                  <MDBCardBody className='p-4'>
+                    <div className='h2 mb-1 text-dark'>{stat.value}</div>
+                    <small className='text-muted'>{stat.label}</small>
+                  </MDBCardBody>
+                </MDBCard>
+              </MDBCol>
+            ))}
+          </MDBRow>
+        )}
+
+        {dashboard && (dashboard.overdue.length > 0 || dashboard.dueThisWeek.length > 0 || dashboard.recentActivity.length > 0) && (
+          <MDBRow className='mt-4'>
+            <MDBCol md={6} className='mb-3 mb-md-0'>
+              <MDBCard className='shadow-sm border-0 h-100' style={{borderRadius: '8px'}}>
+                <MDBCardBody className='p-4'>
+                  <DueTaskList title='Overdue' tasks={dashboard.overdue} badge='bg-danger' />
+                  <div className='mt-3'>
+                    <DueTaskList title='Due this week' tasks={dashboard.dueThisWeek} badge='bg-primary' />
+                  </div>
+                </MDBCardBody>
+              </MDBCard>
+            </MDBCol>
+            <MDBCol md={6}>
+              <MDBCard className='shadow-sm border-0 h-100' style={{borderRadius: '8px'}}>
+                <MDBCardBody className='p-4'>
+                  <div className='d-flex align-items-center mb-3'>
+                    <Activity size={24} className='text-success me-2' />
+                    <MDBCardTitle className='h4 mb-0 text-dark'>Recent Activity</MDBCardTitle>
+                  </div>
+                  {dashboard.recentActivity.length === 0 && <small className='text-muted'>No recent activity.</small>}
+                  <ul className='list-unstyled mb-0'>
+                    {dashboard.recentActivity.map((activity) => (
+                      <li key={activity.id} className='mb-2'>
+                        <div className='text-dark'>
+                          <strong>{activity.username}</strong> {activity.description || activity.action}
+                        </div>
+                        <small className='text-muted'>
+                          {activity.projectName} • {new Date(activity.timestamp).toLocaleString()}
+                        </small>
+                      </li>
+                    ))}
+                  </ul>
+                </MDBCardBody>
+              </MDBCard>
+            </MDBCol>
+          </MDBRow>
+        )}
+
         {/* Pending Invitations */}
         {pendingInvitations.length > 0 && (
           <MDBRow className='mt-4'>
@@ -89,6 +187,50 @@ export default function DashboardPage() {
           </MDBRow>
         )}
         
+        {/* Upcoming work across all projects */}
+        {upcomingTasks.length > 0 && (
+          <MDBRow className='mt-4'>
+            <MDBCol md={12}>
+              <MDBCard className='shadow-sm border-0' style={{borderRadius: '8px'}}>
+                <MDBCardBody className='p-4'>
+                  <div className='d-flex align-items-center mb-3'>
+                    <CalendarClock size={24} className='text-primary me-2' />
+                    <MDBCardTitle className='h4 mb-0 text-dark'>Upcoming Work</MDBCardTitle>
+                  </div>
+                  <div className='list-group'>
+                    {upcomingTasks.map((task) => (
+                      <div
+                        key={task.id}
+                        className='list-group-item d-flex justify-content-between align-items-center border-0 bg-light mb-2 rounded'
+                        style={{cursor: 'pointer'}}
+                        onClick={() => navigate(`/projects/${task.projectId}`)}
+                      >
+                        <div>
+                          <div className='fw-bold text-dark'>{task.name}</div>
+                          <small className='text-muted'>
+                            {task.projectName} • {task.listName}
+                          </small>
+                        </div>
+                        <span className='badge bg-primary'>{task.dueDate}</span>
+                      </div>
+                    ))}
+                  </div>
+                  {upcoming.hasNextPage && (
+                    <MDBBtn
+                      size='sm'
+                      color='light'
+                      disabled={upcoming.isFetchingNextPage}
+                      onClick={() => upcoming.fetchNextPage()}
+                    >
+                      {upcoming.isFetchingNextPage ? 'Loading…' : 'Show more'}
+                    </MDBBtn>
+                  )}
+                </MDBCardBody>
+              </MDBCard>
+            </MDBCol>
+          </MDBRow>
+        )}
+
         <MDBRow className='mt-4'>
           <MDBCol md={12}>
             <MDBCard className='shadow-sm border-0' style={{borderRadius: '8px'}}>
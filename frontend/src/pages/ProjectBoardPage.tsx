@@ -10,14 +10,18 @@ import {
   MDBInput,
   MDBBtn,
 } from "mdb-react-ui-kit";
-import { useState } from "react";
+import { useEffect, useState } from "react";
 import { motion } from "framer-motion";
 import {
   getProject,
   getLists,
+  getBoardBootstrap,
+  BOOTSTRAP_FRESH_MS,
   createList,
   createTask,
   updateList,
+  moveList,
+  moveTask,
   deleteList,
   updateTask,
   deleteTask,
@@ -27,6 +31,7 @@ import {
   getProjectInvitations,
   inviteUserToProject,
   removeCollaborator,
+  subscribeToBoardEvents,
   type Project,
   type BoardList,
   type Task,
@@ -134,15 +139,19 @@ function TaskSection({
   // Update task and synchronize dependency relationships
   const updateTaskMutation = useMutation({
     mutationFn: (task: Task) =>
-      updateTask(task.id, {
-        id: task.id,
-        name: task.name,
-        description: task.description ?? undefined,
-        startDate: task.startDate ?? undefined,
-        dueDate: task.dueDate ?? undefined,
-        listId: list.id,
-        position: task.position ?? undefined,
-      }),
+      updateTask(
+        task.id,
+        {
+          id: task.id,
+          name: task.name,
+          description: task.description ?? undefined,
+          startDate: task.startDate ?? undefined,
+          dueDate: task.dueDate ?? undefined,
+          listId: list.id,
+          position: task.position ?? undefined,
+        },
+        list.tasks.find((t) => t.id === task.id)
+      ),
 
     onSuccess: async (updated) => {
       // Refresh tasks
@@ -482,6 +491,7 @@ function CollaborationPanel({ projectId }: { projectId: number }) {
     queryKey: ["collaborators", projectId],
     queryFn: () => getProjectCollaborators(projectId),
     enabled: showPanel,
+    staleTime: BOOTSTRAP_FRESH_MS,
   });
 
   // Determine user's role: admin can manage, owners (not in collaborators list) can manage
@@ -499,6 +509,7 @@ function CollaborationPanel({ projectId }: { projectId: number }) {
     queryKey: ["invitations", projectId],
     queryFn: () => getProjectInvitations(projectId),
     enabled: showPanel,
+    staleTime: BOOTSTRAP_FRESH_MS,
   });
 
   const inviteMutation = useMutation({
@@ -799,24 +810,72 @@ export default function ProjectBoardPage() {
     useSensor(PointerSensor, { activationConstraint: { distance: 8 } })
   );
 
+  // One round trip on open; its parts seed the caches that the board and its panels read from.
+  // Dropped on leaving the page, so every visit starts with a fresh bootstrap; if it fails, the
+  // queries below load their parts one by one as before.
+  const { isFetched: bootstrapDone } = useQuery({
+    queryKey: ["board-bootstrap", projectId],
+    queryFn: async () => {
+      const boot = await getBoardBootstrap(projectId);
+      queryClient.setQueryData(["project", projectId], boot.project);
+      queryClient.setQueryData(["lists", projectId], boot.lists);
+      queryClient.setQueryData(["collaborators", projectId], boot.collaborators);
+      queryClient.setQueryData(["invitations", projectId], boot.invitations);
+      queryClient.setQueryData(["project-activities", projectId], boot.activities);
+      return true;
+    },
+    enabled: Number.isFinite(projectId),
+    staleTime: Infinity,
+    gcTime: 0,
+    retry: false,
+  });
+
   const { data: project } = useQuery<Project>({
     queryKey: ["project", projectId],
     queryFn: () => getProject(projectId),
-    enabled: Number.isFinite(projectId),
+    enabled: Number.isFinite(projectId) && bootstrapDone,
+    staleTime: BOOTSTRAP_FRESH_MS,
   });
 
   const { data: lists } = useQuery<BoardList[]>({
     queryKey: ["lists", projectId],
     queryFn: () => getLists(projectId),
-    enabled: Number.isFinite(projectId),
+    enabled: Number.isFinite(projectId) && bootstrapDone,
+    staleTime: BOOTSTRAP_FRESH_MS,
   });
 
+  const { user } = useAuth();
+
+  // Refresh the board when collaborators change it; own changes are already refetched by the mutations
+  useEffect(() => {
+    if (!Number.isFinite(projectId)) return;
+    let pending: ReturnType<typeof setTimeout> | undefined;
+    const refresh = () => {
+      if (pending) return;
+      pending = setTimeout(() => {
+        pending = undefined;
+        queryClient.invalidateQueries({ queryKey: ["lists", projectId] });
+      }, 250);
+    };
+    const unsubscribe = subscribeToBoardEvents(
+      projectId,
+      (event) => {
+        if (event.actor !== user?.username) refresh();
+      },
+      refresh
+    );
+    return () => {
+      if (pending) clearTimeout(pending);
+      unsubscribe();
+    };
+  }, [projectId, queryClient, user?.username]);
+
   const [view, setView] = useState<"board" | "graph" | "gantt">("board");
   const [editingList, setEditingList] = useState<BoardList | null>(null);
 
   const updateListMutation = useMutation({
     mutationFn: (list: BoardList) =>
-      updateList(list.id, list.name, list.position ?? 0),
+      updateList(list.id, list.name, list.position ?? 0, list.version),
     onSuccess: () => {
       queryClient.invalidateQueries({ queryKey: ["lists", projectId] });
       setEditingList(null);
@@ -829,10 +888,10 @@ export default function ProjectBoardPage() {
       queryClient.invalidateQueries({ queryKey: ["lists", projectId] }),
   });
 
-  const updateTaskMutation = useMutation({
-    mutationFn: (payload: { id: number; data: Partial<Task> }) =>
-      updateTask(payload.id, payload.data),
-    onSuccess: () => {
+  const reorderMutation = useMutation({
+    mutationFn: (request: () => Promise<unknown>) => request(),
+    // Refetch on failure too, so a rejected order does not linger in the cache
+    onSettled: () => {
       queryClient.invalidateQueries({ queryKey: ["lists", projectId] });
     },
   });
@@ -859,9 +918,8 @@ export default function ProjectBoardPage() {
         position: i,
       }));
       queryClient.setQueryData<BoardList[]>(["lists", projectId], reordered);
-      reordered.forEach((list, index) => {
-        updateList(list.id, list.name, index);
-      });
+      const previous = newIndex > 0 ? reordered[newIndex - 1].id : null;
+      reorderMutation.mutate(() => moveList(activeListId, previous));
       return;
     }
 
@@ -914,20 +972,11 @@ export default function ProjectBoardPage() {
       );
       queryClient.setQueryData<BoardList[]>(["lists", projectId], optimistic);
 
-      reordered.forEach((t, i) => {
-        updateTaskMutation.mutate({
-          id: t.id,
-          data: {
-            id: t.id,
-            name: t.name,
-            description: t.description,
-            startDate: t.startDate,
-            dueDate: t.dueDate,
-            listId: sourceList.id,
-            position: i,
-          },
-        });
-      });
+      const at = reordered.findIndex((t) => t.id === activeTaskId);
+      const previous = at > 0 ? reordered[at - 1].id : null;
+      reorderMutation.mutate(() =>
+        moveTask(activeTaskId, sourceList.id, previous)
+      );
       return;
     }
 
@@ -947,34 +996,10 @@ export default function ProjectBoardPage() {
     });
     queryClient.setQueryData<BoardList[]>(["lists", projectId], optimistic);
 
-    sourceTasks.forEach((t, i) => {
-      updateTaskMutation.mutate({
-        id: t.id,
-        data: {
-          id: t.id,
-          name: t.name,
-          description: t.description,
-          startDate: t.startDate,
-          dueDate: t.dueDate,
-          listId: sourceList.id,
-          position: i,
-        },
-      });
-    });
-    targetTasks.forEach((t, i) => {
-      updateTaskMutation.mutate({
-        id: t.id,
-        data: {
-          id: t.id,
-          name: t.name,
-          description: t.description,
-          startDate: t.startDate,
-          dueDate: t.dueDate,
-          listId: targetList!.id,
-          position: i,
-        },
-      });
-    });
+    const previous = insertAt > 0 ? targetTasks[insertAt - 1].id : null;
+    reorderMutation.mutate(() =>
+      moveTask(activeTaskId, targetList!.id, previous)
+    );
   };
 
   if (!Number.isFinite(projectId)) return <div>Invalid project id</div>;
@@ -1121,7 +1146,7 @@ export default function ProjectBoardPage() {
           <GraphView tasks={lists.flatMap((l) => l.tasks)} />
         )}
         {view === "gantt" && (
-          <GanttView tasks={lists.flatMap((l) => l.tasks)} />
+          <GanttView projectId={projectId} tasks={lists.flatMap((l) => l.tasks)} />
         )}
       </MDBContainer>
     </div>
@@ -0,0 +1,36 @@
+#!/usr/bin/env bash
+# Compares the backend on platform threads with the virtual-threads profile at 1k-10k clients.
+# Needs a Java 21 runtime, PostgreSQL with generated data, and both jars built:
+#   mvn -f backend install -DskipTests && mvn -f loadtest package
+# Usage: loadtest/compare-threading.sh [extra sweep options, e.g. --duration-seconds=60]
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+BACKEND_JAR=$(ls backend/target/demo-*-exec.jar)
+BASE_URL=${BASE_URL:-http://localhost:8081}
+RESULTS=${RESULTS:-loadtest/target/threading}
+mkdir -p "$RESULTS"
+
+run_mode() {
+    local label=$1 profiles=$2
+    echo "== $label"
+    java -jar "$BACKEND_JAR" --spring.profiles.active="$profiles" > "$RESULTS/$label-backend.log" 2>&1 &
+    local pid=$!
+    trap 'kill $pid 2>/dev/null || true' EXIT
+    until curl -sf "$BASE_URL/actuator/health" > /dev/null; do
+        kill -0 $pid 2>/dev/null || { echo "backend exited, see $RESULTS/$label-backend.log"; exit 1; }
+        sleep 1
+    done
+    java -Xss256k -jar loadtest/target/loadtest.jar sweep --base-url="$BASE_URL" --label="$label" \
+        --clients=1000,2500,5000,10000 --ramp-up-seconds=30 --warmup-seconds=30 "$@" | tee "$RESULTS/$label.txt"
+    curl -s "$BASE_URL/actuator/prometheus" -o "$RESULTS/$label-metrics.txt" || true
+    kill $pid && wait $pid 2>/dev/null || true
+    trap - EXIT
+}
+
+run_mode platform default "$@"
+run_mode virtual virtual-threads "$@"
+
+echo
+echo "Summary"
+grep -h -E '^(platform|virtual) ' "$RESULTS/platform.txt" "$RESULTS/virtual.txt"
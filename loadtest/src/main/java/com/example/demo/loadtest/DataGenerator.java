@@ -0,0 +1,371 @@
+package com.example.demo.loadtest;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import com.example.demo.entity.ProjectActivity.ActivityType;
+import com.example.demo.entity.Role;
+import com.example.demo.util.FractionalIndex;
+
+/**
+ * Fills the planner database with synthetic users, projects, lists, tasks, DAG-shaped
+ * dependencies, collaborators and activity history, using batched JDBC inserts.
+ *
+ * Ids come from the same sequences the application uses (whole allocation blocks for the pooled
+ * ones), so the application can keep running while data is generated. The schema must already
+ * exist: start the backend once first. Users are named {prefix}_u{n} and share one password,
+ * which is what LoadDriver logs in with.
+ */
+final class DataGenerator {
+
+    private static final int SEQUENCE_BLOCK = 50;
+
+    private static final ActivityType[] ACTIVITY_MIX = {
+            ActivityType.TASK_UPDATED, ActivityType.TASK_UPDATED, ActivityType.TASK_UPDATED,
+            ActivityType.TASK_MOVED, ActivityType.TASK_MOVED, ActivityType.TASK_MOVED,
+            ActivityType.TASK_CREATED, ActivityType.TASK_CREATED,
+            ActivityType.DEPENDENCY_ADDED, ActivityType.DEPENDENCY_REMOVED, ActivityType.TASK_DELETED
+    };
+
+    private final String jdbcUrl;
+    private final String dbUser;
+    private final String dbPassword;
+    private final String prefix;
+    private final String password;
+    private final int users;
+    private final int projects;
+    private final int listsPerProject;
+    private final int tasksPerProject;
+    private final int dependenciesPerTask;
+    private final int collaboratorsPerProject;
+    private final int activitiesPerProject;
+    private final int activityDays;
+    private final int batchSize;
+    private final Random random;
+
+    DataGenerator(Options options) {
+        this.jdbcUrl = options.string("jdbc-url", "jdbc:postgresql://localhost:5432/planner?reWriteBatchedInserts=true");
+        this.dbUser = options.string("db-user", "postgres");
+        this.dbPassword = options.string("db-password", System.getenv().getOrDefault("PGPASSWORD", ""));
+        this.prefix = options.string("prefix", "lt");
+        this.password = options.string("password", "loadtest");
+        this.users = options.integer("users", 1000);
+        this.projects = options.integer("projects", 200);
+        this.listsPerProject = options.integer("lists-per-project", 6);
+        this.tasksPerProject = options.integer("tasks-per-project", 300);
+        this.dependenciesPerTask = options.integer("dependencies-per-task", 2);
+        this.collaboratorsPerProject = options.integer("collaborators-per-project", 4);
+        this.activitiesPerProject = options.integer("activities-per-project", 2000);
+        this.activityDays = options.integer("activity-days", 60);
+        this.batchSize = options.integer("batch-size", 1000);
+        this.random = new Random(options.number("seed", 42));
+    }
+
+    void generate() throws SQLException {
+        long start = System.nanoTime();
+        try (Connection con = DriverManager.getConnection(jdbcUrl, dbUser, dbPassword)) {
+            checkSchema(con);
+            con.setAutoCommit(false);
+
+            long[] userIds = insertUsers(con);
+            con.commit();
+            System.out.printf("Inserted %d users (%s_u0 .. %s_u%d, password '%s')%n",
+                    users, prefix, prefix, users - 1, password);
+
+            long[] totals = new long[4];
+            for (int p = 0; p < projects; p++) {
+                insertProject(con, p, userIds, totals);
+                con.commit();
+                if ((p + 1) % 10 == 0 || p + 1 == projects) {
+                    System.out.printf("Projects %d/%d: %d tasks, %d dependencies, %d activities%n",
+                            p + 1, projects, totals[0], totals[1], totals[2]);
+                }
+            }
+            System.out.printf("Done in %.1f s: %d users, %d projects, %d tasks, %d dependencies, %d collaborators, %d activities%n",
+                    (System.nanoTime() - start) / 1e9, users, projects, totals[0], totals[1], totals[3], totals[2]);
+        }
+    }
+
+    private void checkSchema(Connection con) throws SQLException {
+        try (Statement st = con.createStatement();
+             ResultSet rs = st.executeQuery("SELECT to_regclass('task') IS NOT NULL AND to_regclass('project_activity') IS NOT NULL")) {
+            rs.next();
+            if (!rs.getBoolean(1)) {
+                throw new IllegalStateException("Schema not found; start the backend once so it creates the tables");
+            }
+        }
+    }
+
+    private long[] insertUsers(Connection con) throws SQLException {
+        long[] ids = identityIds(con, "app_user", users);
+        // BCrypt is slow on purpose, so every generated user shares one hash
+        String hash = new BCryptPasswordEncoder().encode(password);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        try (PreparedStatement ps = con.prepareStatement(
+                "INSERT INTO app_user (id, username, email, password_hash, is_admin, created_at, email_verified) "
+                        + "VALUES (?, ?, ?, ?, false, ?, true)")) {
+            Batch batch = new Batch(ps);
+            for (int i = 0; i < users; i++) {
+                ps.setLong(1, ids[i]);
+                ps.setString(2, prefix + "_u" + i);
+                ps.setString(3, prefix + "_u" + i + "@loadtest.local");
+                ps.setString(4, hash);
+                ps.setTimestamp(5, now);
+                batch.add();
+            }
+            batch.flush();
+        }
+        return ids;
+    }
+
+    /**
+     * One project with its lists, tasks, dependencies, collaborators, activity history and rollups.
+     */
+    private void insertProject(Connection con, int index, long[] userIds, long[] totals) throws SQLException {
+        LocalDateTime now = LocalDateTime.now();
+        long projectId = identityIds(con, "project", 1)[0];
+        long ownerId = userIds[random.nextInt(userIds.length)];
+        try (PreparedStatement ps = con.prepareStatement(
+                "INSERT INTO project (id, name, description, owner_id, created_at) VALUES (?, ?, ?, ?, ?)")) {
+            ps.setLong(1, projectId);
+            ps.setString(2, prefix + " project " + index);
+            ps.setString(3, "Synthetic project with " + tasksPerProject + " tasks");
+            ps.setLong(4, ownerId);
+            ps.setTimestamp(5, Timestamp.valueOf(now.minusDays(activityDays)));
+            ps.executeUpdate();
+        }
+
+        // Lists
+        long[] listIds = pooledIds(con, "board_list_seq", listsPerProject);
+        String[] listKeys = FractionalIndex.initialKeys(listsPerProject);
+        try (PreparedStatement ps = con.prepareStatement(
+                "INSERT INTO board_list (id, name, position, order_key, created_at, version, project_id) "
+                        + "VALUES (?, ?, ?, ?, ?, 0, ?)")) {
+            Batch batch = new Batch(ps);
+            for (int l = 0; l < listsPerProject; l++) {
+                ps.setLong(1, listIds[l]);
+                ps.setString(2, "List " + (l + 1));
+                ps.setInt(3, l);
+                ps.setString(4, listKeys[l]);
+                ps.setTimestamp(5, Timestamp.valueOf(now.minusDays(activityDays)));
+                ps.setLong(6, projectId);
+                batch.add();
+            }
+            batch.flush();
+        }
+
+        // Tasks, spread evenly over the lists
+        long[] taskIds = pooledIds(con, "task_seq", tasksPerProject);
+        int perList = (tasksPerProject + listsPerProject - 1) / Math.max(listsPerProject, 1);
+        String[] taskKeys = FractionalIndex.initialKeys(Math.max(perList, 1));
+        try (PreparedStatement ps = con.prepareStatement(
+                "INSERT INTO task (id, name, description, start_date, due_date, created_at, position, order_key, version, project_id, list_id) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, 0, ?, ?)")) {
+            Batch batch = new Batch(ps);
+            LocalDate today = now.toLocalDate();
+            for (int t = 0; t < tasksPerProject; t++) {
+                LocalDate startDate = today.minusDays(30).plusDays(random.nextInt(90));
+                ps.setLong(1, taskIds[t]);
+                ps.setString(2, "Task " + (t + 1));
+                ps.setString(3, "Synthetic task " + (t + 1) + " of project " + index);
+                ps.setObject(4, startDate, Types.DATE);
+                ps.setObject(5, startDate.plusDays(1 + random.nextInt(20)), Types.DATE);
+                ps.setTimestamp(6, Timestamp.valueOf(now.minusDays(random.nextInt(activityDays + 1))));
+                ps.setInt(7, t / listsPerProject);
+                ps.setString(8, taskKeys[t / listsPerProject]);
+                ps.setLong(9, projectId);
+                ps.setLong(10, listIds[t % listsPerProject]);
+                batch.add();
+            }
+            batch.flush();
+        }
+        totals[0] += tasksPerProject;
+
+        // Dependencies: each task depends on earlier tasks only, so the graph is a DAG; picking
+        // mostly recent predecessors gives the long chains and local clusters real plans have
+        List<long[]> edges = new ArrayList<>();
+        for (int t = 1; t < tasksPerProject; t++) {
+            int count = random.nextInt(2 * dependenciesPerTask + 1);
+            Set<Integer> picked = new HashSet<>();
+            for (int d = 0; d < count && picked.size() < t; d++) {
+                int window = Math.min(t, 20);
+                int target = random.nextInt(4) == 0 ? random.nextInt(t) : t - 1 - random.nextInt(window);
+                if (picked.add(target)) {
+                    edges.add(new long[] { taskIds[t], taskIds[target] });
+                }
+            }
+        }
+        long[] dependencyIds = pooledIds(con, "dependency_seq", edges.size());
+        try (PreparedStatement ps = con.prepareStatement(
+                "INSERT INTO dependency (id, task_id, depends_on_id) VALUES (?, ?, ?)")) {
+            Batch batch = new Batch(ps);
+            for (int e = 0; e < edges.size(); e++) {
+                ps.setLong(1, dependencyIds[e]);
+                ps.setLong(2, edges.get(e)[0]);
+                ps.setLong(3, edges.get(e)[1]);
+                batch.add();
+            }
+            batch.flush();
+        }
+        totals[1] += edges.size();
+
+        // Collaborators
+        List<Long> members = new ArrayList<>();
+        members.add(ownerId);
+        Set<Long> chosen = new HashSet<>(members);
+        int wanted = Math.min(collaboratorsPerProject, userIds.length - 1);
+        while (chosen.size() < wanted + 1) {
+            long userId = userIds[random.nextInt(userIds.length)];
+            if (chosen.add(userId)) {
+                members.add(userId);
+            }
+        }
+        Role[] roles = Role.values();
+        try (PreparedStatement ps = con.prepareStatement(
+                "INSERT INTO project_collaborator (project_id, user_id, invited_by, role, joined_at) VALUES (?, ?, ?, ?, ?)")) {
+            Batch batch = new Batch(ps);
+            for (int m = 1; m < members.size(); m++) {
+                ps.setLong(1, projectId);
+                ps.setLong(2, members.get(m));
+                ps.setLong(3, ownerId);
+                ps.setString(4, roles[random.nextInt(roles.length)].name());
+                ps.setTimestamp(5, Timestamp.valueOf(now.minusDays(random.nextInt(activityDays + 1))));
+                batch.add();
+            }
+            batch.flush();
+        }
+        totals[3] += members.size() - 1;
+
+        // Activity history over the last activityDays, then the per-day rollups built from it
+        try (PreparedStatement ps = con.prepareStatement(
+                "INSERT INTO project_activity (project_id, user_id, activity_type, entity_type, entity_id, entity_name, action, description, timestamp) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)")) {
+            Batch batch = new Batch(ps);
+            long windowSeconds = activityDays * 86_400L;
+            for (int a = 0; a < activitiesPerProject; a++) {
+                ActivityType type = ACTIVITY_MIX[random.nextInt(ACTIVITY_MIX.length)];
+                int task = random.nextInt(tasksPerProject);
+                String taskName = "Task " + (task + 1);
+                boolean dependency = type == ActivityType.DEPENDENCY_ADDED || type == ActivityType.DEPENDENCY_REMOVED;
+                String action = switch (type) {
+                    case TASK_CREATED -> "CREATED";
+                    case TASK_DELETED -> "DELETED";
+                    case TASK_MOVED -> "MOVED";
+                    case DEPENDENCY_ADDED -> "ADDED";
+                    case DEPENDENCY_REMOVED -> "REMOVED";
+                    default -> "UPDATED";
+                };
+                ps.setLong(1, projectId);
+                ps.setLong(2, members.get(random.nextInt(members.size())));
+                ps.setString(3, type.name());
+                ps.setString(4, dependency ? "DEPENDENCY" : "TASK");
+                if (dependency) {
+                    ps.setNull(5, Types.BIGINT);
+                } else {
+                    ps.setLong(5, taskIds[task]);
+                }
+                ps.setString(6, taskName);
+                ps.setString(7, action);
+                ps.setString(8, action.charAt(0) + action.substring(1).toLowerCase() + " task: " + taskName);
+                ps.setTimestamp(9, Timestamp.valueOf(now.minusSeconds((long) (random.nextDouble() * windowSeconds))));
+                batch.add();
+            }
+            batch.flush();
+        }
+        try (PreparedStatement ps = con.prepareStatement(
+                "INSERT INTO project_activity_rollup (project_id, user_id, activity_type, day, activity_count) "
+                        + "SELECT project_id, user_id, activity_type, CAST(\"timestamp\" AS date), COUNT(*) "
+                        + "FROM project_activity WHERE project_id = ? "
+                        + "GROUP BY project_id, user_id, activity_type, CAST(\"timestamp\" AS date) "
+                        + "ON CONFLICT (project_id, user_id, activity_type, day) "
+                        + "DO UPDATE SET activity_count = EXCLUDED.activity_count")) {
+            ps.setLong(1, projectId);
+            ps.executeUpdate();
+        }
+        totals[2] += activitiesPerProject;
+    }
+
+    /**
+     * Reserves {@code count} ids from the sequence behind an identity column.
+     */
+    private static long[] identityIds(Connection con, String table, int count) throws SQLException {
+        long[] ids = new long[count];
+        try (PreparedStatement ps = con.prepareStatement(
+                "SELECT nextval(pg_get_serial_sequence(?, 'id')) FROM generate_series(1, ?)")) {
+            ps.setString(1, table);
+            ps.setInt(2, count);
+            try (ResultSet rs = ps.executeQuery()) {
+                for (int i = 0; rs.next(); i++) {
+                    ids[i] = rs.getLong(1);
+                }
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Reserves {@code count} ids from a pooled sequence. Hibernate treats each value v as the end of
+     * the block (v - 49 .. v], so whole blocks are taken and never overlap the application's.
+     */
+    private static long[] pooledIds(Connection con, String sequence, int count) throws SQLException {
+        long[] ids = new long[count];
+        int i = 0;
+        try (PreparedStatement ps = con.prepareStatement("SELECT nextval(?) FROM generate_series(1, ?)")) {
+            while (i < count) {
+                ps.setString(1, sequence);
+                ps.setInt(2, (count - i + SEQUENCE_BLOCK - 1) / SEQUENCE_BLOCK);
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        long end = rs.getLong(1);
+                        // A fresh sequence starts at 1, whose block would reach below 1
+                        for (long id = end - SEQUENCE_BLOCK + 1; id <= end && id > 0 && i < count; id++) {
+                            ids[i++] = id;
+                        }
+                    }
+                }
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Executes a prepared statement's batch every {@code batchSize} rows.
+     */
+    private final class Batch {
+        private final PreparedStatement ps;
+        private int pending;
+
+        private Batch(PreparedStatement ps) {
+            this.ps = ps;
+        }
+
+        void add() throws SQLException {
+            ps.addBatch();
+            if (++pending >= batchSize) {
+                flush();
+            }
+        }
+
+        void flush() throws SQLException {
+            if (pending > 0) {
+                ps.executeBatch();
+                pending = 0;
+            }
+        }
+    }
+}
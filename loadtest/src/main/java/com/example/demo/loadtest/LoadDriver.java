@@ -0,0 +1,318 @@
+package com.example.demo.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Replays a board-centric request mix against a running backend and reports throughput and
+ * latency percentiles per endpoint.
+ *
+ * Each virtual user logs in as a random generated user and loops over: board reads (40%), list
+ * reads (10%), task drags (20%), dependency edits (15%) and activity browsing (15%), with a short
+ * think time between requests. New dependencies always point from a later task to an earlier one,
+ * matching the generated DAGs, so they are accepted unless the edge already exists.
+ */
+final class LoadDriver {
+
+    private final ObjectMapper json = new ObjectMapper();
+    private final HttpClient http;
+    private final String baseUrl;
+    private final int virtualUsers;
+    private final long durationMs;
+    private final long warmupMs;
+    private final String userPrefix;
+    private final int users;
+    private final String password;
+    private final long thinkTimeMs;
+    private final long rampUpMs;
+    private final long seed;
+
+    private final Map<String, EndpointStats> stats = new ConcurrentHashMap<>();
+    private volatile boolean measuring;
+
+    LoadDriver(Options options) {
+        this.baseUrl = options.string("base-url", "http://localhost:8081");
+        this.virtualUsers = options.integer("virtual-users", 50);
+        this.durationMs = options.number("duration-seconds", 120) * 1000;
+        this.warmupMs = options.number("warmup-seconds", 15) * 1000;
+        this.userPrefix = options.string("user-prefix", "lt");
+        this.users = options.integer("users", 1000);
+        this.password = options.string("password", "loadtest");
+        this.thinkTimeMs = options.number("think-time-ms", 200);
+        // Spreads the initial logins so thousands of users do not all hash passwords in the same second
+        this.rampUpMs = options.number("ramp-up-seconds", 0) * 1000;
+        this.seed = options.number("seed", 1);
+        this.http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    Summary run() throws InterruptedException {
+        System.out.printf("Driving %s with %d virtual users for %d s (+%d s warmup)%n",
+                baseUrl, virtualUsers, durationMs / 1000, warmupMs / 1000);
+        long start = System.currentTimeMillis();
+        long measureFrom = start + warmupMs;
+        long end = measureFrom + durationMs;
+
+        CountDownLatch done = new CountDownLatch(virtualUsers);
+        for (int v = 0; v < virtualUsers; v++) {
+            Random random = new Random(seed * 1_000_003 + v);
+            long delayMs = rampUpMs * v / virtualUsers;
+            Thread thread = new Thread(null, () -> {
+                try {
+                    Thread.sleep(delayMs);
+                    new VirtualUser(random).loop(end);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            }, "vu-" + v, 256 * 1024);
+            // Platform threads so the driver runs on Java 17; small stacks keep 10k users affordable
+            thread.setDaemon(true);
+
+            thread.start();
+        }
+
+        Thread.sleep(Math.max(0, measureFrom - System.currentTimeMillis()));
+        stats.values().forEach(EndpointStats::reset);
+        measuring = true;
+        done.await();
+        return report((System.currentTimeMillis() - measureFrom) / 1000.0);
+    }
+
+    private Summary report(double seconds) {
+        System.out.printf("%n%-22s %9s %9s %8s %10s %10s %10s %10s%n",
+                "endpoint", "requests", "req/s", "errors", "p50 ms", "p95 ms", "p99 ms", "max ms");
+        long total = 0;
+        long errors = 0;
+        Histogram all = new Histogram(3);
+        for (String name : stats.keySet().stream().sorted().toList()) {
+            EndpointStats endpoint = stats.get(name);
+            Histogram histogram = endpoint.recorder.getIntervalHistogram();
+            all.add(histogram);
+            total += histogram.getTotalCount();
+            errors += endpoint.errors.get();
+            print(name, histogram, endpoint.errors.get(), seconds);
+        }
+        print("TOTAL", all, errors, seconds);
+        System.out.printf("%n%d requests in %.0f s, %.1f req/s, %d errors (status >= 500 or I/O failure)%n",
+                total, seconds, total / seconds, errors);
+        return new Summary(virtualUsers, total / seconds, errors, all.getValueAtPercentile(50) / 1000.0,
+                all.getValueAtPercentile(99) / 1000.0);
+    }
+
+    /**
+     * Totals of one run over all endpoints, latencies in milliseconds.
+     */
+    record Summary(int virtualUsers, double requestsPerSecond, long errors, double p50, double p99) {
+    }
+
+    private static void print(String name, Histogram histogram, long errors, double seconds) {
+        System.out.printf("%-22s %9d %9.1f %8d %10.1f %10.1f %10.1f %10.1f%n",
+                name, histogram.getTotalCount(), histogram.getTotalCount() / seconds, errors,
+                histogram.getValueAtPercentile(50) / 1000.0, histogram.getValueAtPercentile(95) / 1000.0,
+                histogram.getValueAtPercentile(99) / 1000.0, histogram.getMaxValue() / 1000.0);
+    }
+
+    private static final class EndpointStats {
+        // Microseconds, up to one minute, three significant digits
+        private final Recorder recorder = new Recorder(60_000_000L, 3);
+        private final AtomicLong errors = new AtomicLong();
+
+        void reset() {
+            recorder.reset();
+            errors.set(0);
+        }
+    }
+
+    private final class VirtualUser {
+
+        private final Random random;
+        private String token;
+        private List<Long> projectIds = List.of();
+        private JsonNode board;
+
+        VirtualUser(Random random) {
+            this.random = random;
+        }
+
+        void loop(long end) {
+            while (System.currentTimeMillis() < end) {
+                try {
+                    if (token == null || projectIds.isEmpty()) {
+                        login();
+                        continue;
+                    }
+                    long projectId = projectIds.get(random.nextInt(projectIds.size()));
+                    int roll = random.nextInt(100);
+                    if (roll < 40 || board == null) {
+                        readBoard(projectId);
+                    } else if (roll < 50) {
+                        readList();
+                    } else if (roll < 70) {
+                        dragTask();
+                    } else if (roll < 85) {
+                        editDependency();
+                    } else {
+                        browseActivity(projectId);
+                    }
+                    if (thinkTimeMs > 0) {
+                        Thread.sleep(thinkTimeMs / 2 + random.nextLong(thinkTimeMs));
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } catch (Exception e) {
+                    // Already counted by send(); start over with a fresh login
+                    token = null;
+                }
+            }
+        }
+
+        private void login() throws Exception {
+            String username = userPrefix + "_u" + random.nextInt(users);
+            HttpResponse<String> response = send("auth.login", HttpRequest.newBuilder(uri("/api/auth/login"))
+                    .header("Content-Type", "application/json")
+                    .POST(body(Map.of("username", username, "password", password))));
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("Login failed for " + username + ": " + response.statusCode());
+            }
+            token = json.readTree(response.body()).get("token").asText();
+            HttpResponse<String> projects = send("projects.list", authorized("/api/projects").GET());
+            List<Long> ids = new ArrayList<>();
+            for (JsonNode project : json.readTree(projects.body())) {
+                ids.add(project.get("id").asLong());
+            }
+            projectIds = ids;
+            board = null;
+        }
+
+        private void readBoard(long projectId) throws Exception {
+            HttpResponse<String> response = send("board.read", authorized("/api/lists/project/" + projectId).GET());
+            if (response.statusCode() == 200) {
+                board = json.readTree(response.body());
+            }
+        }
+
+        private void readList() throws Exception {
+            JsonNode list = randomList();
+            if (list != null) {
+                send("list.tasks", authorized("/api/tasks/list/" + list.get("id").asLong()).GET());
+            }
+        }
+
+        private void dragTask() throws Exception {
+            JsonNode from = randomList();
+            JsonNode to = randomList();
+            if (from == null || to == null || from.get("tasks").isEmpty()) {
+                return;
+            }
+            JsonNode task = from.get("tasks").get(random.nextInt(from.get("tasks").size()));
+            JsonNode targetTasks = to.get("tasks");
+            Long previousId = targetTasks.isEmpty() || random.nextInt(4) == 0
+                    ? null
+                    : targetTasks.get(random.nextInt(targetTasks.size())).get("id").asLong();
+            if (previousId != null && previousId == task.get("id").asLong()) {
+                previousId = null;
+            }
+            Map<String, Object> move = new HashMap<>();
+            move.put("listId", to.get("id").asLong());
+            move.put("previousId", previousId);
+            send("task.move", authorized("/api/tasks/" + task.get("id").asLong() + "/move")
+                    .header("Content-Type", "application/json")
+                    .method("PATCH", body(move)));
+        }
+
+        private void editDependency() throws Exception {
+            List<Long> taskIds = new ArrayList<>();
+            for (JsonNode list : board) {
+                for (JsonNode task : list.get("tasks")) {
+                    taskIds.add(task.get("id").asLong());
+                }
+            }
+            if (taskIds.size() < 2) {
+                return;
+            }
+            long a = taskIds.get(random.nextInt(taskIds.size()));
+            long b = taskIds.get(random.nextInt(taskIds.size()));
+            if (a == b) {
+                return;
+            }
+            long later = Math.max(a, b);
+            long earlier = Math.min(a, b);
+            HttpResponse<String> added = send("dependency.add", authorized("/api/tasks/" + later + "/dependencies")
+                    .header("Content-Type", "application/json")
+                    .POST(body(Map.of("dependsOnId", earlier))));
+            if (added.statusCode() == 200 && random.nextBoolean()) {
+                send("dependency.remove", authorized("/api/tasks/" + later + "/dependencies/" + earlier).DELETE());
+            }
+        }
+
+        private void browseActivity(long projectId) throws Exception {
+            if (random.nextInt(3) == 0) {
+                send("activity.daily", authorized("/api/projects/" + projectId + "/activities/statistics/daily").GET());
+            } else {
+                send("activity.page", authorized("/api/projects/" + projectId
+                        + "/activities/paginated?page=" + random.nextInt(5) + "&size=20").GET());
+            }
+        }
+
+        private JsonNode randomList() {
+            if (board == null || board.isEmpty()) {
+                return null;
+            }
+            return board.get(random.nextInt(board.size()));
+        }
+
+        private HttpRequest.Builder authorized(String path) {
+            return HttpRequest.newBuilder(uri(path))
+                    .header("Authorization", "Bearer " + token)
+                    .timeout(Duration.ofSeconds(30));
+        }
+
+        private HttpResponse<String> send(String endpoint, HttpRequest.Builder request) throws Exception {
+            EndpointStats endpointStats = stats.computeIfAbsent(endpoint, name -> new EndpointStats());
+            long start = System.nanoTime();
+            try {
+                HttpResponse<String> response = http.send(request.build(), HttpResponse.BodyHandlers.ofString());
+                endpointStats.recorder.recordValue(Math.min((System.nanoTime() - start) / 1000, 60_000_000L));
+                if (response.statusCode() >= 500 && measuring) {
+                    endpointStats.errors.incrementAndGet();
+                }
+                return response;
+            } catch (Exception e) {
+                if (measuring) {
+                    endpointStats.errors.incrementAndGet();
+                }
+                throw e;
+            }
+        }
+    }
+
+    private URI uri(String path) {
+        return URI.create(baseUrl + path);
+    }
+
+    private HttpRequest.BodyPublisher body(Object value) throws Exception {
+        return HttpRequest.BodyPublishers.ofString(json.writeValueAsString(value));
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.demo.loadtest;
+
+/**
+ * Entry point: {@code generate} populates the database, {@code run} drives load against the API and
+ * {@code sweep} repeats the run at increasing client counts. Options are passed as --name=value; see DataGenerator and LoadDriver for the defaults.
+ */
+public final class LoadTestMain {
+
+    private LoadTestMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length == 0) {
+            usage();
+            return;
+        }
+        Options options = Options.parse(args, 1);
+        switch (args[0]) {
+            case "generate" -> new DataGenerator(options).generate();
+            case "run" -> new LoadDriver(options).run();
+            case "sweep" -> new Sweep(options).run();
+            default -> usage();
+        }
+    }
+
+    private static void usage() {
+        System.out.println("""
+                Usage:
+                  java -jar loadtest.jar generate [--users=1000 --projects=200 --tasks-per-project=300 ...]
+                  java -jar loadtest.jar run [--base-url=http://localhost:8081 --virtual-users=50 --duration-seconds=120 ...]
+                  java -jar loadtest.jar sweep [--clients=1000,2500,5000,10000 --label=platform ...]
+                """);
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.demo.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Runs the load driver once per client count and prints one comparison row per run. Used to compare
+ * the backend with and without the virtual-threads profile at 1k-10k concurrent clients.
+ */
+final class Sweep {
+
+    private final Options options;
+    private final String label;
+    private final List<Integer> clients = new ArrayList<>();
+    private final long pauseMs;
+
+    Sweep(Options options) {
+        this.options = options;
+        this.label = options.string("label", "run");
+        for (String count : options.string("clients", "1000,2500,5000,10000").split(",")) {
+            clients.add(Integer.parseInt(count.trim()));
+        }
+        this.pauseMs = options.number("pause-seconds", 10) * 1000;
+    }
+
+    void run() throws InterruptedException {
+        List<LoadDriver.Summary> results = new ArrayList<>();
+        for (int count : clients) {
+            results.add(new LoadDriver(options.with("virtual-users", String.valueOf(count))).run());
+            // Let connections close and the backend settle before the next step
+            Thread.sleep(pauseMs);
+        }
+
+        System.out.printf("%n%-12s %8s %10s %8s %10s %10s%n", "label", "clients", "req/s", "errors", "p50 ms", "p99 ms");
+        for (LoadDriver.Summary result : results) {
+            System.out.printf("%-12s %8d %10.1f %8d %10.1f %10.1f%n", label, result.virtualUsers(),
+                    result.requestsPerSecond(), result.errors(), result.p50(), result.p99());
+        }
+    }
+}